@@ -18,21 +18,29 @@ package org.kie.kogito.index.graphql;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
 import org.kie.kogito.index.DataIndexStorageService;
 import org.kie.kogito.index.api.KogitoRuntimeClient;
+import org.kie.kogito.index.graphql.query.GraphQLQueryCursor;
 import org.kie.kogito.index.graphql.query.GraphQLQueryOrderByParser;
 import org.kie.kogito.index.graphql.query.GraphQLQueryParserRegistry;
 import org.kie.kogito.index.json.DataIndexParsingException;
@@ -43,7 +51,9 @@ import org.kie.kogito.index.model.ProcessInstanceState;
 import org.kie.kogito.index.model.UserTaskInstance;
 import org.kie.kogito.index.service.DataIndexServiceException;
 import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.SortDirection;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,22 +61,32 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import graphql.execution.DataFetcherResult;
+import graphql.scalars.ExtendedScalars;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingSelectionSet;
 import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import graphql.schema.SelectedField;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.in;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 
 @ApplicationScoped
 public class GraphQLSchemaManager {
@@ -78,6 +98,17 @@ public class GraphQLSchemaManager {
     private static final String USER_TASK_INSTANCE_UPDATED = "UserTaskInstanceUpdated";
     private static final String JOB_UPDATED = "JobUpdated";
     private static final String JOB_ADDED = "JobAdded";
+    private static final String ID = "id";
+    static final String PARENT_PROCESS_INSTANCE_LOADER = "parentProcessInstance";
+    static final String CHILD_PROCESS_INSTANCES_LOADER = "childProcessInstances";
+    private static final String CURSOR = "cursor";
+    // Attributes read by the fields that are computed from other attributes instead of stored
+    private static final Map<String, List<String>> COMPUTED_FIELD_ATTRIBUTES = Map.of(
+            "serviceUrl", asList("endpoint", "processId"),
+            "parentProcessInstance", singletonList("parentProcessInstanceId"),
+            "childProcessInstances", singletonList(ID));
+    // Fields that hand the complete element to the runtime, so they cannot be resolved from a projection
+    private static final Set<String> UNPROJECTABLE_FIELDS = Set.of("diagram", "nodeDefinitions", "schema");
 
     @Inject
     DataIndexStorageService cacheService;
@@ -111,6 +142,9 @@ public class GraphQLSchemaManager {
                     builder.dataFetcher("ProcessInstances", this::getProcessInstancesValues);
                     builder.dataFetcher("UserTaskInstances", this::getUserTaskInstancesValues);
                     builder.dataFetcher("Jobs", this::getJobsValues);
+                    builder.dataFetcher("ProcessInstancesCount", this::getProcessInstancesCount);
+                    builder.dataFetcher("UserTaskInstancesCount", this::getUserTaskInstancesCount);
+                    builder.dataFetcher("JobsCount", this::getJobsCount);
                     return builder;
                 })
                 .type("Mutation", builder -> {
@@ -138,10 +172,16 @@ public class GraphQLSchemaManager {
                     builder.dataFetcher("serviceUrl", this::getProcessInstanceServiceUrl);
                     builder.dataFetcher("diagram", this::getProcessInstanceDiagram);
                     builder.dataFetcher("nodeDefinitions", this::getProcessNodes);
+                    builder.dataFetcher(CURSOR, this::getCursor);
                     return builder;
                 })
                 .type("UserTaskInstance", builder -> {
                     builder.dataFetcher("schema", this::getUserTaskInstanceSchema);
+                    builder.dataFetcher(CURSOR, this::getCursor);
+                    return builder;
+                })
+                .type("Job", builder -> {
+                    builder.dataFetcher(CURSOR, this::getCursor);
                     return builder;
                 })
                 .type("ProcessInstanceMeta", builder -> {
@@ -162,6 +202,7 @@ public class GraphQLSchemaManager {
                     return builder;
                 })
                 .scalar(qlDateTimeScalarType)
+                .scalar(ExtendedScalars.GraphQLLong)
                 .build();
 
         SchemaGenerator schemaGenerator = new SchemaGenerator();
@@ -266,22 +307,55 @@ public class GraphQLSchemaManager {
         return processId.contains(".") ? processId.substring(processId.lastIndexOf('.') + 1) : processId;
     }
 
-    private Collection<ProcessInstance> getChildProcessInstancesValues(DataFetchingEnvironment env) {
+    /**
+     * Creates the data loaders used to batch the per process instance lookups of a single GraphQL execution, the
+     * registry must not be shared among executions since loaders cache the loaded values.
+     *
+     * @return A new registry holding the data loaders.
+     */
+    public DataLoaderRegistry createDataLoaderRegistry() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        registry.register(PARENT_PROCESS_INSTANCE_LOADER, DataLoader.newDataLoader(this::getProcessInstancesById));
+        registry.register(CHILD_PROCESS_INSTANCES_LOADER, DataLoader.newDataLoader(this::getProcessInstancesByParentId));
+        return registry;
+    }
+
+    private CompletableFuture<List<ProcessInstance>> getChildProcessInstancesValues(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
-        Query<ProcessInstance> query = cacheService.getProcessInstancesCache().query();
-        query.filter(singletonList(equalTo("parentProcessInstanceId", source.getId())));
-        return query.execute();
+        return load(env, CHILD_PROCESS_INSTANCES_LOADER, source.getId(), this::getProcessInstancesByParentId);
     }
 
-    private ProcessInstance getParentProcessInstanceValue(DataFetchingEnvironment env) {
+    private CompletableFuture<ProcessInstance> getParentProcessInstanceValue(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
         if (source.getParentProcessInstanceId() == null) {
-            return null;
+            return CompletableFuture.completedFuture(null);
+        }
+        return load(env, PARENT_PROCESS_INSTANCE_LOADER, source.getParentProcessInstanceId(), this::getProcessInstancesById);
+    }
+
+    private <V> CompletableFuture<V> load(DataFetchingEnvironment env, String loaderName, String key, Function<List<String>, CompletionStage<List<V>>> batchLoader) {
+        DataLoader<String, V> loader = env.getDataLoader(loaderName);
+        if (loader == null) {
+            // Executions without a registry, like the ones not started by the GraphQL route, are not batched
+            return batchLoader.apply(singletonList(key)).thenApply(values -> values.get(0)).toCompletableFuture();
         }
+        return loader.load(key);
+    }
+
+    private CompletionStage<List<ProcessInstance>> getProcessInstancesById(List<String> ids) {
         Query<ProcessInstance> query = cacheService.getProcessInstancesCache().query();
-        query.filter(singletonList(equalTo("id", source.getParentProcessInstanceId())));
-        List<ProcessInstance> execute = query.execute();
-        return execute.size() > 0 ? execute.get(0) : null;
+        query.filter(singletonList(in(ID, ids)));
+        return query.stream().collect().asMap(ProcessInstance::getId)
+                .map(processInstances -> ids.stream().map(processInstances::get).collect(toList()))
+                .subscribeAsCompletionStage();
+    }
+
+    private CompletionStage<List<List<ProcessInstance>>> getProcessInstancesByParentId(List<String> parentIds) {
+        Query<ProcessInstance> query = cacheService.getProcessInstancesCache().query();
+        query.filter(singletonList(in("parentProcessInstanceId", parentIds)));
+        return query.stream().collect().asMultiMap(ProcessInstance::getParentProcessInstanceId)
+                .map(processInstances -> parentIds.stream().<List<ProcessInstance>> map(id -> new ArrayList<>(processInstances.getOrDefault(id, emptyList()))).collect(toList()))
+                .subscribeAsCompletionStage();
     }
 
     private CompletableFuture getUserTaskInstanceSchema(DataFetchingEnvironment env) {
@@ -367,15 +441,31 @@ public class GraphQLSchemaManager {
                 env.getArgument("attachmentId"));
     }
 
-    private Collection<ProcessInstance> getProcessInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getProcessInstancesCache(), env);
+    private DataFetcherResult<List<ProcessInstance>> getProcessInstancesValues(DataFetchingEnvironment env) {
+        return executeCursorQueryForCache(cacheService.getProcessInstancesCache(), env);
     }
 
-    private Collection<Job> getJobsValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getJobsCache(), env);
+    private DataFetcherResult<List<Job>> getJobsValues(DataFetchingEnvironment env) {
+        return executeCursorQueryForCache(cacheService.getJobsCache(), env);
     }
 
-    private <T> List<T> executeAdvancedQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env) {
+    private long getProcessInstancesCount(DataFetchingEnvironment env) {
+        return executeCountQueryForCache(cacheService.getProcessInstancesCache(), env);
+    }
+
+    private long getUserTaskInstancesCount(DataFetchingEnvironment env) {
+        return executeCountQueryForCache(cacheService.getUserTaskInstancesCache(), env);
+    }
+
+    private long getJobsCount(DataFetchingEnvironment env) {
+        return executeCountQueryForCache(cacheService.getJobsCache(), env);
+    }
+
+    private <T> long executeCountQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env) {
+        return createFilteredQueryForCache(cache, env).count();
+    }
+
+    private <T> Query<T> createFilteredQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env) {
         Objects.requireNonNull(cache, "Cache not found");
 
         String inputTypeName = ((GraphQLNamedType) env.getFieldDefinition().getArgument("where").getType()).getName();
@@ -384,9 +474,78 @@ public class GraphQLSchemaManager {
 
         Map<String, Object> where = env.getArgument("where");
         query.filter(GraphQLQueryParserRegistry.get().getParser(inputTypeName).apply(where));
+        return query;
+    }
+
+    private <T> List<T> executeAdvancedQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env) {
+        Query<T> query = createFilteredQueryForCache(cache, env);
 
         query.sort(new GraphQLQueryOrderByParser().apply(env));
 
+        setPagination(query, env);
+
+        return query.execute();
+    }
+
+    private <T> DataFetcherResult<List<T>> executeCursorQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env) {
+        Query<T> query = createFilteredQueryForCache(cache, env);
+
+        List<AttributeSort> sortBy = new ArrayList<>(new GraphQLQueryOrderByParser().apply(env));
+        String after = env.getArgument("after");
+        boolean paging = after != null || env.getSelectionSet().contains(CURSOR);
+        // The id is used as tie breaker so every element has an unambiguous position for the cursor
+        if (paging && sortBy.stream().noneMatch(sort -> ID.equals(sort.getAttribute()))) {
+            sortBy.add(orderBy(ID, SortDirection.ASC));
+        }
+        query.sort(sortBy);
+
+        List<String> projection = getProjection(env.getSelectionSet(), sortBy);
+        if (projection != null) {
+            query.project(projection);
+        }
+
+        setPagination(query, env);
+
+        if (!paging) {
+            return DataFetcherResult.<List<T>> newResult().data(query.execute()).build();
+        }
+        GraphQLQueryCursor cursor = new GraphQLQueryCursor(sortBy, (GraphQLObjectType) GraphQLTypeUtil.unwrapAll(env.getFieldDefinition().getType()));
+        if (after != null) {
+            query.after(cursor.decode(after));
+        }
+        return DataFetcherResult.<List<T>> newResult().data(query.execute()).localContext(cursor).build();
+    }
+
+    /**
+     * Resolves the attributes read by the selected fields, so the storage does not need to load the rest.
+     *
+     * @param selectionSet The fields selected for the query results.
+     * @param sortBy The query sorting, whose attributes are encoded in the cursor.
+     * @return The attributes to be projected, or null if the complete elements are required.
+     */
+    static List<String> getProjection(DataFetchingSelectionSet selectionSet, List<AttributeSort> sortBy) {
+        Set<String> attributes = new LinkedHashSet<>();
+        attributes.add(ID);
+        for (SelectedField field : selectionSet.getImmediateFields()) {
+            String name = field.getName();
+            if (UNPROJECTABLE_FIELDS.contains(name)) {
+                return null;
+            }
+            if (CURSOR.equals(name)) {
+                sortBy.forEach(sort -> attributes.add(sort.getAttribute().split("\\.")[0]));
+            } else if (!name.startsWith("__")) {
+                attributes.addAll(COMPUTED_FIELD_ATTRIBUTES.getOrDefault(name, singletonList(name)));
+            }
+        }
+        return new ArrayList<>(attributes);
+    }
+
+    private String getCursor(DataFetchingEnvironment env) {
+        Object cursor = env.getLocalContext();
+        return cursor instanceof GraphQLQueryCursor ? ((GraphQLQueryCursor) cursor).encode(env.getSource()) : null;
+    }
+
+    private <T> void setPagination(Query<T> query, DataFetchingEnvironment env) {
         Map<String, Integer> pagination = env.getArgument("pagination");
         if (pagination != null) {
             Integer limit = pagination.get("limit");
@@ -398,12 +557,10 @@ public class GraphQLSchemaManager {
                 query.offset(offset);
             }
         }
-
-        return query.execute();
     }
 
-    private Collection<UserTaskInstance> getUserTaskInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getUserTaskInstancesCache(), env);
+    private DataFetcherResult<List<UserTaskInstance>> getUserTaskInstancesValues(DataFetchingEnvironment env) {
+        return executeCursorQueryForCache(cacheService.getUserTaskInstancesCache(), env);
     }
 
     private DataFetcher<Publisher<ObjectNode>> getProcessInstanceAddedDataFetcher() {
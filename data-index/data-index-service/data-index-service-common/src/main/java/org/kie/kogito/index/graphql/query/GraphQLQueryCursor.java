@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.graphql.query;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.kogito.persistence.api.query.AttributeSort;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+
+import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
+
+/**
+ * Opaque position of an element within the results of a sorted query. The cursor is the base64 encoded JSON object
+ * holding the value of every sort attribute of the element, null when the element has no value for it. Dates are
+ * parsed back using the schema scalar so the storage receives the same representation used by the where arguments.
+ */
+public class GraphQLQueryCursor {
+
+    private static final ObjectMapper MAPPER = getObjectMapper().copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final List<AttributeSort> sortBy;
+    private final GraphQLObjectType type;
+
+    public GraphQLQueryCursor(List<AttributeSort> sortBy, GraphQLObjectType type) {
+        this.sortBy = sortBy;
+        this.type = type;
+    }
+
+    public List<AttributeSort> getSortBy() {
+        return sortBy;
+    }
+
+    public String encode(Object source) {
+        JsonNode node = MAPPER.valueToTree(source);
+        ObjectNode position = MAPPER.createObjectNode();
+        sortBy.forEach(sort -> {
+            JsonNode value = node.at("/" + sort.getAttribute().replace('.', '/'));
+            position.set(sort.getAttribute(), value.isMissingNode() ? NullNode.getInstance() : value);
+        });
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(position));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to encode cursor", e);
+        }
+    }
+
+    public Map<String, Object> decode(String cursor) {
+        JsonNode position;
+        try {
+            position = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        Map<String, Object> values = new HashMap<>();
+        sortBy.forEach(sort -> {
+            if (!position.has(sort.getAttribute())) {
+                throw new IllegalArgumentException("Invalid cursor, missing value for sort attribute " + sort.getAttribute() + ": " + cursor);
+            }
+            values.put(sort.getAttribute(), toValue(position.get(sort.getAttribute()), getAttributeType(sort.getAttribute())));
+        });
+        return values;
+    }
+
+    private Object toValue(JsonNode value, GraphQLType attributeType) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (attributeType instanceof GraphQLScalarType && "DateTime".equals(((GraphQLScalarType) attributeType).getName())) {
+            return ((GraphQLScalarType) attributeType).getCoercing().parseValue(value.asText());
+        }
+        if (value.isNumber()) {
+            return value.numberValue();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        return value.asText();
+    }
+
+    private GraphQLType getAttributeType(String attribute) {
+        GraphQLType current = type;
+        for (String name : attribute.split("\\.")) {
+            if (!(current instanceof GraphQLFieldsContainer)) {
+                return null;
+            }
+            GraphQLFieldDefinition field = ((GraphQLFieldsContainer) current).getFieldDefinition(name);
+            if (field == null) {
+                return null;
+            }
+            current = GraphQLTypeUtil.unwrapAll(field.getType());
+        }
+        return current;
+    }
+}
@@ -15,12 +15,22 @@
  */
 package org.kie.kogito.index.messaging;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
-import javax.enterprise.event.Event;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.process.ProcessInstanceDataEvent;
 import org.kie.kogito.event.process.UserTaskInstanceDataEvent;
@@ -34,6 +44,7 @@ import org.slf4j.LoggerFactory;
 import io.quarkus.arc.properties.IfBuildProperty;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 
+import static java.util.stream.Collectors.toList;
 import static org.kie.kogito.index.messaging.ReactiveMessagingEventConsumer.KOGITO_JOBS_EVENTS;
 import static org.kie.kogito.index.messaging.ReactiveMessagingEventConsumer.KOGITO_PROCESSINSTANCES_EVENTS;
 import static org.kie.kogito.index.messaging.ReactiveMessagingEventConsumer.KOGITO_USERTASKINSTANCES_EVENTS;
@@ -45,35 +56,147 @@ public class BlockingMessagingEventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BlockingMessagingEventConsumer.class);
 
     @Inject
-    Event<DataEvent> eventPublisher;
+    DomainEventConsumer domainEventConsumer;
 
     @Inject
     IndexingService indexingService;
 
+    @ConfigProperty(name = "kogito.data-index.events.batch-size", defaultValue = "1")
+    Integer batchSize;
+
+    @ConfigProperty(name = "kogito.data-index.events.batch-timeout", defaultValue = "100")
+    Long batchTimeout;
+
+    EventBatcher<ProcessInstanceDataEvent> processInstanceBatcher;
+    EventBatcher<UserTaskInstanceDataEvent> userTaskInstanceBatcher;
+    EventBatcher<KogitoJobCloudEvent> jobBatcher;
+
+    @PostConstruct
+    public void init() {
+        if (batchSize > 1) {
+            // Events are acknowledged once the batch holding them has been indexed.
+            // Batches are indexed through the intercepted methods below so every batch runs in its own transaction,
+            // the domain data is indexed once it is committed
+            processInstanceBatcher = new EventBatcher<>(KOGITO_PROCESSINSTANCES_EVENTS, batchSize, batchTimeout, events -> {
+                indexProcessInstanceEvents(events);
+                indexDomainEvents(events);
+            });
+            userTaskInstanceBatcher = new EventBatcher<>(KOGITO_USERTASKINSTANCES_EVENTS, batchSize, batchTimeout, events -> {
+                indexUserTaskInstanceEvents(events);
+                indexDomainEvents(events);
+            });
+            jobBatcher = new EventBatcher<>(KOGITO_JOBS_EVENTS, batchSize, batchTimeout, this::indexJobEvents);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (processInstanceBatcher != null) {
+            processInstanceBatcher.shutdown();
+            userTaskInstanceBatcher.shutdown();
+            jobBatcher.shutdown();
+        }
+    }
+
     @Incoming(KOGITO_PROCESSINSTANCES_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
     @Blocking
-    @Transactional
-    public void onProcessInstanceEvent(ProcessInstanceDataEvent event) {
-        LOGGER.debug("Process instance consumer received ProcessInstanceDataEvent: \n{}", event);
-        indexingService.indexProcessInstance(new ProcessInstanceEventMapper().apply(event));
-        eventPublisher.fire(event);
+    public CompletionStage<Void> onProcessInstanceEvent(Message<ProcessInstanceDataEvent> message) {
+        LOGGER.debug("Process instance consumer received ProcessInstanceDataEvent: \n{}", message.getPayload());
+        if (processInstanceBatcher != null) {
+            return processInstanceBatcher.add(message);
+        }
+        return acknowledge(message, () -> {
+            indexProcessInstanceEvent(message.getPayload());
+            return domainEventConsumer.onDomainEvent(message.getPayload());
+        });
     }
 
     @Incoming(KOGITO_USERTASKINSTANCES_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
     @Blocking
-    @Transactional
-    public void onUserTaskInstanceEvent(UserTaskInstanceDataEvent event) {
-        LOGGER.debug("Task instance received UserTaskInstanceDataEvent \n{}", event);
-        indexingService.indexUserTaskInstance(new UserTaskInstanceEventMapper().apply(event));
-        eventPublisher.fire(event);
+    public CompletionStage<Void> onUserTaskInstanceEvent(Message<UserTaskInstanceDataEvent> message) {
+        LOGGER.debug("Task instance received UserTaskInstanceDataEvent \n{}", message.getPayload());
+        if (userTaskInstanceBatcher != null) {
+            return userTaskInstanceBatcher.add(message);
+        }
+        return acknowledge(message, () -> {
+            indexUserTaskInstanceEvent(message.getPayload());
+            return domainEventConsumer.onDomainEvent(message.getPayload());
+        });
     }
 
     @Incoming(KOGITO_JOBS_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
     @Blocking
+    public CompletionStage<Void> onJobEvent(Message<KogitoJobCloudEvent> message) {
+        LOGGER.debug("Job received KogitoJobCloudEvent \n{}", message.getPayload());
+        if (jobBatcher != null) {
+            return jobBatcher.add(message);
+        }
+        return acknowledge(message, () -> {
+            indexJobEvent(message.getPayload());
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @Transactional
+    public void indexProcessInstanceEvent(ProcessInstanceDataEvent event) {
+        indexingService.indexProcessInstance(new ProcessInstanceEventMapper().apply(event));
+    }
+
     @Transactional
-    public void onJobEvent(KogitoJobCloudEvent event) {
-        LOGGER.debug("Job received KogitoJobCloudEvent \n{}", event);
+    public void indexUserTaskInstanceEvent(UserTaskInstanceDataEvent event) {
+        indexingService.indexUserTaskInstance(new UserTaskInstanceEventMapper().apply(event));
+    }
+
+    @Transactional
+    public void indexJobEvent(KogitoJobCloudEvent event) {
         indexingService.indexJob(event.getData());
     }
 
+    @Transactional
+    public void indexProcessInstanceEvents(List<ProcessInstanceDataEvent> events) {
+        indexingService.indexProcessInstances(events.stream().map(new ProcessInstanceEventMapper()).collect(toList()));
+    }
+
+    @Transactional
+    public void indexUserTaskInstanceEvents(List<UserTaskInstanceDataEvent> events) {
+        indexingService.indexUserTaskInstances(events.stream().map(new UserTaskInstanceEventMapper()).collect(toList()));
+    }
+
+    @Transactional
+    public void indexJobEvents(List<KogitoJobCloudEvent> events) {
+        indexingService.indexJobs(events.stream().map(KogitoJobCloudEvent::getData).collect(toList()));
+    }
+
+    /**
+     * Runs the processing of a message, which is acknowledged once the transactions of the processing are
+     * committed and the stage it returns is completed, or negatively acknowledged if the processing failed.
+     */
+    private static CompletionStage<Void> acknowledge(Message<?> message, Supplier<CompletionStage<?>> processing) {
+        CompletionStage<?> processed;
+        try {
+            processed = processing.get();
+        } catch (RuntimeException e) {
+            processed = CompletableFuture.failedFuture(e);
+        }
+        return processed.handle((result, failure) -> failure)
+                .thenCompose(failure -> {
+                    if (failure == null) {
+                        return message.ack();
+                    }
+                    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                    LOGGER.error("Error processing event {}: {}", message.getPayload(), cause.getMessage(), cause);
+                    return message.nack(cause);
+                });
+    }
+
+    private void indexDomainEvents(List<? extends DataEvent> events) {
+        // The events are submitted in order, so the updates of the same instance are indexed in order
+        CompletableFuture.allOf(events.stream()
+                .map(e -> domainEventConsumer.onDomainEvent(e).toCompletableFuture())
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
 }
@@ -16,8 +16,13 @@
 
 package org.kie.kogito.index.messaging;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
-import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -32,29 +37,58 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import io.quarkus.arc.Lock;
-
 import static java.lang.String.format;
 
 @ApplicationScoped
-@Lock
 public class DomainEventConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DomainEventConsumer.class);
+    private static final int PARTITION_QUEUE_SIZE = 1000;
 
     @ConfigProperty(name = "kogito.data-index.domain-indexing", defaultValue = "true")
     Boolean indexDomain;
 
+    @ConfigProperty(name = "kogito.data-index.domain-indexing.partitions")
+    Optional<Integer> partitions;
+
     @Inject
     IndexingService indexingService;
 
-    public void onDomainEvent(@Observes DataEvent event) {
+    PartitionedExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new PartitionedExecutor("data-index-domain-indexing", partitions.orElseGet(Runtime.getRuntime()::availableProcessors), PARTITION_QUEUE_SIZE);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Indexes the domain data of the event on the partition of its domain instance, without waiting for it. Events
+     * are partitioned by the domain instance they are merged into, so updates to the same instance are indexed in the
+     * order this method is called while unrelated instances are indexed in parallel.
+     *
+     * @param event The process or user task instance event.
+     * @return The stage completed once the domain data is stored, or completed exceptionally if indexing failed.
+     */
+    public CompletionStage<Void> onDomainEvent(DataEvent event) {
         if (!indexDomain) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         LOGGER.debug("Processing domain event: {}", event);
-        indexingService.indexModel(getDomainData(event));
+        ObjectNode domainData = getDomainData(event);
+        return executor.execute(domainData.get("id").asText(), () -> {
+            try {
+                indexingService.indexModel(domainData);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error processing domain event: {}", e.getMessage(), e);
+                throw e;
+            }
+        });
     }
 
     private ObjectNode getDomainData(DataEvent event) {
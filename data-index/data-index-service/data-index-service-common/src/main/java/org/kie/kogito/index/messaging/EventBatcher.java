@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.messaging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects events into batches that are handed to a consumer once the batch reaches the maximum size or once the
+ * maximum delay since its first event has elapsed, whatever happens first. Batches are consumed sequentially in the
+ * order they were completed on a dedicated thread, so adding events never blocks the caller.
+ */
+public class EventBatcher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventBatcher.class);
+    private static final int PENDING_BATCHES = 2;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final String name;
+    private final int maxSize;
+    private final long maxDelay;
+    private final Consumer<List<T>> consumer;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService executor;
+    private final Deque<CompletableFuture<Void>> pending = new ArrayDeque<>();
+
+    private List<T> batch = new ArrayList<>();
+    private CompletableFuture<Void> batchResult = new CompletableFuture<>();
+    private ScheduledFuture<?> timeout;
+
+    public EventBatcher(String name, int maxSize, long maxDelay, Consumer<List<T>> consumer) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.maxDelay = maxDelay;
+        this.consumer = consumer;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name + "-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds an event to the current batch.
+     *
+     * @param event The event.
+     * @return A future completed once the batch holding the event has been consumed, or completed exceptionally if
+     *         consuming the batch failed.
+     */
+    public synchronized CompletableFuture<Void> add(T event) {
+        CompletableFuture<Void> result = batchResult;
+        batch.add(event);
+        if (batch.size() >= maxSize) {
+            submit();
+        } else if (timeout == null) {
+            List<T> current = batch;
+            timeout = timer.schedule(() -> submitOnTimeout(current), maxDelay, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the payload of a message to the current batch. The message is acknowledged once the batch holding it has
+     * been consumed, and negatively acknowledged if consuming the batch failed.
+     *
+     * @param message The message.
+     * @return A stage completed once the batcher accepts more messages, see {@link #ready()}.
+     */
+    public CompletionStage<Void> add(Message<T> message) {
+        add(message.getPayload()).whenComplete((r, t) -> {
+            if (t == null) {
+                message.ack();
+            } else {
+                message.nack(t);
+            }
+        });
+        return ready();
+    }
+
+    /**
+     * Returns a future completed once there is room for another batch, callers must wait for it before adding more
+     * events so that a slow consumer throttles the producers instead of piling up batches in memory.
+     *
+     * @return A completed future if less than the maximum number of batches are waiting to be consumed, otherwise
+     *         a future completed once the oldest of them has been consumed, even if it failed.
+     */
+    public synchronized CompletableFuture<Void> ready() {
+        pending.removeIf(CompletableFuture::isDone);
+        if (pending.size() < PENDING_BATCHES) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return pending.peekFirst().handle((r, t) -> null);
+    }
+
+    /**
+     * Submits the current batch, if any, without waiting for it to be full.
+     */
+    public synchronized void flush() {
+        if (!batch.isEmpty()) {
+            submit();
+        }
+    }
+
+    /**
+     * Consumes the current batch and waits for every submitted batch to be consumed.
+     */
+    public void shutdown() {
+        flush();
+        timer.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for the pending batches of {} to be consumed", name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void submitOnTimeout(List<T> expected) {
+        // The batch might have been already submitted while the timeout was waiting for the lock
+        if (batch == expected) {
+            submit();
+        }
+    }
+
+    private void submit() {
+        if (timeout != null) {
+            timeout.cancel(false);
+            timeout = null;
+        }
+        List<T> events = batch;
+        CompletableFuture<Void> result = batchResult;
+        batch = new ArrayList<>(maxSize);
+        batchResult = new CompletableFuture<>();
+        pending.addLast(result);
+        executor.execute(() -> consume(events, result));
+    }
+
+    private void consume(List<T> events, CompletableFuture<Void> result) {
+        try {
+            consumer.accept(events);
+            result.complete(null);
+        } catch (RuntimeException e) {
+            LOGGER.error("Error processing batch of {} events from {}: {}", events.size(), name, e.getMessage(), e);
+            result.completeExceptionally(e);
+        }
+    }
+}
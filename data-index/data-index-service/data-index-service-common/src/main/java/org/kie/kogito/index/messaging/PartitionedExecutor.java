@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.messaging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes tasks on a fixed number of single threaded partitions selected by the task key. Tasks sharing a key
+ * run sequentially in submission order, while tasks with keys on different partitions run in parallel.
+ * Submitting blocks once the queue of the selected partition is full, so tasks must not be submitted from an event
+ * loop thread.
+ */
+public class PartitionedExecutor {
+
+    private final ExecutorService[] partitions;
+
+    public PartitionedExecutor(String name, int partitionCount, int queueSize) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be greater than zero");
+        }
+        partitions = new ExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = name + "-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueSize), r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }, PartitionedExecutor::waitForCapacity);
+        }
+    }
+
+    public CompletableFuture<Void> execute(String key, Runnable task) {
+        return CompletableFuture.runAsync(task, partitions[Math.floorMod(key.hashCode(), partitions.length)]);
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    public void shutdown() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    private static void waitForCapacity(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Partition has been shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for partition capacity", e);
+        }
+    }
+}
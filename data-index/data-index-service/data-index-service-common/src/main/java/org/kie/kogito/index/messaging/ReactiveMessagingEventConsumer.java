@@ -15,11 +15,18 @@
  */
 package org.kie.kogito.index.messaging;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
-import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.process.ProcessInstanceDataEvent;
 import org.kie.kogito.event.process.UserTaskInstanceDataEvent;
@@ -33,6 +40,8 @@ import org.slf4j.LoggerFactory;
 import io.quarkus.arc.properties.UnlessBuildProperty;
 import io.smallrye.mutiny.Uni;
 
+import static java.util.stream.Collectors.toList;
+
 @ApplicationScoped
 @UnlessBuildProperty(name = "kogito.data-index.blocking", stringValue = "true", enableIfMissing = true)
 public class ReactiveMessagingEventConsumer {
@@ -47,37 +56,103 @@ public class ReactiveMessagingEventConsumer {
     IndexingService indexingService;
 
     @Inject
-    Event<DataEvent> eventPublisher;
+    DomainEventConsumer domainEventConsumer;
+
+    @ConfigProperty(name = "kogito.data-index.events.batch-size", defaultValue = "1")
+    Integer batchSize;
+
+    @ConfigProperty(name = "kogito.data-index.events.batch-timeout", defaultValue = "100")
+    Long batchTimeout;
+
+    EventBatcher<ProcessInstanceDataEvent> processInstanceBatcher;
+    EventBatcher<UserTaskInstanceDataEvent> userTaskInstanceBatcher;
+    EventBatcher<KogitoJobCloudEvent> jobBatcher;
+
+    @PostConstruct
+    public void init() {
+        if (batchSize > 1) {
+            // Events are acknowledged once the batch holding them has been indexed
+            processInstanceBatcher = new EventBatcher<>(KOGITO_PROCESSINSTANCES_EVENTS, batchSize, batchTimeout, this::indexProcessInstanceEvents);
+            userTaskInstanceBatcher = new EventBatcher<>(KOGITO_USERTASKINSTANCES_EVENTS, batchSize, batchTimeout, this::indexUserTaskInstanceEvents);
+            jobBatcher = new EventBatcher<>(KOGITO_JOBS_EVENTS, batchSize, batchTimeout, this::indexJobEvents);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (processInstanceBatcher != null) {
+            processInstanceBatcher.shutdown();
+            userTaskInstanceBatcher.shutdown();
+            jobBatcher.shutdown();
+        }
+    }
 
     @Incoming(KOGITO_PROCESSINSTANCES_EVENTS)
-    public Uni<Void> onProcessInstanceEvent(ProcessInstanceDataEvent event) {
-        LOGGER.debug("Process instance consumer received ProcessInstanceDataEvent: \n{}", event);
-        return Uni.createFrom().item(event)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public Uni<Void> onProcessInstanceEvent(Message<ProcessInstanceDataEvent> message) {
+        LOGGER.debug("Process instance consumer received ProcessInstanceDataEvent: \n{}", message.getPayload());
+        if (processInstanceBatcher != null) {
+            return Uni.createFrom().completionStage(processInstanceBatcher.add(message));
+        }
+        return Uni.createFrom().item(message.getPayload())
                 .invoke(e -> indexingService.indexProcessInstance(new ProcessInstanceEventMapper().apply(e)))
-                .invoke(e -> eventPublisher.fire(e))
+                .call(e -> Uni.createFrom().completionStage(domainEventConsumer.onDomainEvent(e)))
                 .onFailure()
                 .invoke(t -> LOGGER.error("Error processing process instance ProcessInstanceDataEvent: {}", t.getMessage(), t))
-                .onItem().ignore().andContinueWithNull();
+                .onItemOrFailure().transformToUni((e, t) -> acknowledge(message, t));
     }
 
     @Incoming(KOGITO_USERTASKINSTANCES_EVENTS)
-    public Uni<Void> onUserTaskInstanceEvent(UserTaskInstanceDataEvent event) {
-        LOGGER.debug("Task instance received UserTaskInstanceDataEvent \n{}", event);
-        return Uni.createFrom().item(event)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public Uni<Void> onUserTaskInstanceEvent(Message<UserTaskInstanceDataEvent> message) {
+        LOGGER.debug("Task instance received UserTaskInstanceDataEvent \n{}", message.getPayload());
+        if (userTaskInstanceBatcher != null) {
+            return Uni.createFrom().completionStage(userTaskInstanceBatcher.add(message));
+        }
+        return Uni.createFrom().item(message.getPayload())
                 .invoke(e -> indexingService.indexUserTaskInstance(new UserTaskInstanceEventMapper().apply(e)))
-                .invoke(e -> eventPublisher.fire(e))
+                .call(e -> Uni.createFrom().completionStage(domainEventConsumer.onDomainEvent(e)))
                 .onFailure()
                 .invoke(t -> LOGGER.error("Error processing task instance UserTaskInstanceDataEvent: {}", t.getMessage(), t))
-                .onItem().ignore().andContinueWithNull();
+                .onItemOrFailure().transformToUni((e, t) -> acknowledge(message, t));
     }
 
     @Incoming(KOGITO_JOBS_EVENTS)
-    public Uni<Void> onJobEvent(KogitoJobCloudEvent event) {
-        LOGGER.debug("Job received KogitoJobCloudEvent \n{}", event);
-        return Uni.createFrom().item(event)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public Uni<Void> onJobEvent(Message<KogitoJobCloudEvent> message) {
+        LOGGER.debug("Job received KogitoJobCloudEvent \n{}", message.getPayload());
+        if (jobBatcher != null) {
+            return Uni.createFrom().completionStage(jobBatcher.add(message));
+        }
+        return Uni.createFrom().item(message.getPayload())
                 .onItem().invoke(e -> indexingService.indexJob(e.getData()))
                 .onFailure().invoke(t -> LOGGER.error("Error processing job KogitoJobCloudEvent: {}", t.getMessage(), t))
-                .onItem().ignore().andContinueWithNull();
+                .onItemOrFailure().transformToUni((e, t) -> acknowledge(message, t));
+    }
+
+    void indexProcessInstanceEvents(List<ProcessInstanceDataEvent> events) {
+        indexingService.indexProcessInstances(events.stream().map(new ProcessInstanceEventMapper()).collect(toList()));
+        indexDomainEvents(events);
+    }
+
+    void indexUserTaskInstanceEvents(List<UserTaskInstanceDataEvent> events) {
+        indexingService.indexUserTaskInstances(events.stream().map(new UserTaskInstanceEventMapper()).collect(toList()));
+        indexDomainEvents(events);
+    }
+
+    void indexJobEvents(List<KogitoJobCloudEvent> events) {
+        indexingService.indexJobs(events.stream().map(KogitoJobCloudEvent::getData).collect(toList()));
+    }
+
+    private static Uni<Void> acknowledge(Message<?> message, Throwable failure) {
+        return Uni.createFrom().completionStage(failure == null ? message.ack() : message.nack(failure));
+    }
+
+    private void indexDomainEvents(List<? extends DataEvent> events) {
+        // The events are submitted in order, so the updates of the same instance are indexed in order
+        CompletableFuture.allOf(events.stream()
+                .map(e -> domainEventConsumer.onDomainEvent(e).toCompletableFuture())
+                .toArray(CompletableFuture[]::new)).join();
     }
 
 }
@@ -15,7 +15,12 @@
  */
 package org.kie.kogito.index.service;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -33,7 +38,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.kie.kogito.index.Constants.ID;
 import static org.kie.kogito.index.Constants.KOGITO_DOMAIN_ATTRIBUTE;
 import static org.kie.kogito.index.Constants.LAST_UPDATE;
@@ -53,20 +58,63 @@ public class IndexingService {
     public void indexProcessInstance(ProcessInstance pi) {
         ProcessInstance previousPI = manager.getProcessInstancesCache().get(pi.getId());
         if (previousPI != null) {
-            List<NodeInstance> nodes = previousPI.getNodes().stream().filter(n -> !pi.getNodes().contains(n)).collect(toList());
-            pi.getNodes().addAll(nodes);
+            mergeNodes(pi, previousPI);
         }
         manager.getProcessInstancesCache().put(pi.getId(), pi);
     }
 
+    /**
+     * Indexes a batch of process instances. Updates of the same instance are merged in memory, in the given order,
+     * so every instance is read and written once.
+     *
+     * @param pis The process instances, in the order they were received.
+     */
+    public void indexProcessInstances(List<ProcessInstance> pis) {
+        Map<String, ProcessInstance> merged = new LinkedHashMap<>();
+        pis.forEach(pi -> merged.merge(pi.getId(), pi, (previousPI, currentPI) -> mergeNodes(currentPI, previousPI)));
+        Storage<String, ProcessInstance> cache = manager.getProcessInstancesCache();
+        cache.getAll(merged.keySet()).forEach((id, previousPI) -> mergeNodes(merged.get(id), previousPI));
+        cache.putAll(merged);
+    }
+
     public void indexJob(Job job) {
         manager.getJobsCache().put(job.getId(), job);
     }
 
+    /**
+     * Indexes a batch of jobs, only the last update of every job is stored.
+     *
+     * @param jobs The jobs, in the order they were received.
+     */
+    public void indexJobs(List<Job> jobs) {
+        manager.getJobsCache().putAll(lastById(jobs, Job::getId));
+    }
+
     public void indexUserTaskInstance(UserTaskInstance ut) {
         manager.getUserTaskInstancesCache().put(ut.getId(), ut);
     }
 
+    /**
+     * Indexes a batch of user task instances, only the last update of every task is stored.
+     *
+     * @param uts The user task instances, in the order they were received.
+     */
+    public void indexUserTaskInstances(List<UserTaskInstance> uts) {
+        manager.getUserTaskInstancesCache().putAll(lastById(uts, UserTaskInstance::getId));
+    }
+
+    private static ProcessInstance mergeNodes(ProcessInstance pi, ProcessInstance previousPI) {
+        Set<String> nodeIds = pi.getNodes().stream().map(NodeInstance::getId).collect(toSet());
+        previousPI.getNodes().stream().filter(n -> !nodeIds.contains(n.getId())).forEach(pi.getNodes()::add);
+        return pi;
+    }
+
+    private static <T> Map<String, T> lastById(List<T> elements, Function<T, String> id) {
+        Map<String, T> result = new LinkedHashMap<>();
+        elements.forEach(element -> result.put(id.apply(element), element));
+        return result;
+    }
+
     public void indexModel(ObjectNode json) {
         String processId = json.remove(PROCESS_ID).asText();
         Storage<String, ObjectNode> cache = manager.getDomainModelCache(processId);
@@ -126,18 +174,22 @@ public class IndexingService {
 
     private ArrayNode copyToArray(JsonNode arrayCache, ArrayNode arrayEvent) {
         if (arrayCache == null || arrayCache.isNull()) {
-            return getObjectMapper().createArrayNode().add(arrayEvent.get(0));
+            return getObjectMapper().createArrayNode().addAll(arrayEvent);
         }
         ArrayNode arrayNode = (ArrayNode) arrayCache;
-        String indexId = arrayEvent.get(0).get(ID).asText();
-        for (int i = 0; i < arrayCache.size(); i++) {
-            if (indexId.equals(arrayCache.get(i).get(ID).asText())) {
-                arrayNode.set(i, arrayEvent.get(0));
-                return arrayNode;
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < arrayNode.size(); i++) {
+            positions.put(arrayNode.get(i).get(ID).asText(), i);
+        }
+        for (JsonNode element : arrayEvent) {
+            Integer position = positions.get(element.get(ID).asText());
+            if (position == null) {
+                positions.put(element.get(ID).asText(), arrayNode.size());
+                arrayNode.add(element);
+            } else {
+                arrayNode.set(position, element);
             }
         }
-
-        arrayNode.add(arrayEvent.get(0));
         return arrayNode;
     }
 }
@@ -16,17 +16,38 @@
 
 package org.kie.kogito.index.graphql;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.DataIndexStorageService;
 import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.Query;
+import org.mockito.ArgumentCaptor;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingSelectionSet;
+import graphql.schema.SelectedField;
+
+import io.smallrye.mutiny.Multi;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.index.graphql.GraphQLSchemaManager.CHILD_PROCESS_INSTANCES_LOADER;
+import static org.kie.kogito.index.graphql.GraphQLSchemaManager.PARENT_PROCESS_INSTANCE_LOADER;
+import static org.kie.kogito.persistence.api.query.FilterCondition.IN;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
+import static org.kie.kogito.persistence.api.query.SortDirection.ASC;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GraphQLSchemaManagerTest {
@@ -80,6 +101,87 @@ public class GraphQLSchemaManagerTest {
         assertThat(schemaManager.getProcessInstanceJsonServiceUrl(geJsonEnv("demo.orderItems", "http://localhost:8080/orderItems"))).isEqualTo("http://localhost:8080");
     }
 
+    @Test
+    public void testChildProcessInstancesAreBatched() {
+        Query<ProcessInstance> query = mockProcessInstanceQuery(createProcessInstance("child1", "parent1"), createProcessInstance("child2", "parent1"));
+        DataLoader<String, List<ProcessInstance>> loader = schemaManager.createDataLoaderRegistry().getDataLoader(CHILD_PROCESS_INSTANCES_LOADER);
+
+        CompletableFuture<List<ProcessInstance>> children1 = loader.load("parent1");
+        CompletableFuture<List<ProcessInstance>> children2 = loader.load("parent2");
+        loader.dispatch();
+
+        assertThat(children1.join()).extracting(ProcessInstance::getId).containsExactly("child1", "child2");
+        assertThat(children2.join()).isEmpty();
+        assertInFilter(query, "parentProcessInstanceId", "parent1", "parent2");
+    }
+
+    @Test
+    public void testParentProcessInstancesAreBatched() {
+        Query<ProcessInstance> query = mockProcessInstanceQuery(createProcessInstance("parent2", null));
+        DataLoader<String, ProcessInstance> loader = schemaManager.createDataLoaderRegistry().getDataLoader(PARENT_PROCESS_INSTANCE_LOADER);
+
+        CompletableFuture<ProcessInstance> parent1 = loader.load("parent1");
+        CompletableFuture<ProcessInstance> parent2 = loader.load("parent2");
+        loader.dispatch();
+
+        assertThat(parent1.join()).isNull();
+        assertThat(parent2.join().getId()).isEqualTo("parent2");
+        assertInFilter(query, "id", "parent1", "parent2");
+    }
+
+    @Test
+    public void testProjection() {
+        DataFetchingSelectionSet selectionSet = mockSelectionSet("state", "serviceUrl", "cursor", "__typename");
+
+        assertThat(GraphQLSchemaManager.getProjection(selectionSet, asList(orderBy("variables.traveller.name", ASC), orderBy("id", ASC))))
+                .containsExactly("id", "state", "endpoint", "processId", "variables");
+    }
+
+    @Test
+    public void testProjectionNotAppliedToFieldsRequiringCompleteElement() {
+        DataFetchingSelectionSet selectionSet = mockSelectionSet("state", "diagram");
+
+        assertThat(GraphQLSchemaManager.getProjection(selectionSet, asList(orderBy("id", ASC)))).isNull();
+    }
+
+    private DataFetchingSelectionSet mockSelectionSet(String... fieldNames) {
+        List<SelectedField> fields = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            SelectedField field = mock(SelectedField.class);
+            when(field.getName()).thenReturn(fieldName);
+            fields.add(field);
+        }
+        DataFetchingSelectionSet selectionSet = mock(DataFetchingSelectionSet.class);
+        when(selectionSet.getImmediateFields()).thenReturn(fields);
+        return selectionSet;
+    }
+
+    private Query<ProcessInstance> mockProcessInstanceQuery(ProcessInstance... results) {
+        schemaManager.cacheService = mock(DataIndexStorageService.class);
+        Storage<String, ProcessInstance> storage = mock(Storage.class);
+        Query<ProcessInstance> query = mock(Query.class);
+        when(schemaManager.cacheService.getProcessInstancesCache()).thenReturn(storage);
+        when(storage.query()).thenReturn(query);
+        when(query.stream()).thenReturn(Multi.createFrom().items(results));
+        return query;
+    }
+
+    private void assertInFilter(Query<ProcessInstance> query, String attribute, String... values) {
+        ArgumentCaptor<List<AttributeFilter<?>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(query).filter(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getCondition()).isEqualTo(IN);
+        assertThat(captor.getValue().get(0).getAttribute()).isEqualTo(attribute);
+        assertThat(captor.getValue().get(0).getValue()).isEqualTo(asList(values));
+    }
+
+    private ProcessInstance createProcessInstance(String id, String parentProcessInstanceId) {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(id);
+        pi.setParentProcessInstanceId(parentProcessInstanceId);
+        return pi;
+    }
+
     private DataFetchingEnvironment geJsonEnv(String processId, String endpoint) {
         DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
         when(env.getSource()).thenReturn(getProcessInstanceJson(processId, endpoint));
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.graphql.query;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.graphql.DefaultDateTimeCoercing;
+import org.kie.kogito.index.model.ProcessInstance;
+
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+
+import static graphql.Scalars.GraphQLInt;
+import static graphql.Scalars.GraphQLString;
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
+import static org.kie.kogito.persistence.api.query.SortDirection.ASC;
+import static org.kie.kogito.persistence.api.query.SortDirection.DESC;
+
+public class GraphQLQueryCursorTest {
+
+    private static final GraphQLObjectType PROCESS_INSTANCE_TYPE = GraphQLObjectType.newObject()
+            .name("ProcessInstance")
+            .field(newFieldDefinition().name("id").type(GraphQLString))
+            .field(newFieldDefinition().name("state").type(GraphQLInt))
+            .field(newFieldDefinition().name("start").type(GraphQLScalarType.newScalar().name("DateTime").coercing(new DefaultDateTimeCoercing()).build()))
+            .build();
+
+    @Test
+    public void testEncodeDecode() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 1, 10, 10, 30, 15, 0, ZoneOffset.UTC);
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId("8035b580-6ae4-4aa8-9ec0-e18e19809e0b");
+        pi.setState(1);
+        pi.setStart(start);
+        GraphQLQueryCursor cursor = new GraphQLQueryCursor(asList(orderBy("start", DESC), orderBy("state", ASC), orderBy("id", ASC)), PROCESS_INSTANCE_TYPE);
+
+        Map<String, Object> position = cursor.decode(cursor.encode(pi));
+
+        assertThat(position)
+                .containsEntry("id", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b")
+                .containsEntry("state", 1)
+                .containsEntry("start", start.toInstant().toEpochMilli());
+    }
+
+    @Test
+    public void testEncodeDecodeNullValues() {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId("8035b580-6ae4-4aa8-9ec0-e18e19809e0b");
+        GraphQLQueryCursor cursor = new GraphQLQueryCursor(asList(orderBy("start", DESC), orderBy("state", ASC), orderBy("id", ASC)), PROCESS_INSTANCE_TYPE);
+
+        Map<String, Object> position = cursor.decode(cursor.encode(pi));
+
+        assertThat(position)
+                .hasSize(3)
+                .containsEntry("id", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b")
+                .containsEntry("state", null)
+                .containsEntry("start", null);
+    }
+
+    @Test
+    public void testCursorMissingSortAttribute() {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId("8035b580-6ae4-4aa8-9ec0-e18e19809e0b");
+        String encoded = new GraphQLQueryCursor(asList(orderBy("id", ASC)), PROCESS_INSTANCE_TYPE).encode(pi);
+        GraphQLQueryCursor cursor = new GraphQLQueryCursor(asList(orderBy("state", ASC), orderBy("id", ASC)), PROCESS_INSTANCE_TYPE);
+
+        assertThatThrownBy(() -> cursor.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        GraphQLQueryCursor cursor = new GraphQLQueryCursor(asList(orderBy("id", ASC)), PROCESS_INSTANCE_TYPE);
+
+        assertThatThrownBy(() -> cursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
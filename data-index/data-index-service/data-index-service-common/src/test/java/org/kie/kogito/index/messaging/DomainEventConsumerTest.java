@@ -16,8 +16,16 @@
 
 package org.kie.kogito.index.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,13 +41,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kie.kogito.index.Constants.KOGITO_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.Constants.PROCESS_INSTANCES_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.Constants.PROCESS_NAME;
 import static org.kie.kogito.index.TestUtils.getProcessCloudEvent;
 import static org.kie.kogito.index.TestUtils.getUserTaskCloudEvent;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +68,13 @@ public class DomainEventConsumerTest {
     @BeforeEach
     public void setup() {
         consumer.indexDomain = true;
+        consumer.partitions = Optional.of(2);
+        consumer.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        consumer.destroy();
     }
 
     @Test
@@ -75,7 +96,8 @@ public class DomainEventConsumerTest {
 
         UserTaskInstanceDataEvent event = getUserTaskCloudEvent(taskId, processId, processInstanceId, null, null, "InProgress");
 
-        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> consumer.onDomainEvent(event));
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> consumer.onDomainEvent(event).toCompletableFuture().join())
+                .withCauseInstanceOf(RuntimeException.class);
         verify(service).indexModel(any());
     }
 
@@ -87,7 +109,7 @@ public class DomainEventConsumerTest {
 
         UserTaskInstanceDataEvent event = getUserTaskCloudEvent(taskId, processId, processInstanceId, null, null, "InProgress");
 
-        consumer.onDomainEvent(event);
+        consumer.onDomainEvent(event).toCompletableFuture().join();
 
         ArgumentCaptor<ObjectNode> captor = ArgumentCaptor.forClass(ObjectNode.class);
         verify(service).indexModel(captor.capture());
@@ -117,7 +139,51 @@ public class DomainEventConsumerTest {
         ProcessInstanceDataEvent event = getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.ACTIVE, null,
                 null, null);
 
-        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> consumer.onDomainEvent(event));
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> consumer.onDomainEvent(event).toCompletableFuture().join())
+                .withCauseInstanceOf(RuntimeException.class);
         verify(service).indexModel(any());
     }
+
+    @Test
+    public void testOnProcessInstanceEventsIndexedInOrder() {
+        String processId = "travels";
+        String processInstanceId = UUID.randomUUID().toString();
+        List<String> processNames = new ArrayList<>();
+        List<CompletableFuture<Void>> indexed = new ArrayList<>();
+
+        IntStream.range(0, 10).forEach(i -> {
+            ProcessInstanceDataEvent event = getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.ACTIVE, null, null, null);
+            processNames.add(event.getData().getProcessName());
+            indexed.add(consumer.onDomainEvent(event).toCompletableFuture());
+        });
+        CompletableFuture.allOf(indexed.toArray(CompletableFuture[]::new)).join();
+
+        ArgumentCaptor<ObjectNode> captor = ArgumentCaptor.forClass(ObjectNode.class);
+        verify(service, times(10)).indexModel(captor.capture());
+        assertThat(captor.getAllValues()).extracting(json -> json.get(KOGITO_DOMAIN_ATTRIBUTE).get(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE).get(0).get(PROCESS_NAME).asText())
+                .containsExactlyElementsOf(processNames);
+    }
+
+    @Test
+    public void testOnProcessInstanceEventsOfSameInstanceNotIndexedConcurrently() {
+        String processId = "travels";
+        String processInstanceId = UUID.randomUUID().toString();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return null;
+        }).when(service).indexModel(any());
+
+        CompletableFuture.allOf(IntStream.range(0, 4)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> IntStream.range(0, 5)
+                        .forEach(i -> consumer.onDomainEvent(getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.ACTIVE, null, null, null))
+                                .toCompletableFuture().join())))
+                .toArray(CompletableFuture[]::new)).join();
+
+        verify(service, times(20)).indexModel(any());
+        assertThat(maxRunning).hasValue(1);
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.messaging;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventBatcherTest {
+
+    @Test
+    public void testBatchBySize() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        EventBatcher<Integer> batcher = new EventBatcher<>("test", 3, TimeUnit.MINUTES.toMillis(1), batches::add);
+        try {
+            batcher.add(1);
+            batcher.add(2);
+            batcher.add(3).get(1, TimeUnit.SECONDS);
+            CompletableFuture<Void> result = batcher.add(4);
+
+            assertThat(batches).containsExactly(asList(1, 2, 3));
+            assertThat(result).isNotDone();
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchByTimeout() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        EventBatcher<Integer> batcher = new EventBatcher<>("test", 100, 10, batches::add);
+        try {
+            batcher.add(1);
+            batcher.add(2).get(1, TimeUnit.SECONDS);
+            batcher.add(3).get(1, TimeUnit.SECONDS);
+
+            assertThat(batches).containsExactly(asList(1, 2), asList(3));
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchFailure() {
+        EventBatcher<Integer> batcher = new EventBatcher<>("test", 1, 10, events -> {
+            throw new IllegalStateException("error");
+        });
+        try {
+            assertThatThrownBy(() -> batcher.add(1).get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testReady() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        EventBatcher<Integer> batcher = new EventBatcher<>("test", 1, 10, events -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            batcher.add(1);
+            assertThat(batcher.ready()).isDone();
+            batcher.add(2);
+            CompletableFuture<Void> ready = batcher.ready();
+            assertThat(ready).isNotDone();
+
+            latch.countDown();
+            ready.get(1, TimeUnit.SECONDS);
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownConsumesPendingBatches() {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        EventBatcher<Integer> batcher = new EventBatcher<>("test", 2, TimeUnit.MINUTES.toMillis(1), events -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(events);
+        });
+        batcher.add(1);
+        batcher.add(2);
+        batcher.add(3);
+        batcher.shutdown();
+
+        assertThat(batches).containsExactly(asList(1, 2), asList(3));
+    }
+
+    @Test
+    public void testInvalidBatchSize() {
+        assertThatThrownBy(() -> new EventBatcher<Integer>("test", 0, 10, events -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
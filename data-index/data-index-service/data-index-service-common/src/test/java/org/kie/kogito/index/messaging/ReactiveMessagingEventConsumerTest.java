@@ -15,18 +15,23 @@
  */
 package org.kie.kogito.index.messaging;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-import javax.enterprise.event.Event;
-
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.process.ProcessInstanceDataEvent;
 import org.kie.kogito.event.process.UserTaskInstanceDataEvent;
 import org.kie.kogito.index.event.KogitoJobCloudEvent;
+import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.model.ProcessInstanceState;
 import org.kie.kogito.index.service.IndexingService;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -34,12 +39,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.kie.kogito.index.TestUtils.getProcessCloudEvent;
 import static org.kie.kogito.index.TestUtils.getUserTaskCloudEvent;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,7 +58,7 @@ public class ReactiveMessagingEventConsumerTest {
     IndexingService service;
 
     @Mock
-    Event<DataEvent> eventPublisher;
+    DomainEventConsumer domainEventConsumer;
 
     @InjectMocks
     @Spy
@@ -62,13 +71,52 @@ public class ReactiveMessagingEventConsumerTest {
 
         ProcessInstanceDataEvent event = getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.ACTIVE, null,
                 null, null);
+        doReturn(CompletableFuture.completedFuture(null)).when(domainEventConsumer).onDomainEvent(event);
+        TrackedMessage<ProcessInstanceDataEvent> message = new TrackedMessage<>(event);
+
+        UniAssertSubscriber<Void> future = consumer.onProcessInstanceEvent(message.message).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+
+        future.awaitItem().assertCompleted();
+        verify(service).indexProcessInstance(any());
+        verify(domainEventConsumer).onDomainEvent(event);
+        assertThat(message.acked).isTrue();
+    }
+
+    @Test
+    public void testOnProcessInstanceDomainEventException() {
+        String processId = "travels";
+        String processInstanceId = UUID.randomUUID().toString();
+
+        ProcessInstanceDataEvent event = getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.ACTIVE, null,
+                null, null);
+        doReturn(CompletableFuture.failedFuture(new RuntimeException(""))).when(domainEventConsumer).onDomainEvent(event);
+        TrackedMessage<ProcessInstanceDataEvent> message = new TrackedMessage<>(event);
 
-        UniAssertSubscriber<Void> future = consumer.onProcessInstanceEvent(event).subscribe()
+        UniAssertSubscriber<Void> future = consumer.onProcessInstanceEvent(message.message).subscribe()
                 .withSubscriber(UniAssertSubscriber.create());
 
         future.awaitItem().assertCompleted();
         verify(service).indexProcessInstance(any());
-        verify(eventPublisher).fire(event);
+        assertThat(message.nacked.get()).isInstanceOf(RuntimeException.class);
+        assertThat(message.acked).isFalse();
+    }
+
+    @Test
+    public void testOnProcessInstanceEventAcknowledgedOnceDomainIndexed() {
+        ProcessInstanceDataEvent event = getProcessCloudEvent("travels", UUID.randomUUID().toString(), ProcessInstanceState.ACTIVE, null,
+                null, null);
+        CompletableFuture<Void> domainIndexed = new CompletableFuture<>();
+        doReturn(domainIndexed).when(domainEventConsumer).onDomainEvent(event);
+        TrackedMessage<ProcessInstanceDataEvent> message = new TrackedMessage<>(event);
+
+        UniAssertSubscriber<Void> future = consumer.onProcessInstanceEvent(message.message).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(message.acked).isFalse();
+        domainIndexed.complete(null);
+        future.awaitItem().assertCompleted();
+        assertThat(message.acked).isTrue();
     }
 
     @Test
@@ -79,59 +127,143 @@ public class ReactiveMessagingEventConsumerTest {
         String processInstanceId = UUID.randomUUID().toString();
 
         UserTaskInstanceDataEvent event = getUserTaskCloudEvent(taskId, processId, processInstanceId, null, null, "InProgress");
+        doReturn(CompletableFuture.completedFuture(null)).when(domainEventConsumer).onDomainEvent(event);
+        TrackedMessage<UserTaskInstanceDataEvent> message = new TrackedMessage<>(event);
 
-        UniAssertSubscriber<Void> future = consumer.onUserTaskInstanceEvent(event).subscribe()
+        UniAssertSubscriber<Void> future = consumer.onUserTaskInstanceEvent(message.message).subscribe()
                 .withSubscriber(UniAssertSubscriber.create());
 
         future.awaitItem().assertCompleted();
         verify(service).indexUserTaskInstance(any());
-        verify(eventPublisher).fire(event);
+        verify(domainEventConsumer).onDomainEvent(event);
+        assertThat(message.acked).isTrue();
     }
 
     @Test
     public void testOnProcessInstanceEventException() {
         ProcessInstanceDataEvent event = mock(ProcessInstanceDataEvent.class);
         doThrow(new RuntimeException("")).when(service).indexProcessInstance(any());
+        TrackedMessage<ProcessInstanceDataEvent> message = new TrackedMessage<>(event);
 
-        UniAssertSubscriber<Void> future = consumer.onProcessInstanceEvent(event).subscribe()
+        UniAssertSubscriber<Void> future = consumer.onProcessInstanceEvent(message.message).subscribe()
                 .withSubscriber(UniAssertSubscriber.create());
 
-        future.awaitFailure().assertFailedWith(RuntimeException.class, "");
+        future.awaitItem().assertCompleted();
         verify(service).indexProcessInstance(any());
-        verify(eventPublisher, never()).fire(event);
+        verify(domainEventConsumer, never()).onDomainEvent(event);
+        assertThat(message.nacked.get()).isInstanceOf(RuntimeException.class);
     }
 
     @Test
     public void testOnUserTaskInstanceEventException() {
         UserTaskInstanceDataEvent event = mock(UserTaskInstanceDataEvent.class);
         doThrow(new RuntimeException("")).when(service).indexUserTaskInstance(any());
+        TrackedMessage<UserTaskInstanceDataEvent> message = new TrackedMessage<>(event);
 
-        UniAssertSubscriber<Void> future = consumer.onUserTaskInstanceEvent(event).subscribe()
+        UniAssertSubscriber<Void> future = consumer.onUserTaskInstanceEvent(message.message).subscribe()
                 .withSubscriber(UniAssertSubscriber.create());
 
-        future.awaitFailure().assertFailedWith(RuntimeException.class, "");
+        future.awaitItem().assertCompleted();
         verify(service).indexUserTaskInstance(any());
-        verify(eventPublisher, never()).fire(event);
+        verify(domainEventConsumer, never()).onDomainEvent(event);
+        assertThat(message.nacked.get()).isInstanceOf(RuntimeException.class);
     }
 
     @Test
     public void testOnJobEvent() {
         KogitoJobCloudEvent event = mock(KogitoJobCloudEvent.class);
+        TrackedMessage<KogitoJobCloudEvent> message = new TrackedMessage<>(event);
 
-        UniAssertSubscriber<Void> future = consumer.onJobEvent(event).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Void> future = consumer.onJobEvent(message.message).subscribe().withSubscriber(UniAssertSubscriber.create());
 
         future.awaitItem().assertCompleted();
         verify(service).indexJob(event.getData());
+        assertThat(message.acked).isTrue();
     }
 
     @Test
     public void testOnJobEventException() {
         KogitoJobCloudEvent event = mock(KogitoJobCloudEvent.class);
         doThrow(new RuntimeException("")).when(service).indexJob(any());
+        TrackedMessage<KogitoJobCloudEvent> message = new TrackedMessage<>(event);
 
-        UniAssertSubscriber<Void> future = consumer.onJobEvent(event).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Void> future = consumer.onJobEvent(message.message).subscribe().withSubscriber(UniAssertSubscriber.create());
 
-        future.awaitFailure().assertFailedWith(RuntimeException.class, "");
+        future.awaitItem().assertCompleted();
         verify(service).indexJob(event.getData());
+        assertThat(message.nacked.get()).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void testOnProcessInstanceEventBatch() {
+        consumer.batchSize = 3;
+        consumer.batchTimeout = TimeUnit.MINUTES.toMillis(1);
+        consumer.init();
+        try {
+            String processId = "travels";
+            String processInstanceId = UUID.randomUUID().toString();
+            ProcessInstanceDataEvent startEvent = getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.ACTIVE, null, null, null);
+            ProcessInstanceDataEvent endEvent = getProcessCloudEvent(processId, processInstanceId, ProcessInstanceState.COMPLETED, null, null, null);
+            ProcessInstanceDataEvent otherEvent = getProcessCloudEvent(processId, UUID.randomUUID().toString(), ProcessInstanceState.ACTIVE, null, null, null);
+            doReturn(CompletableFuture.completedFuture(null)).when(domainEventConsumer).onDomainEvent(any());
+            TrackedMessage<ProcessInstanceDataEvent> startMessage = new TrackedMessage<>(startEvent);
+            TrackedMessage<ProcessInstanceDataEvent> endMessage = new TrackedMessage<>(endEvent);
+            TrackedMessage<ProcessInstanceDataEvent> otherMessage = new TrackedMessage<>(otherEvent);
+
+            consumer.onProcessInstanceEvent(startMessage.message).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+            consumer.onProcessInstanceEvent(endMessage.message).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+            verify(service, never()).indexProcessInstances(any());
+            assertThat(startMessage.acked).isFalse();
+            consumer.onProcessInstanceEvent(otherMessage.message).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+            ArgumentCaptor<List<ProcessInstance>> captor = ArgumentCaptor.forClass(List.class);
+            verify(service, timeout(1000)).indexProcessInstances(captor.capture());
+            assertThat(captor.getValue()).extracting(ProcessInstance::getId).containsExactly(processInstanceId, processInstanceId, otherEvent.getData().getId());
+            verify(domainEventConsumer, timeout(1000)).onDomainEvent(otherEvent);
+            verify(service, never()).indexProcessInstance(any());
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(List.of(startMessage, endMessage, otherMessage)).allMatch(m -> m.acked.get()));
+        } finally {
+            consumer.destroy();
+        }
+    }
+
+    @Test
+    public void testOnProcessInstanceEventBatchException() {
+        consumer.batchSize = 2;
+        consumer.batchTimeout = TimeUnit.MINUTES.toMillis(1);
+        consumer.init();
+        try {
+            doThrow(new RuntimeException("")).when(service).indexProcessInstances(any());
+            TrackedMessage<ProcessInstanceDataEvent> firstMessage =
+                    new TrackedMessage<>(getProcessCloudEvent("travels", UUID.randomUUID().toString(), ProcessInstanceState.ACTIVE, null, null, null));
+            TrackedMessage<ProcessInstanceDataEvent> secondMessage =
+                    new TrackedMessage<>(getProcessCloudEvent("travels", UUID.randomUUID().toString(), ProcessInstanceState.ACTIVE, null, null, null));
+
+            consumer.onProcessInstanceEvent(firstMessage.message).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+            consumer.onProcessInstanceEvent(secondMessage.message).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(List.of(firstMessage, secondMessage)).allMatch(m -> m.nacked.get() != null));
+            assertThat(firstMessage.acked).isFalse();
+            verify(domainEventConsumer, never()).onDomainEvent(any());
+        } finally {
+            consumer.destroy();
+        }
+    }
+
+    private static class TrackedMessage<T> {
+
+        private final AtomicBoolean acked = new AtomicBoolean();
+        private final AtomicReference<Throwable> nacked = new AtomicReference<>();
+        private final Message<T> message;
+
+        private TrackedMessage(T payload) {
+            message = Message.of(payload, () -> {
+                acked.set(true);
+                return CompletableFuture.completedFuture(null);
+            }, reason -> {
+                nacked.set(reason);
+                return CompletableFuture.completedFuture(null);
+            });
+        }
     }
 }
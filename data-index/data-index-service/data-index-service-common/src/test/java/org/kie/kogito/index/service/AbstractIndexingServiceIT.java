@@ -206,6 +206,60 @@ public abstract class AbstractIndexingServiceIT extends AbstractIndexingIT {
                         .body("data.ProcessInstances[49].id", is(pIds.get(49))));
     }
 
+    @Test
+    void testProcessInstanceCursorPagination() {
+        String processId = "travels";
+        List<String> pIds = new ArrayList<>();
+
+        IntStream.range(0, 5).forEach(i -> {
+            String pId = UUID.randomUUID().toString();
+            indexProcessCloudEvent(getProcessCloudEvent(processId, pId, ACTIVE, null, null, null));
+            pIds.add(pId);
+            await()
+                    .atMost(timeout)
+                    .untilAsserted(() -> given().contentType(ContentType.JSON).body("{ \"query\" : \"{ProcessInstances { id } }\" }")
+                            .when().post("/graphql")
+                            .then().log().ifValidationFails().statusCode(200)
+                            .body("data.ProcessInstances.size()", is(pIds.size())));
+        });
+
+        String cursor = given().contentType(ContentType.JSON).body("{ \"query\" : \"{ProcessInstances(orderBy : {start: ASC}, pagination: {limit: 3}) { id, cursor } }\" }")
+                .when().post("/graphql")
+                .then().log().ifValidationFails().statusCode(200)
+                .body("data.ProcessInstances.size()", is(3))
+                .body("data.ProcessInstances[2].id", is(pIds.get(2)))
+                .extract().path("data.ProcessInstances[2].cursor");
+
+        given().contentType(ContentType.JSON).body("{ \"query\" : \"{ProcessInstances(orderBy : {start: ASC}, pagination: {limit: 3}, after: \\\"" + cursor + "\\\") { id } }\" }")
+                .when().post("/graphql")
+                .then().log().ifValidationFails().statusCode(200)
+                .body("data.ProcessInstances.size()", is(2))
+                .body("data.ProcessInstances[0].id", is(pIds.get(3)))
+                .body("data.ProcessInstances[1].id", is(pIds.get(4)));
+    }
+
+    @Test
+    void testProcessInstanceCount() {
+        String processId = "travels";
+        indexProcessCloudEvent(getProcessCloudEvent(processId, UUID.randomUUID().toString(), ACTIVE, null, null, null));
+        indexProcessCloudEvent(getProcessCloudEvent(processId, UUID.randomUUID().toString(), COMPLETED, null, null, null));
+
+        await()
+                .atMost(timeout)
+                .untilAsserted(() -> given().contentType(ContentType.JSON).body("{ \"query\" : \"{ProcessInstancesCount}\" }")
+                        .when().post("/graphql")
+                        .then().log().ifValidationFails().statusCode(200)
+                        .body("data.ProcessInstancesCount", is(2)));
+
+        await()
+                .atMost(timeout)
+                .untilAsserted(() -> given().contentType(ContentType.JSON)
+                        .body("{ \"query\" : \"{ProcessInstancesCount(where: {state: {equal: ACTIVE}})}\" }")
+                        .when().post("/graphql")
+                        .then().log().ifValidationFails().statusCode(200)
+                        .body("data.ProcessInstancesCount", is(1)));
+    }
+
     @Test
     void testUserTaskInstancePagination() {
         String processId = "deals";
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.index.DataIndexStorageService;
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.persistence.api.Storage;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.index.Constants.ID;
+import static org.kie.kogito.index.Constants.KOGITO_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.Constants.LAST_UPDATE;
+import static org.kie.kogito.index.Constants.PROCESS_ID;
+import static org.kie.kogito.index.Constants.PROCESS_INSTANCES_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class IndexingServiceTest {
+
+    @Mock
+    DataIndexStorageService manager;
+
+    @Mock
+    Storage<String, ProcessInstance> processInstanceStorage;
+
+    @Mock
+    Storage<String, ObjectNode> domainStorage;
+
+    @InjectMocks
+    IndexingService indexingService;
+
+    @Test
+    public void testIndexProcessInstanceMergesNodes() {
+        when(manager.getProcessInstancesCache()).thenReturn(processInstanceStorage);
+        when(processInstanceStorage.get("pi")).thenReturn(processInstance("pi", "n1", "n2", "n3"));
+        ProcessInstance pi = processInstance("pi", "n3", "n4");
+
+        indexingService.indexProcessInstance(pi);
+
+        verify(processInstanceStorage).put("pi", pi);
+        assertThat(pi.getNodes()).extracting(NodeInstance::getId).containsExactly("n3", "n4", "n1", "n2");
+    }
+
+    @Test
+    public void testIndexProcessInstancesMergesUpdatesOfTheSameInstance() {
+        when(manager.getProcessInstancesCache()).thenReturn(processInstanceStorage);
+        when(processInstanceStorage.getAll(any())).thenReturn(Map.of("pi1", processInstance("pi1", "n1")));
+
+        indexingService.indexProcessInstances(asList(processInstance("pi1", "n2"), processInstance("pi2", "n1"), processInstance("pi1", "n3")));
+
+        ArgumentCaptor<Map<String, ProcessInstance>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(processInstanceStorage).putAll(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys("pi1", "pi2");
+        assertThat(captor.getValue().get("pi1").getNodes()).extracting(NodeInstance::getId).containsExactly("n3", "n2", "n1");
+        assertThat(captor.getValue().get("pi2").getNodes()).extracting(NodeInstance::getId).containsExactly("n1");
+    }
+
+    @Test
+    public void testIndexModelReplacesProcessInstanceById() {
+        when(manager.getDomainModelCache("travels")).thenReturn(domainStorage);
+        when(domainStorage.getRootType()).thenReturn("Travels");
+        ObjectNode model = getObjectMapper().createObjectNode().put(ID, "pi");
+        model.putObject(KOGITO_DOMAIN_ATTRIBUTE).putArray(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE)
+                .add(getObjectMapper().createObjectNode().put(ID, "pi").put("state", 1))
+                .add(getObjectMapper().createObjectNode().put(ID, "sub").put("state", 1));
+        when(domainStorage.get("pi")).thenReturn(model);
+
+        ObjectNode event = getObjectMapper().createObjectNode().put(ID, "pi").put(PROCESS_ID, "travels");
+        ObjectNode kogito = event.putObject(KOGITO_DOMAIN_ATTRIBUTE).put(LAST_UPDATE, 1L);
+        kogito.putArray(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE).add(getObjectMapper().createObjectNode().put(ID, "sub").put("state", 2));
+
+        indexingService.indexModel(event);
+
+        ArgumentCaptor<ObjectNode> captor = ArgumentCaptor.forClass(ObjectNode.class);
+        verify(domainStorage).put(eq("pi"), captor.capture());
+        assertThat(captor.getValue().get(KOGITO_DOMAIN_ATTRIBUTE).get(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE)).hasSize(2);
+        assertThat(captor.getValue().get(KOGITO_DOMAIN_ATTRIBUTE).get(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE).get(1).get("state").asInt()).isEqualTo(2);
+    }
+
+    private static ProcessInstance processInstance(String id, String... nodeIds) {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(id);
+        List<NodeInstance> nodes = new ArrayList<>();
+        for (String nodeId : nodeIds) {
+            NodeInstance node = new NodeInstance();
+            node.setId(nodeId);
+            nodes.add(node);
+        }
+        pi.setNodes(nodes);
+        return pi;
+    }
+}
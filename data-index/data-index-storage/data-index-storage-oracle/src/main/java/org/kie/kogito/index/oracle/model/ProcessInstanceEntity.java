@@ -33,6 +33,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.Type;
@@ -42,6 +43,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.vladmihalcea.hibernate.type.json.JsonBlobType;
 
 @Entity(name = "processes")
+@DynamicUpdate
 @Table(name = "processes")
 @TypeDef(name = "jsonb", typeClass = JsonBlobType.class)
 public class ProcessInstanceEntity extends AbstractEntity {
@@ -70,9 +72,9 @@ public class ProcessInstanceEntity extends AbstractEntity {
     private ZonedDateTime lastUpdate;
     @Type(type = "jsonb")
     private ObjectNode variables;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance", orphanRemoval = true)
     private List<NodeInstanceEntity> nodes;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance", orphanRemoval = true)
     private List<MilestoneEntity> milestones;
     @ElementCollection
     @JoinColumn(name = "process_id")
@@ -32,6 +32,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.Type;
@@ -41,6 +42,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.vladmihalcea.hibernate.type.json.JsonBlobType;
 
 @Entity(name = "tasks")
+@DynamicUpdate
 @TypeDef(name = "jsonb", typeClass = JsonBlobType.class)
 @Table(name = "tasks")
 public class UserTaskInstanceEntity extends AbstractEntity {
@@ -95,9 +97,9 @@ public class UserTaskInstanceEntity extends AbstractEntity {
     @Type(type = "jsonb")
     private ObjectNode outputs;
     private String endpoint;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask", orphanRemoval = true)
     private List<CommentEntity> comments;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask", orphanRemoval = true)
     private List<AttachmentEntity> attachments;
 
     @Override
@@ -15,10 +15,18 @@
  */
 package org.kie.kogito.index.oracle.storage;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Join;
@@ -26,25 +34,36 @@ import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
 
 import org.hibernate.query.criteria.internal.path.PluralAttributePath;
 import org.kie.kogito.index.oracle.model.AbstractEntity;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.NullOrdering;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.api.query.SortDirection;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.smallrye.mutiny.Multi;
 
 import static java.util.stream.Collectors.toList;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withSeek;
 
 public class OracleQuery<E extends AbstractEntity, T> implements Query<T> {
 
+    private static final int STREAM_FETCH_SIZE = 100;
+
     private PanacheRepositoryBase<E, String> repository;
     private Integer limit;
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private Map<String, Object> after;
+    private List<String> projection;
     private Class<E> entityClass;
     private Function<E, T> mapper;
 
@@ -78,13 +97,110 @@ public class OracleQuery<E extends AbstractEntity, T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query<T> after(Map<String, Object> position) {
+        this.after = position;
+        return this;
+    }
+
+    @Override
+    public Query<T> project(List<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
+        List<Field> fields = getProjectedFields();
+        if (fields == null) {
+            return createQuery().getResultList().stream().map(mapper).collect(toList());
+        }
+        return createTupleQuery(fields).getResultList().stream().map(tuple -> toEntity(tuple, fields)).map(mapper).collect(toList());
+    }
+
+    @Override
+    public Multi<T> stream() {
+        List<Field> fields = getProjectedFields();
+        return Multi.createFrom().<Stream<E>, T> resource(() -> fields == null ? createQuery().setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE).getResultStream()
+                : createTupleQuery(fields).setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE).getResultStream().map(tuple -> toEntity(tuple, fields)),
+                results -> Multi.createFrom().items(() -> results.map(mapper)))
+                .withFinalizer(Stream::close);
+    }
+
+    @Override
+    public long count() {
         CriteriaBuilder builder = repository.getEntityManager().getCriteriaBuilder();
-        CriteriaQuery<E> criteriaQuery = builder.createQuery(entityClass);
+        CriteriaQuery<Long> criteriaQuery = builder.createQuery(Long.class);
         Root<E> root = criteriaQuery.from(entityClass);
+        criteriaQuery.select(builder.countDistinct(root));
         if (filters != null && !filters.isEmpty()) {
-            List<Predicate> predicates = getPredicates(builder, root);
+            List<Predicate> predicates = getPredicates(builder, root, filters);
+            criteriaQuery.where(predicates.toArray(new Predicate[] {}));
+        }
+        return repository.getEntityManager().createQuery(criteriaQuery).getSingleResult();
+    }
+
+    private List<AttributeFilter<?>> getFilters() {
+        return withSeek(filters, sortBy, after, NullOrdering.HIGHEST);
+    }
+
+    /**
+     * Resolves the entity fields to be selected for the projection, which can only be pushed down to the database
+     * when every projected attribute is a basic column of the entity. Otherwise, complete entities are loaded.
+     *
+     * @return The fields to be selected, or null if the complete entities must be loaded.
+     */
+    private List<Field> getProjectedFields() {
+        if (projection == null) {
+            return null;
+        }
+        EntityType<E> entityType = repository.getEntityManager().getMetamodel().entity(entityClass);
+        Set<String> attributes = new LinkedHashSet<>(projection);
+        attributes.add(entityType.getId(entityType.getIdType().getJavaType()).getName());
+        List<Field> fields = new ArrayList<>(attributes.size());
+        for (String name : attributes) {
+            Attribute<? super E, ?> attribute = entityType.getAttributes().stream().filter(a -> a.getName().equals(name)).findFirst().orElse(null);
+            if (attribute == null || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                    || !(attribute.getJavaMember() instanceof Field)) {
+                return null;
+            }
+            Field field = (Field) attribute.getJavaMember();
+            field.setAccessible(true);
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private E toEntity(Tuple tuple, List<Field> fields) {
+        try {
+            E entity = entityClass.getDeclaredConstructor().newInstance();
+            for (int i = 0; i < fields.size(); i++) {
+                fields.get(i).set(entity, tuple.get(i));
+            }
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create projection of " + entityClass.getName(), e);
+        }
+    }
+
+    private TypedQuery<E> createQuery() {
+        CriteriaBuilder builder = repository.getEntityManager().getCriteriaBuilder();
+        CriteriaQuery<E> criteriaQuery = builder.createQuery(entityClass);
+        return createQuery(builder, criteriaQuery, criteriaQuery.from(entityClass));
+    }
+
+    private TypedQuery<Tuple> createTupleQuery(List<Field> fields) {
+        CriteriaBuilder builder = repository.getEntityManager().getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = builder.createTupleQuery();
+        Root<E> root = criteriaQuery.from(entityClass);
+        criteriaQuery.multiselect(fields.stream().<Selection<?>> map(field -> root.get(field.getName())).collect(toList()));
+        return createQuery(builder, criteriaQuery, root);
+    }
+
+    private <R> TypedQuery<R> createQuery(CriteriaBuilder builder, CriteriaQuery<R> criteriaQuery, Root<E> root) {
+        List<AttributeFilter<?>> queryFilters = getFilters();
+        if (queryFilters != null && !queryFilters.isEmpty()) {
+            List<Predicate> predicates = getPredicates(builder, root, queryFilters);
             criteriaQuery.where(predicates.toArray(new Predicate[] {}));
         }
         if (sortBy != null && !sortBy.isEmpty()) {
@@ -95,7 +211,7 @@ public class OracleQuery<E extends AbstractEntity, T> implements Query<T> {
             criteriaQuery.orderBy(orderBy);
         }
 
-        javax.persistence.Query query = repository.getEntityManager().createQuery(criteriaQuery);
+        TypedQuery<R> query = repository.getEntityManager().createQuery(criteriaQuery);
 
         if (limit != null) {
             query.setMaxResults(limit);
@@ -103,10 +219,10 @@ public class OracleQuery<E extends AbstractEntity, T> implements Query<T> {
         if (offset != null) {
             query.setFirstResult(offset);
         }
-        return (List<T>) query.getResultList().stream().map(mapper).collect(toList());
+        return query;
     }
 
-    protected List<Predicate> getPredicates(CriteriaBuilder builder, Root<E> root) {
+    protected List<Predicate> getPredicates(CriteriaBuilder builder, Root<E> root, List<AttributeFilter<?>> filters) {
         return filters.stream().map(filterPredicateFunction(root, builder)).collect(toList());
     }
 
@@ -16,6 +16,8 @@
 
 package org.kie.kogito.index.oracle.storage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -23,17 +25,24 @@ import javax.transaction.Transactional;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.model.NodeInstance;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.model.ProcessInstanceState;
+import org.kie.kogito.index.oracle.model.MilestoneEntity;
+import org.kie.kogito.index.oracle.model.NodeInstanceEntity;
 import org.kie.kogito.index.oracle.model.ProcessInstanceEntity;
 import org.kie.kogito.index.oracle.model.ProcessInstanceEntityRepository;
 import org.kie.kogito.index.test.TestUtils;
+import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.StorageService;
 import org.kie.kogito.testcontainers.quarkus.OracleSqlQuarkusTestResource;
 
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
 @QuarkusTest
 @QuarkusTestResource(OracleSqlQuarkusTestResource.class)
 public class ProcessInstanceStorageIT extends AbstractStorageIT<ProcessInstanceEntity, ProcessInstance> {
@@ -71,4 +80,33 @@ public class ProcessInstanceStorageIT extends AbstractStorageIT<ProcessInstanceE
         testStorage(processInstanceId, processInstance1, processInstance2);
     }
 
+    @Test
+    @Transactional
+    public void testProcessInstanceEntityUpdate() {
+        String processInstanceId = UUID.randomUUID().toString();
+        ProcessInstance processInstance1 = TestUtils
+                .createProcessInstance(processInstanceId, RandomStringUtils.randomAlphabetic(5), UUID.randomUUID().toString(),
+                        RandomStringUtils.randomAlphabetic(10), ProcessInstanceState.ACTIVE.ordinal(), 0L);
+        ProcessInstance processInstance2 = TestUtils
+                .createProcessInstance(processInstanceId, processInstance1.getProcessId(), processInstance1.getRootProcessInstanceId(),
+                        processInstance1.getRootProcessId(), ProcessInstanceState.COMPLETED.ordinal(), 1000L);
+        List<NodeInstance> nodes = new ArrayList<>(processInstance2.getNodes());
+        nodes.add(processInstance1.getNodes().get(0));
+        processInstance2.setNodes(nodes);
+
+        Storage<String, ProcessInstance> cache = storage.getCache("cache", ProcessInstance.class);
+        cache.put(processInstanceId, processInstance1);
+        cache.put(processInstanceId, processInstance2);
+        repository.flush();
+        repository.getEntityManager().clear();
+
+        ProcessInstanceEntity entity = repository.findById(processInstanceId);
+        assertThat(entity.getState()).isEqualTo(ProcessInstanceState.COMPLETED.ordinal());
+        assertThat(entity.getProcessName()).isEqualTo(processInstance2.getProcessName());
+        assertThat(entity.getNodes()).extracting(NodeInstanceEntity::getId)
+                .containsExactlyInAnyOrderElementsOf(nodes.stream().map(NodeInstance::getId).collect(toList()));
+        assertThat(entity.getMilestones()).extracting(MilestoneEntity::getId).containsExactly(processInstance2.getMilestones().get(0).getId());
+
+        cache.remove(processInstanceId);
+    }
 }
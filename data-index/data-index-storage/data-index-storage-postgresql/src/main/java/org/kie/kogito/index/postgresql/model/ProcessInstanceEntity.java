@@ -33,6 +33,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.Type;
@@ -42,6 +43,7 @@ import org.kie.kogito.persistence.postgresql.hibernate.JsonBinaryType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 @Entity(name = "processes")
+@DynamicUpdate
 @TypeDef(name = "jsonb", typeClass = JsonBinaryType.class)
 @Table(name = "processes")
 public class ProcessInstanceEntity extends AbstractEntity {
@@ -71,9 +73,9 @@ public class ProcessInstanceEntity extends AbstractEntity {
     @Type(type = "jsonb")
     @Column(columnDefinition = "jsonb")
     private ObjectNode variables;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance", orphanRemoval = true)
     private List<NodeInstanceEntity> nodes;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance", orphanRemoval = true)
     private List<MilestoneEntity> milestones;
     @ElementCollection
     @JoinColumn(name = "process_id")
@@ -81,8 +81,8 @@ public abstract class AbstractStorage<E extends AbstractEntity, V> implements St
     @Override
     @Transactional
     public V put(String key, V value) {
-        repository.deleteById(key);
-        repository.persist(mapToEntity.apply(value));
+        // Merging into the existing rows only writes the changed columns and the added or removed child rows
+        repository.getEntityManager().merge(mapToEntity.apply(value));
         return value;
     }
 
@@ -46,6 +46,9 @@ import org.slf4j.LoggerFactory;
  * The primary hard level penalizes solutions which do not meet the required outcome.
  * The second hard level penalizes solutions which change constrained {@link CounterfactualEntity}.
  * The soft level penalizes solutions according to their distance from the original prediction inputs.
+ * The calculator holds no state, the solver shares a single instance among its move threads when it is configured
+ * with {@link SolverConfigBuilder.Builder#withMoveThreadCount(String)}, each of them scoring its own copy of the solution.
+ * The {@link org.kie.kogito.explainability.model.PredictionProvider} is then invoked concurrently.
  */
 public class CounterFactualScoreCalculator implements EasyScoreCalculator<CounterfactualSolution, BendableBigDecimalScore> {
 
@@ -240,6 +243,9 @@ public class CounterFactualScoreCalculator implements EasyScoreCalculator<Counte
      * This method assumes that each model used as {@link org.kie.kogito.explainability.model.PredictionProvider} is
      * consistent, in the sense that for repeated operations, the size of the returned collection of
      * {@link PredictionOutput} is the same, if the size of {@link PredictionInput} doesn't change.
+     * The candidate solutions are predicted one at a time, {@link CounterfactualExplainer} wraps the model in a
+     * {@link org.kie.kogito.explainability.model.CachingPredictionProvider} so that a revisited solution doesn't
+     * wait for the model again.
      *
      * @param solution Proposed solution
      * @return A {@link BendableBigDecimalScore} with three "hard" levels and one "soft" level
@@ -30,10 +30,12 @@ import org.optaplanner.core.config.solver.SolverManagerConfig;
 public class CounterfactualConfig {
 
     private static final double DEFAULT_GOAL_THRESHOLD = 0.01;
+    private static final int DEFAULT_PREDICTION_CACHE_SIZE = 1000;
 
     private Executor executor = ForkJoinPool.commonPool();
     private SolverConfig solverConfig = SolverConfigBuilder.builder().build();
     private double goalThreshold = DEFAULT_GOAL_THRESHOLD;
+    private int predictionCacheSize = DEFAULT_PREDICTION_CACHE_SIZE;
     private Function<SolverConfig, SolverManager<CounterfactualSolution, UUID>> solverManagerFactory =
             sc -> SolverManager.create(sc, new SolverManagerConfig());
 
@@ -73,4 +75,23 @@ public class CounterfactualConfig {
     public double getGoalThreshold() {
         return goalThreshold;
     }
+
+    /**
+     * Set the number of predictions memoized during a counterfactual search, the local search revisits the same
+     * candidate solutions many times and each of them is then predicted only once. A size of zero disables the cache.
+     *
+     * @param predictionCacheSize the maximum number of predictions kept for each search
+     * @return this configuration
+     */
+    public CounterfactualConfig withPredictionCacheSize(int predictionCacheSize) {
+        if (predictionCacheSize < 0) {
+            throw new IllegalArgumentException("Prediction cache size must not be negative");
+        }
+        this.predictionCacheSize = predictionCacheSize;
+        return this;
+    }
+
+    public int getPredictionCacheSize() {
+        return predictionCacheSize;
+    }
 }
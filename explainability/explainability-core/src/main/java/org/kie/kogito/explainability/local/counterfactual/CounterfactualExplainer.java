@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import org.kie.kogito.explainability.local.LocalExplainer;
 import org.kie.kogito.explainability.local.counterfactual.entities.CounterfactualEntity;
 import org.kie.kogito.explainability.local.counterfactual.entities.CounterfactualEntityFactory;
+import org.kie.kogito.explainability.model.CachingPredictionProvider;
 import org.kie.kogito.explainability.model.CounterfactualPrediction;
 import org.kie.kogito.explainability.model.Feature;
 import org.kie.kogito.explainability.model.Output;
@@ -134,8 +135,15 @@ public class CounterfactualExplainer implements LocalExplainer<CounterfactualRes
         // Original features kept as structural reference to re-assemble composite features
         final List<Feature> originalFeatures = prediction.getInput().getFeatures();
 
+        // Candidate solutions are scored one at a time, the ones revisited by the search are served from the cache,
+        // unless the model is already cached
+        final int predictionCacheSize = this.counterfactualConfig.getPredictionCacheSize();
+        final PredictionProvider scoringModel = predictionCacheSize > 0 && !(model instanceof CachingPredictionProvider)
+                ? new CachingPredictionProvider(model, predictionCacheSize)
+                : model;
+
         Function<UUID, CounterfactualSolution> initial =
-                uuid -> new CounterfactualSolution(entities, originalFeatures, model, goal, UUID.randomUUID(), executionId,
+                uuid -> new CounterfactualSolution(entities, originalFeatures, scoringModel, goal, UUID.randomUUID(), executionId,
                         this.counterfactualConfig.getGoalThreshold());
 
         final CompletableFuture<CounterfactualSolution> cfSolution = CompletableFuture.supplyAsync(() -> {
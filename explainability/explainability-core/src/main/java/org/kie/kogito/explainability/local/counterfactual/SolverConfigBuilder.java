@@ -49,6 +49,7 @@ public class SolverConfigBuilder {
         private TerminationConfig terminationConfig = new TerminationConfig();
         private int tabuSize = DEFAULT_TABU_SIZE;
         private int acceptedCount = DEFAULT_ACCEPTED_COUNT;
+        private String moveThreadCount = SolverConfig.MOVE_THREAD_COUNT_NONE;
 
         private Builder() {
         }
@@ -59,6 +60,7 @@ public class SolverConfigBuilder {
             solverConfig.withEntityClasses(LongEntity.class, IntegerEntity.class, DoubleEntity.class, BooleanEntity.class,
                     CategoricalEntity.class);
             solverConfig.setSolutionClass(CounterfactualSolution.class);
+            solverConfig.setMoveThreadCount(moveThreadCount);
 
             ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig();
             scoreDirectorFactoryConfig.setEasyScoreCalculatorClass(CounterFactualScoreCalculator.class);
@@ -94,6 +96,24 @@ public class SolverConfigBuilder {
             return this;
         }
 
+        /**
+         * Set the number of threads evaluating the moves of each solver, the candidate solutions are then scored
+         * (and predicted) concurrently.
+         *
+         * @param moveThreadCount a number of threads, {@link SolverConfig#MOVE_THREAD_COUNT_AUTO} to let the solver
+         *        choose it from the available processors or {@link SolverConfig#MOVE_THREAD_COUNT_NONE} (the default)
+         *        to evaluate the moves on the solver thread
+         * @return this builder
+         */
+        public Builder withMoveThreadCount(String moveThreadCount) {
+            this.moveThreadCount = moveThreadCount;
+            return this;
+        }
+
+        public Builder withMoveThreadCount(int moveThreadCount) {
+            return withMoveThreadCount(moveThreadCount > 1 ? String.valueOf(moveThreadCount) : SolverConfig.MOVE_THREAD_COUNT_NONE);
+        }
+
         public Builder withTerminationConfig(TerminationConfig terminationConfig) {
             this.terminationConfig = terminationConfig;
             return this;
@@ -16,14 +16,22 @@
 package org.kie.kogito.explainability.local.counterfactual.entities;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.kie.kogito.explainability.model.Feature;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
 
 /**
  * Common class for counterfactual entities
  */
 public abstract class AbstractEntity<T> implements CounterfactualEntity {
 
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+    // Feature names are not unique once composite features are flattened, the move threads of a multithreaded
+    // solver match the entities of their working solutions by this id instead
+    @PlanningId
+    private Long id;
     protected T proposedValue;
     protected String featureName;
     protected boolean constrained;
@@ -33,6 +41,7 @@ public abstract class AbstractEntity<T> implements CounterfactualEntity {
     }
 
     protected AbstractEntity(T originalValue, String featureName, boolean constrained) {
+        this.id = ID_SEQUENCE.incrementAndGet();
         this.proposedValue = originalValue;
         this.originalValue = originalValue;
         this.featureName = featureName;
@@ -15,13 +15,10 @@
  */
 package org.kie.kogito.explainability.local.lime;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 import org.kie.kogito.explainability.model.EncodingParams;
 import org.kie.kogito.explainability.model.Feature;
 import org.kie.kogito.explainability.model.Output;
@@ -59,21 +56,30 @@ class DatasetEncoder {
      *
      * @return a numerical training set
      */
-    List<Pair<double[], Double>> getEncodedTrainingSet() {
-        List<Pair<double[], Double>> trainingSet = new LinkedList<>();
-        List<List<double[]>> columnData;
+    EncodedTrainingSet getEncodedTrainingSet() {
         List<PredictionInput> flatInputs = DataUtils.linearizeInputs(perturbedInputs);
         if (flatInputs.isEmpty() || predictedOutputs.isEmpty() || targetInputFeatures.isEmpty() || originalOutput == null) {
-            return trainingSet;
+            return EncodedTrainingSet.empty();
+        }
+        List<double[][]> columnData = new ArrayList<>(targetInputFeatures.size());
+        for (List<double[]> column : getColumnData(flatInputs)) {
+            columnData.add(column.toArray(new double[0][]));
         }
-        columnData = getColumnData(flatInputs);
 
+        double[][] inputs = new double[predictedOutputs.size()][];
+        double[] outputs = new double[predictedOutputs.size()];
         int pi = 0;
         for (Output output : predictedOutputs) {
-            List<Double> x = new LinkedList<>();
-            for (List<double[]> column : columnData) {
-                double[] doubles = column.get(pi);
-                x.addAll(Arrays.asList(ArrayUtils.toObject(doubles)));
+            int width = 0;
+            for (double[][] column : columnData) {
+                width += column[pi].length;
+            }
+            double[] input = new double[width];
+            int offset = 0;
+            for (double[][] column : columnData) {
+                double[] doubles = column[pi];
+                System.arraycopy(doubles, 0, input, offset, doubles.length);
+                offset += doubles.length;
             }
             double y;
             if (Type.NUMBER.equals(originalOutput.getType()) || Type.BOOLEAN.equals(originalOutput.getType())) {
@@ -87,18 +93,12 @@ class DatasetEncoder {
                     y = originalObject.equals(outputObject) ? 1d : 0d;
                 }
             }
-            double[] input = new double[x.size()];
-            int i = 0;
-            for (Double d : x) {
-                input[i] = d;
-                i++;
-            }
-            Pair<double[], Double> sample = new ImmutablePair<>(input, y);
-            trainingSet.add(sample);
+            inputs[pi] = input;
+            outputs[pi] = y;
 
             pi++;
         }
-        return trainingSet;
+        return new EncodedTrainingSet(inputs, outputs);
     }
 
     List<List<double[]>> getColumnData(List<PredictionInput> perturbedInputs) {
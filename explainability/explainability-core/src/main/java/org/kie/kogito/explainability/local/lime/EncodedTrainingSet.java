@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.explainability.local.lime;
+
+/**
+ * Numerical training set generated by {@link DatasetEncoder}, each sample is a row of the {@code inputs} matrix
+ * associated to the value at the same index of the {@code outputs} vector.
+ */
+class EncodedTrainingSet {
+
+    private double[][] inputs;
+    private double[] outputs;
+
+    EncodedTrainingSet(double[][] inputs, double[] outputs) {
+        if (inputs.length != outputs.length) {
+            throw new IllegalArgumentException("inputs size " + inputs.length + " ≠ outputs size " + outputs.length);
+        }
+        this.inputs = inputs;
+        this.outputs = outputs;
+    }
+
+    static EncodedTrainingSet empty() {
+        return new EncodedTrainingSet(new double[0][], new double[0]);
+    }
+
+    double[][] getInputs() {
+        return inputs;
+    }
+
+    double[] getOutputs() {
+        return outputs;
+    }
+
+    int size() {
+        return outputs.length;
+    }
+
+    boolean isEmpty() {
+        return outputs.length == 0;
+    }
+
+    /**
+     * Remove the samples at the given indexes, the remaining ones keep their relative order.
+     *
+     * @param removed flags telling, for each sample, whether it has to be removed
+     */
+    void remove(boolean[] removed) {
+        int kept = 0;
+        for (int i = 0; i < outputs.length; i++) {
+            if (!removed[i]) {
+                kept++;
+            }
+        }
+        double[][] keptInputs = new double[kept][];
+        double[] keptOutputs = new double[kept];
+        int k = 0;
+        for (int i = 0; i < outputs.length; i++) {
+            if (!removed[i]) {
+                keptInputs[k] = inputs[i];
+                keptOutputs[k] = outputs[i];
+                k++;
+            }
+        }
+        this.inputs = keptInputs;
+        this.outputs = keptOutputs;
+    }
+}
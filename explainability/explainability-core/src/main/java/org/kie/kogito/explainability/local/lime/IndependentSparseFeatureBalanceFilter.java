@@ -18,7 +18,6 @@ package org.kie.kogito.explainability.local.lime;
 import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.kie.kogito.explainability.model.Feature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +50,7 @@ class IndependentSparseFeatureBalanceFilter {
      * @param trainingSet training set for the linear classifier
      */
     void apply(double[] coefficients, List<Feature> linearizedTargetInputFeatures,
-            List<Pair<double[], Double>> trainingSet) {
+            EncodedTrainingSet trainingSet) {
         if (coefficients.length != linearizedTargetInputFeatures.size()) {
             LOGGER.warn("coefficients size {} ≠ features size {}, not filtering", coefficients.length,
                     linearizedTargetInputFeatures.size());
@@ -65,11 +64,13 @@ class IndependentSparseFeatureBalanceFilter {
         // calculate per feature class balance
         double[] zeroPredicted = new double[ts];
         double[] onePredicted = new double[ts];
-        for (Pair<double[], Double> sample : trainingSet) {
-            double[] sparseVector = sample.getKey();
+        double[][] inputs = trainingSet.getInputs();
+        double[] outputs = trainingSet.getOutputs();
+        for (int s = 0; s < inputs.length; s++) {
+            double[] sparseVector = inputs[s];
+            double outputValue = outputs[s];
             for (int i = 0; i < sparseVector.length; i++) {
                 double inputValue = sparseVector[i];
-                Double outputValue = sample.getValue();
                 if (1 == outputValue) {
                     onePredicted[i] += inputValue;
                 } else {
@@ -18,6 +18,8 @@ package org.kie.kogito.explainability.local.lime;
 import java.security.SecureRandom;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.kie.kogito.explainability.model.DataDistribution;
 import org.kie.kogito.explainability.model.EncodingParams;
@@ -152,6 +154,12 @@ public class LimeConfig {
      */
     private int boostrapInputs = DEFAULT_BOOSTRAP_INPUTS;
 
+    /**
+     * The executor used to build the saliencies of the different outputs and to evaluate the candidate features
+     * during forward feature selection in parallel.
+     */
+    private Executor executor = ForkJoinPool.commonPool();
+
     public LimeConfig withSeparableDatasetRatio(double separableDatasetRatio) {
         this.separableDatasetRatio = separableDatasetRatio;
         return this;
@@ -282,6 +290,15 @@ public class LimeConfig {
         return this;
     }
 
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public LimeConfig withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     public LimeConfig copy() {
         return new LimeConfig()
                 .withSeparableDatasetRatio(separableDatasetRatio)
@@ -298,7 +315,8 @@ public class LimeConfig {
                 .withEncodingParams(encodingParams)
                 .withNormalizeWeights(normalizeWeights)
                 .withFeatureSelection(featureSelection)
-                .withNoOfFeatures(noOfFeatures);
+                .withNoOfFeatures(noOfFeatures)
+                .withExecutor(executor);
     }
 
     @Override
@@ -17,17 +17,16 @@ package org.kie.kogito.explainability.local.lime;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.kie.kogito.explainability.local.LocalExplainer;
 import org.kie.kogito.explainability.local.LocalExplanationException;
 import org.kie.kogito.explainability.model.DataDistribution;
@@ -126,7 +125,7 @@ public class LimeExplainer implements LocalExplainer<Map<String, Saliency>> {
                         boolean strict = executionConfig.getNoOfRetries() > 0;
                         List<LimeInputs> limeInputsList = getLimeInputs(linearizedTargetInputFeatures, actualOutputs,
                                 perturbedInputs, predictionOutputs, strict);
-                        return completedFuture(getSaliencies(linearizedTargetInputFeatures, actualOutputs, limeInputsList, executionConfig));
+                        return getSaliencies(linearizedTargetInputFeatures, actualOutputs, limeInputsList, executionConfig);
                     } catch (DatasetNotSeparableException e) {
                         if (executionConfig.getNoOfRetries() > 0) {
                             return adjustAndRetry(model, originalInput, linearizedTargetInputFeatures, actualOutputs, executionConfig);
@@ -187,32 +186,53 @@ public class LimeExplainer implements LocalExplainer<Map<String, Saliency>> {
         return limeInputsList;
     }
 
-    private Map<String, Saliency> getSaliencies(List<Feature> linearizedTargetInputFeatures, List<Output> actualOutputs,
+    /**
+     * Build the saliencies of the different outputs in parallel on the configured executor. Each output gets its own
+     * {@link Random}, seeded by the one of the {@link PerturbationContext} in the outputs order, so that the
+     * explanation is deterministic for a fixed seed.
+     */
+    private CompletableFuture<Map<String, Saliency>> getSaliencies(List<Feature> linearizedTargetInputFeatures, List<Output> actualOutputs,
             List<LimeInputs> limeInputsList, LimeConfig executionConfig) {
-        Map<String, Saliency> result = new HashMap<>();
+        Random random = executionConfig.getPerturbationContext().getRandom();
+        List<CompletableFuture<Saliency>> saliencies = new ArrayList<>(actualOutputs.size());
         for (int o = 0; o < actualOutputs.size(); o++) {
             LimeInputs limeInputs = limeInputsList.get(o);
             Output originalOutput = actualOutputs.get(o);
-
-            getSaliency(linearizedTargetInputFeatures, result, limeInputs, originalOutput, executionConfig);
-            LOGGER.debug("weights set for output {}", originalOutput);
+            Random outputRandom = new Random(random.nextLong());
+            saliencies.add(CompletableFuture
+                    .supplyAsync(() -> getSaliency(linearizedTargetInputFeatures, limeInputs, originalOutput, executionConfig, outputRandom),
+                            executionConfig.getExecutor())
+                    .thenCompose(saliency -> saliency));
         }
-        return result;
+        return CompletableFuture.allOf(saliencies.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    Map<String, Saliency> result = new HashMap<>();
+                    for (CompletableFuture<Saliency> saliency : saliencies) {
+                        Saliency outputSaliency = saliency.join();
+                        result.put(outputSaliency.getOutput().getName(), outputSaliency);
+                        LOGGER.debug("weights set for output {}", outputSaliency.getOutput());
+                    }
+                    return result;
+                });
     }
 
-    private void getSaliency(List<Feature> linearizedTargetInputFeatures, Map<String, Saliency> result,
-            LimeInputs limeInputs, Output originalOutput, LimeConfig executionConfig) {
-        List<FeatureImportance> featureImportanceList = new ArrayList<>();
-
+    private CompletableFuture<Saliency> getSaliency(List<Feature> linearizedTargetInputFeatures, LimeInputs limeInputs,
+            Output originalOutput, LimeConfig executionConfig, Random random) {
         if (executionConfig.isFeatureSelection() && linearizedTargetInputFeatures.size() > executionConfig.getNoOfFeatures()) {
-            linearizedTargetInputFeatures = selectFeatures(executionConfig, limeInputs, linearizedTargetInputFeatures,
-                    originalOutput, executionConfig.getPerturbationContext());
+            return selectFeatures(executionConfig, limeInputs, linearizedTargetInputFeatures, originalOutput, random)
+                    .thenApply(selectedFeatures -> fitSaliency(selectedFeatures, limeInputs, originalOutput, executionConfig, random));
         }
+        return completedFuture(fitSaliency(linearizedTargetInputFeatures, limeInputs, originalOutput, executionConfig, random));
+    }
+
+    private Saliency fitSaliency(List<Feature> linearizedTargetInputFeatures, LimeInputs limeInputs, Output originalOutput,
+            LimeConfig executionConfig, Random random) {
+        List<FeatureImportance> featureImportanceList = new ArrayList<>();
 
         // encode the training data so that it can be fed into the linear model
         DatasetEncoder datasetEncoder = new DatasetEncoder(limeInputs.getPerturbedInputs(), limeInputs.getPerturbedOutputs(),
                 linearizedTargetInputFeatures, originalOutput, executionConfig.getEncodingParams());
-        List<Pair<double[], Double>> trainingSet = datasetEncoder.getEncodedTrainingSet();
+        EncodedTrainingSet trainingSet = datasetEncoder.getEncodedTrainingSet();
 
         // weight the training samples based on the proximity to the target input to explain
         double kernelWidth = executionConfig.getProximityKernelWidth() * Math.sqrt(linearizedTargetInputFeatures.size());
@@ -232,10 +252,9 @@ public class LimeExplainer implements LocalExplainer<Map<String, Saliency>> {
             proximityFilter.apply(trainingSet, sampleWeights);
         }
 
-        LinearModel linearModel = new LinearModel(linearizedTargetInputFeatures.size(), limeInputs.isClassification(),
-                executionConfig.getPerturbationContext().getRandom());
+        LinearModel linearModel = new LinearModel(linearizedTargetInputFeatures.size(), limeInputs.isClassification(), random);
 
-        double loss = linearModel.fit(trainingSet, sampleWeights);
+        double loss = linearModel.fit(trainingSet.getInputs(), trainingSet.getOutputs(), sampleWeights);
         if (!Double.isNaN(loss)) {
             // create the output saliency
             double[] weights = linearModel.getWeights();
@@ -250,86 +269,95 @@ public class LimeExplainer implements LocalExplainer<Map<String, Saliency>> {
                 i++;
             }
         }
-        Saliency saliency = new Saliency(originalOutput, featureImportanceList);
-        result.put(originalOutput.getName(), saliency);
+        return new Saliency(originalOutput, featureImportanceList);
     }
 
-    private List<Feature> selectFeatures(LimeConfig executionConfig, LimeInputs limeInputs, List<Feature> linearizedTargetInputFeatures,
-            Output originalOutput, PerturbationContext perturbationContext) {
+    private CompletableFuture<List<Feature>> selectFeatures(LimeConfig executionConfig, LimeInputs limeInputs, List<Feature> linearizedTargetInputFeatures,
+            Output originalOutput, Random random) {
+        if (linearizedTargetInputFeatures.size() <= 6) {
+            return forwardSelection(executionConfig, limeInputs, originalOutput, random,
+                    new ArrayList<>(linearizedTargetInputFeatures), new ArrayList<>());
+        }
         // encode the training data so that it can be fed into the linear model
         DatasetEncoder datasetEncoder = new DatasetEncoder(limeInputs.getPerturbedInputs(), limeInputs.getPerturbedOutputs(),
                 linearizedTargetInputFeatures, originalOutput, executionConfig.getEncodingParams());
-        List<Pair<double[], Double>> trainingSet = datasetEncoder.getEncodedTrainingSet();
+        EncodedTrainingSet trainingSet = datasetEncoder.getEncodedTrainingSet();
 
         // weight the training samples based on the proximity to the target input to explain
         double kernelWidth = executionConfig.getProximityKernelWidth() * Math.sqrt(linearizedTargetInputFeatures.size());
         double[] sampleWeights = SampleWeighter.getSampleWeights(linearizedTargetInputFeatures, trainingSet, kernelWidth);
 
-        List<Feature> selectedFeatures;
         if (executionConfig.isProximityFilter()) {
             ProximityFilter proximityFilter = new ProximityFilter(executionConfig.getProximityThreshold(),
                     executionConfig.getProximityFilteredDatasetMinimum().doubleValue());
             proximityFilter.apply(trainingSet, sampleWeights);
         }
-        if (linearizedTargetInputFeatures.size() > 6) {
-            // highest weights
-            LinearModel linearModel = new LinearModel(linearizedTargetInputFeatures.size(), limeInputs.isClassification(), perturbationContext.getRandom());
-            double loss = linearModel.fit(trainingSet, sampleWeights);
-            LOGGER.trace("Feature selection loss: {}", loss);
-            double[] weights = linearModel.getWeights();
-            List<FeatureImportance> fis = new ArrayList<>();
-            for (int i = 0; i < weights.length; i++) {
-                fis.add(new FeatureImportance(linearizedTargetInputFeatures.get(i), weights[i]));
-            }
-            List<FeatureImportance> topFeatures = new Saliency(originalOutput, fis).getTopFeatures(limeConfig.getNoOfFeatures());
-            selectedFeatures = topFeatures.stream().map(FeatureImportance::getFeature).collect(Collectors.toList());
-        } else {
-            // forward selection
-            int s = 0;
-            List<Feature> candidates = new ArrayList<>(linearizedTargetInputFeatures);
-            List<Feature> selected = new ArrayList<>();
-            while (s < executionConfig.getNoOfFeatures()) {
-                // for each feature:
-                Map<Feature, Double> scores = new HashMap<>();
-                for (Feature candidateFeature : candidates) {
-                    // 1. add one feature at a time from the candidates
-                    List<Feature> currentFeatures = new ArrayList<>(selected);
-                    currentFeatures.add(candidateFeature);
-                    DatasetEncoder currentDatasetEncoder = new DatasetEncoder(limeInputs.getPerturbedInputs(), limeInputs.getPerturbedOutputs(),
-                            currentFeatures, originalOutput, executionConfig.getEncodingParams());
-                    List<Pair<double[], Double>> currentTrainingSet = currentDatasetEncoder.getEncodedTrainingSet();
-
-                    // weight the training samples based on the proximity to the target input to explain
-                    double currentKernelWidth = executionConfig.getProximityKernelWidth() * Math.sqrt(currentFeatures.size());
-                    double[] currentSampleWeights = SampleWeighter.getSampleWeights(currentFeatures, currentTrainingSet, currentKernelWidth);
-
-                    if (executionConfig.isProximityFilter()) {
-                        ProximityFilter proximityFilter = new ProximityFilter(executionConfig.getProximityThreshold(),
-                                executionConfig.getProximityFilteredDatasetMinimum().doubleValue());
-                        proximityFilter.apply(currentTrainingSet, sampleWeights);
-                    }
+        // highest weights
+        LinearModel linearModel = new LinearModel(linearizedTargetInputFeatures.size(), limeInputs.isClassification(), random);
+        double loss = linearModel.fit(trainingSet.getInputs(), trainingSet.getOutputs(), sampleWeights);
+        LOGGER.trace("Feature selection loss: {}", loss);
+        double[] weights = linearModel.getWeights();
+        List<FeatureImportance> fis = new ArrayList<>();
+        for (int i = 0; i < weights.length; i++) {
+            fis.add(new FeatureImportance(linearizedTargetInputFeatures.get(i), weights[i]));
+        }
+        List<FeatureImportance> topFeatures = new Saliency(originalOutput, fis).getTopFeatures(limeConfig.getNoOfFeatures());
+        return completedFuture(topFeatures.stream().map(FeatureImportance::getFeature).collect(Collectors.toList()));
+    }
 
-                    // 2. train the model
-                    LinearModel currentLinearModel = new LinearModel(currentFeatures.size(), limeInputs.isClassification(), perturbationContext.getRandom());
-                    double candidateLoss = currentLinearModel.fit(currentTrainingSet, currentSampleWeights);
+    /**
+     * Forward feature selection, at each step the candidate features are evaluated in parallel on the configured
+     * executor and the one with the lowest loss is selected. The linear models are created before evaluating the
+     * candidates, in their order, so that the {@link Random} is consumed deterministically.
+     */
+    private CompletableFuture<List<Feature>> forwardSelection(LimeConfig executionConfig, LimeInputs limeInputs, Output originalOutput,
+            Random random, List<Feature> candidates, List<Feature> selected) {
+        if (selected.size() >= executionConfig.getNoOfFeatures() || candidates.isEmpty()) {
+            return completedFuture(selected);
+        }
+        List<CompletableFuture<Double>> losses = new ArrayList<>(candidates.size());
+        for (Feature candidateFeature : candidates) {
+            // 1. add one feature at a time from the candidates
+            List<Feature> currentFeatures = new ArrayList<>(selected);
+            currentFeatures.add(candidateFeature);
+            LinearModel currentLinearModel = new LinearModel(currentFeatures.size(), limeInputs.isClassification(), random);
+            // 2. train the model and record its score
+            losses.add(CompletableFuture.supplyAsync(() -> getCandidateLoss(executionConfig, limeInputs, originalOutput, currentFeatures, currentLinearModel),
+                    executionConfig.getExecutor()));
+        }
+        return CompletableFuture.allOf(losses.toArray(new CompletableFuture[0]))
+                .thenCompose(v -> {
+                    // 3. finally select the top scoring feature, the first one in case of ties
+                    int best = 0;
+                    for (int c = 1; c < candidates.size(); c++) {
+                        if (Double.compare(losses.get(c).join(), losses.get(best).join()) < 0) {
+                            best = c;
+                        }
+                    }
+                    // 4. move it from the candidates to the selected
+                    List<Feature> nextCandidates = new ArrayList<>(candidates);
+                    List<Feature> nextSelected = new ArrayList<>(selected);
+                    nextSelected.add(nextCandidates.remove(best));
+                    return forwardSelection(executionConfig, limeInputs, originalOutput, random, nextCandidates, nextSelected);
+                });
+    }
 
-                    // 3. record its score
-                    scores.put(candidateFeature, candidateLoss);
-                }
-                // 4. finally select the top scoring feature
-                List<Map.Entry<Feature, Double>> sortedEntries = scores.entrySet().stream().sorted(Comparator.comparingDouble(Map.Entry::getValue)).collect(Collectors.toList());
-                Feature selectedFeature = sortedEntries.get(0).getKey();
+    private double getCandidateLoss(LimeConfig executionConfig, LimeInputs limeInputs, Output originalOutput,
+            List<Feature> currentFeatures, LinearModel currentLinearModel) {
+        DatasetEncoder currentDatasetEncoder = new DatasetEncoder(limeInputs.getPerturbedInputs(), limeInputs.getPerturbedOutputs(),
+                currentFeatures, originalOutput, executionConfig.getEncodingParams());
+        EncodedTrainingSet currentTrainingSet = currentDatasetEncoder.getEncodedTrainingSet();
 
-                // 5. remove it from the candidates
-                candidates.removeIf(f -> f.equals(selectedFeature));
+        // weight the training samples based on the proximity to the target input to explain
+        double currentKernelWidth = executionConfig.getProximityKernelWidth() * Math.sqrt(currentFeatures.size());
+        double[] currentSampleWeights = SampleWeighter.getSampleWeights(currentFeatures, currentTrainingSet, currentKernelWidth);
 
-                // 6. add it to the selected
-                selected.add(selectedFeature);
-                s++;
-            }
-            selectedFeatures = selected;
+        if (executionConfig.isProximityFilter()) {
+            ProximityFilter proximityFilter = new ProximityFilter(executionConfig.getProximityThreshold(),
+                    executionConfig.getProximityFilteredDatasetMinimum().doubleValue());
+            proximityFilter.apply(currentTrainingSet, currentSampleWeights);
         }
-        return selectedFeatures;
+        return currentLinearModel.fit(currentTrainingSet.getInputs(), currentTrainingSet.getOutputs(), currentSampleWeights);
     }
 
     private void normalizeWeights(double[] weights) {
@@ -15,11 +15,8 @@
  */
 package org.kie.kogito.explainability.local.lime;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,7 +42,7 @@ class ProximityFilter {
      * @param trainingSet the sparse training set
      * @param sampleWeights the sample weights
      */
-    void apply(List<Pair<double[], Double>> trainingSet, double[] sampleWeights) {
+    void apply(EncodedTrainingSet trainingSet, double[] sampleWeights) {
         if (trainingSet == null || sampleWeights == null) {
             LOGGER.error("applied filter on null training set / weights");
             return;
@@ -54,28 +51,28 @@ class ProximityFilter {
             LOGGER.warn("training set size {} ≠ weights size {}, not filtering", trainingSet.size(), sampleWeights.length);
             return;
         }
-        List<Integer> toRemove = new ArrayList<>();
-        for (int i = trainingSet.size() - 1; i >= 0; i--) {
+        boolean[] toRemove = new boolean[trainingSet.size()];
+        int noOfRemoved = 0;
+        for (int i = 0; i < toRemove.length; i++) {
             if (sampleWeights[i] < proximityThreshold) {
-                toRemove.add(i);
+                toRemove[i] = true;
+                noOfRemoved++;
             }
         }
         boolean enoughSamples;
         double v = proximityFilteredDatasetMinimum;
         if (v % 1 == 0) {
-            enoughSamples = trainingSet.size() - toRemove.size() > v;
+            enoughSamples = trainingSet.size() - noOfRemoved > v;
         } else {
             if (v > 1) {
                 LOGGER.warn("unexpected value for 'Minimum dataset cut' {}, not filtering", v);
                 enoughSamples = false;
             } else {
-                enoughSamples = (double) toRemove.size() / (double) trainingSet.size() >= v;
+                enoughSamples = (double) noOfRemoved / (double) trainingSet.size() >= v;
             }
         }
-        if (!toRemove.isEmpty() && enoughSamples) {
-            for (Integer r : toRemove) {
-                trainingSet.remove(r.intValue());
-            }
+        if (noOfRemoved > 0 && enoughSamples) {
+            trainingSet.remove(toRemove);
             Arrays.fill(sampleWeights, 1);
         }
     }
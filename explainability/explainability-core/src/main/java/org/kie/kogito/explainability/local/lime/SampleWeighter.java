@@ -16,10 +16,8 @@
 package org.kie.kogito.explainability.local.lime;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.kie.kogito.explainability.model.Feature;
 import org.kie.kogito.explainability.utils.DataUtils;
 
@@ -40,15 +38,20 @@ class SampleWeighter {
      * @param kernelWidth the width of the kernel used to calculate the proximity
      * @return a weight for each sample in the training set
      */
-    static double[] getSampleWeights(List<Feature> targetInputFeatures, Collection<Pair<double[], Double>> training,
+    static double[] getSampleWeights(List<Feature> targetInputFeatures, EncodedTrainingSet training,
             double kernelWidth) {
         int noOfFeatures = targetInputFeatures.size();
         double[] x = new double[noOfFeatures];
         Arrays.fill(x, 1);
 
-        return training.stream().map(Pair::getLeft)
-                .map(d -> DataUtils.euclideanDistance(x, d)) // calculate euclidean distance between target and sample points
-                .map(d -> DataUtils.exponentialSmoothingKernel(d, kernelWidth)) // transform distance into proximity using an exponential smoothing kernel
-                .mapToDouble(Double::doubleValue).toArray(); // output to an array
+        double[][] inputs = training.getInputs();
+        double[] weights = new double[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            // calculate euclidean distance between target and sample points
+            double distance = DataUtils.euclideanDistance(x, inputs[i]);
+            // transform distance into proximity using an exponential smoothing kernel
+            weights[i] = DataUtils.exponentialSmoothingKernel(distance, kernelWidth);
+        }
+        return weights;
     }
 }
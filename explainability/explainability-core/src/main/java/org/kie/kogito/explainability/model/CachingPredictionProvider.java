@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.explainability.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link PredictionProvider} decorator that memoizes the outputs of the decorated one.
+ * Inputs are matched by the name, type and value of their features, the inputs already predicted are served from a
+ * bounded cache and the ones repeated within the same batch are delegated only once.
+ */
+public class CachingPredictionProvider implements PredictionProvider {
+
+    /**
+     * The policy used to choose the input to be evicted when the cache is full.
+     */
+    public enum Eviction {
+        /**
+         * Evict the least recently used input.
+         */
+        LRU,
+        /**
+         * Evict the least recently predicted input.
+         */
+        FIFO
+    }
+
+    private final PredictionProvider delegate;
+
+    private final Map<InputKey, PredictionOutput> cache;
+
+    private long hits;
+
+    private long misses;
+
+    public CachingPredictionProvider(PredictionProvider delegate, int maxSize) {
+        this(delegate, maxSize, Eviction.LRU);
+    }
+
+    public CachingPredictionProvider(PredictionProvider delegate, int maxSize, Eviction eviction) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, Eviction.LRU.equals(eviction)) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<InputKey, PredictionOutput> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public CompletableFuture<List<PredictionOutput>> predictAsync(List<PredictionInput> inputs) {
+        PredictionOutput[] outputs = new PredictionOutput[inputs.size()];
+        // the indexes of the inputs to be predicted, grouped by input
+        Map<InputKey, List<Integer>> missing = new LinkedHashMap<>();
+        List<PredictionInput> toPredict = new ArrayList<>();
+        synchronized (cache) {
+            int i = 0;
+            for (PredictionInput input : inputs) {
+                InputKey key = new InputKey(input);
+                PredictionOutput cached = cache.get(key);
+                if (cached != null) {
+                    outputs[i] = cached;
+                    hits++;
+                } else {
+                    missing.computeIfAbsent(key, k -> {
+                        toPredict.add(input);
+                        return new ArrayList<>();
+                    }).add(i);
+                    misses++;
+                }
+                i++;
+            }
+        }
+        if (toPredict.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(outputs));
+        }
+        return delegate.predictAsync(toPredict).thenApply(predicted -> {
+            if (predicted.size() != toPredict.size()) {
+                throw new IllegalStateException("Expected " + toPredict.size() + " prediction outputs, got " + predicted.size());
+            }
+            Iterator<PredictionOutput> predictedIterator = predicted.iterator();
+            synchronized (cache) {
+                for (Map.Entry<InputKey, List<Integer>> entry : missing.entrySet()) {
+                    PredictionOutput output = predictedIterator.next();
+                    cache.put(entry.getKey(), output);
+                    for (Integer index : entry.getValue()) {
+                        outputs[index] = output;
+                    }
+                }
+            }
+            return Arrays.asList(outputs);
+        });
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Canonical representation of a {@link PredictionInput}, comparing array values by content and composite
+     * features by their nested features.
+     */
+    private static class InputKey {
+
+        private final Object[] features;
+        private final int hash;
+
+        private InputKey(PredictionInput input) {
+            this.features = canonical(input.getFeatures());
+            this.hash = Arrays.deepHashCode(features);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Object[] canonical(List<Feature> features) {
+            Object[] canonical = new Object[features.size() * 3];
+            int i = 0;
+            for (Feature feature : features) {
+                Object value = feature.getValue().getUnderlyingObject();
+                canonical[i++] = feature.getName();
+                canonical[i++] = feature.getType();
+                canonical[i++] = Type.COMPOSITE.equals(feature.getType()) && value instanceof List
+                        ? canonical((List<Feature>) value)
+                        : value;
+            }
+            return canonical;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            InputKey that = (InputKey) o;
+            return hash == that.hash && Arrays.deepEquals(features, that.features);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
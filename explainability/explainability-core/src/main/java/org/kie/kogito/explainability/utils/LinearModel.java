@@ -18,7 +18,6 @@ package org.kie.kogito.explainability.utils;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Random;
-import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -55,27 +54,48 @@ public class LinearModel {
     }
 
     public double fit(Collection<Pair<double[], Double>> trainingSet, double[] sampleWeights) {
+        double[][] x = new double[trainingSet.size()][];
+        double[] y = new double[trainingSet.size()];
+        int i = 0;
+        for (Pair<double[], Double> sample : trainingSet) {
+            x[i] = sample.getLeft();
+            y[i] = sample.getRight();
+            i++;
+        }
+        return fit(x, y, sampleWeights);
+    }
+
+    /**
+     * Fit the model on a training set whose samples are the rows of {@code x}, associated to the outputs at the same
+     * index of {@code y}.
+     *
+     * @param x the inputs of the training samples
+     * @param y the outputs of the training samples
+     * @param sampleWeights the weights of the training samples
+     * @return the final loss
+     */
+    public double fit(double[][] x, double[] y, double[] sampleWeights) {
         double finalLoss = Double.NaN;
-        if (trainingSet.isEmpty()) {
+        int size = x.length;
+        if (size == 0) {
             logger.warn("fitting an empty training set");
             Arrays.fill(weights, 0);
             return finalLoss;
         }
+        boolean weighted = size == sampleWeights.length;
         double lr = INITIAL_LEARNING_RATE;
         int e = 0;
         while (checkFinalLoss(finalLoss) && e < MAX_NO_EPOCHS) {
             double loss = 0;
-            int i = 0;
-            for (Pair<double[], Double> sample : trainingSet) {
-                double[] doubles = sample.getLeft();
+            for (int i = 0; i < size; i++) {
+                double[] doubles = x[i];
                 double predictedOutput = predict(doubles);
-                double targetOutput = sample.getRight();
-                double diff = finiteOrZero(targetOutput - predictedOutput);
+                double diff = finiteOrZero(y[i] - predictedOutput);
                 if (diff != 0) { // avoid null updates to save computation
-                    loss += Math.abs(diff) / trainingSet.size();
+                    loss += Math.abs(diff) / size;
                     for (int j = 0; j < weights.length; j++) {
                         double v = lr * diff * doubles[j];
-                        if (trainingSet.size() == sampleWeights.length) {
+                        if (weighted) {
                             v *= sampleWeights[i];
                         }
                         v = finiteOrZero(v);
@@ -83,7 +103,6 @@ public class LinearModel {
                         bias += lr * diff * sampleWeights[i];
                     }
                 }
-                i++;
             }
             lr *= (1d / (1d + DECAY_RATE * e)); // learning rate decay
 
@@ -106,7 +125,10 @@ public class LinearModel {
     }
 
     private double predict(double[] input) {
-        double linearCombination = bias + IntStream.range(0, input.length).mapToDouble(i -> input[i] * weights[i]).sum();
+        double linearCombination = bias;
+        for (int i = 0; i < input.length; i++) {
+            linearCombination += input[i] * weights[i];
+        }
         if (classification) {
             linearCombination = linearCombination >= 0 ? 1 : 0;
         }
@@ -22,7 +22,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.kie.kogito.explainability.local.lime.LimeExplainer;
 import org.kie.kogito.explainability.model.Feature;
 import org.kie.kogito.explainability.model.Output;
@@ -367,14 +366,14 @@ public class TestUtils {
                 minimumPositiveStabilityRate, minimumNegativeStabilityRate));
     }
 
-    public static void fillBalancedDataForFiltering(int size, List<Pair<double[], Double>> trainingSet, double[] weights) {
-        for (int i = 0; i < size; i++) {
+    public static void fillBalancedDataForFiltering(double[][] inputs, double[] outputs, double[] weights) {
+        for (int i = 0; i < inputs.length; i++) {
             double[] x = new double[2];
             for (int j = 0; j < 2; j++) {
                 x[j] = (i + j) % 2 == 0 ? 0 : 1;
             }
-            Double y = i % 3 == 0 ? 0d : 1d;
-            trainingSet.add(Pair.of(x, y));
+            inputs[i] = x;
+            outputs[i] = i % 3 == 0 ? 0d : 1d;
             weights[i] = i % 2 == 0 ? 0.2 : 0.8;
         }
     }
@@ -17,6 +17,7 @@ package org.kie.kogito.explainability.local.counterfactual;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
@@ -849,6 +850,73 @@ class CounterfactualExplainerTest {
         assertTrue(result.isValid());
     }
 
+    /**
+     * Search for a counterfactual in a space of 121 candidate solutions.
+     * Each candidate must be predicted only once, even if the search scores it many times.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2 })
+    void testPredictionCache(int seed) throws ExecutionException, InterruptedException, TimeoutException {
+        final List<Output> goal = List.of(new Output("inside", Type.BOOLEAN, new Value(true), 0.0));
+
+        List<Feature> features = new ArrayList<>();
+        features.add(FeatureFactory.newNumericalFeature("f-num1", 0, NumericalFeatureDomain.create(0, 10)));
+        features.add(FeatureFactory.newNumericalFeature("f-num2", 5, NumericalFeatureDomain.create(0, 10)));
+
+        final PredictionProvider sumModel = TestUtils.getSumThresholdModel(10.0, 0.1);
+        final List<PredictionInput> predicted = Collections.synchronizedList(new ArrayList<>());
+        final PredictionProvider model = inputs -> {
+            predicted.addAll(inputs);
+            return sumModel.predictAsync(inputs);
+        };
+
+        final CounterfactualResult result =
+                runCounterfactualSearch((long) seed, goal, features, model, DEFAULT_GOAL_THRESHOLD);
+
+        assertTrue(result.isValid());
+        // the final counterfactual is predicted once more, outside of the search
+        assertTrue(predicted.size() <= 121 + 1);
+        assertTrue(new HashSet<>(predicted).size() >= predicted.size() - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2 })
+    void testMultithreadedSolving(int seed) throws ExecutionException, InterruptedException, TimeoutException {
+        final List<Output> goal = List.of(new Output("inside", Type.BOOLEAN, new Value(true), 0.0));
+
+        List<Feature> features = new ArrayList<>();
+        features.add(FeatureFactory.newNumericalFeature("f-num1", 0, NumericalFeatureDomain.create(0, 10)));
+        features.add(FeatureFactory.newNumericalFeature("f-num2", 5, NumericalFeatureDomain.create(0, 10)));
+        features.add(FeatureFactory.newBooleanFeature("f-bool", true, EmptyFeatureDomain.create()));
+
+        final TerminationConfig terminationConfig = new TerminationConfig().withScoreCalculationCountLimit(DEFAULT_STEPS);
+        final SolverConfig solverConfig = SolverConfigBuilder
+                .builder().withTerminationConfig(terminationConfig).withMoveThreadCount(2).build();
+        solverConfig.setRandomSeed((long) seed);
+        solverConfig.setEnvironmentMode(EnvironmentMode.REPRODUCIBLE);
+        assertEquals("2", solverConfig.getMoveThreadCount());
+
+        final CounterfactualConfig counterfactualConfig =
+                new CounterfactualConfig().withSolverConfig(solverConfig).withGoalThreshold(DEFAULT_GOAL_THRESHOLD);
+        final CounterfactualExplainer explainer = new CounterfactualExplainer(counterfactualConfig);
+        final Prediction prediction = new CounterfactualPrediction(new PredictionInput(features),
+                new PredictionOutput(goal),
+                null,
+                UUID.randomUUID(),
+                null);
+
+        final CounterfactualResult result = explainer.explainAsync(prediction, TestUtils.getSumThresholdModel(10.0, 0.1))
+                .get(predictionTimeOut, predictionTimeUnit);
+
+        double totalSum = 0;
+        for (CounterfactualEntity entity : result.getEntities()) {
+            totalSum += entity.asFeature().getValue().asNumber();
+        }
+        assertTrue(result.isValid());
+        assertTrue(totalSum <= 10.1);
+        assertTrue(totalSum >= 9.9);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void testTerminationSpentLimitWhenDefined() throws ExecutionException, InterruptedException, TimeoutException {
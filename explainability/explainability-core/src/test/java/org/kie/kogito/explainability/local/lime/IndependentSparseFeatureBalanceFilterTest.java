@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.explainability.TestUtils;
 import org.kie.kogito.explainability.model.Feature;
@@ -37,10 +36,11 @@ class IndependentSparseFeatureBalanceFilterTest {
         double[] copy = Arrays.copyOf(coefficients, 3);
         List<Feature> features = new ArrayList<>(1);
         features.add(TestUtils.getMockedNumericFeature());
-        List<Pair<double[], Double>> trainingSet = new ArrayList<>();
+        double[][] inputs = new double[size][];
+        double[] outputs = new double[size];
         double[] sampleWeights = new double[size];
-        TestUtils.fillBalancedDataForFiltering(size, trainingSet, sampleWeights);
-        filter.apply(coefficients, features, trainingSet);
+        TestUtils.fillBalancedDataForFiltering(inputs, outputs, sampleWeights);
+        filter.apply(coefficients, features, new EncodedTrainingSet(inputs, outputs));
         assertThat(coefficients).isEqualTo(copy);
     }
 
@@ -54,10 +54,11 @@ class IndependentSparseFeatureBalanceFilterTest {
         List<Feature> features = new ArrayList<>(1);
         features.add(TestUtils.getMockedNumericFeature());
         features.add(TestUtils.getMockedNumericFeature());
-        List<Pair<double[], Double>> trainingSet = new ArrayList<>();
+        double[][] inputs = new double[size][];
+        double[] outputs = new double[size];
         double[] sampleWeights = new double[size];
-        TestUtils.fillBalancedDataForFiltering(size, trainingSet, sampleWeights);
-        filter.apply(coefficients, features, trainingSet);
+        TestUtils.fillBalancedDataForFiltering(inputs, outputs, sampleWeights);
+        filter.apply(coefficients, features, new EncodedTrainingSet(inputs, outputs));
         assertThat(coefficients).isNotEqualTo(copy);
     }
 
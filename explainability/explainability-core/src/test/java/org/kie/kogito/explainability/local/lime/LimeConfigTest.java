@@ -15,6 +15,9 @@
  */
 package org.kie.kogito.explainability.local.lime;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.explainability.model.DataDistribution;
 import org.kie.kogito.explainability.model.EncodingParams;
@@ -101,6 +104,17 @@ class LimeConfigTest {
         assertThat(config.isProximityFilter()).isTrue();
     }
 
+    @Test
+    void testExecutor() {
+        LimeConfig config = new LimeConfig();
+        assertThat(config.getExecutor()).isEqualTo(ForkJoinPool.commonPool());
+
+        Executor executor = Runnable::run;
+        config = new LimeConfig().withExecutor(executor);
+        assertThat(config.getExecutor()).isEqualTo(executor);
+        assertThat(config.copy().getExecutor()).isEqualTo(executor);
+    }
+
     @Test
     void testFeatureSelection() {
         LimeConfig config = new LimeConfig().withFeatureSelection(false);
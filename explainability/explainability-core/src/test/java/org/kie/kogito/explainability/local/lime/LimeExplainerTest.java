@@ -21,6 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
@@ -343,4 +346,50 @@ class LimeExplainerTest {
         List<FeatureImportance> filteredFeatureImportance = saliencyMap.get("sum-but0").getPerFeatureImportance();
         assertThat(filteredFeatureImportance.size()).isEqualTo(3);
     }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, 2, 3, 4 })
+    void testParallelForwardSelectionIsDeterministic(long seed) throws ExecutionException, InterruptedException, TimeoutException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<String, Saliency> sequential = explainWithForwardSelection(seed, Runnable::run);
+            Map<String, Saliency> parallel = explainWithForwardSelection(seed, executor);
+            assertThat(parallel.keySet()).isEqualTo(sequential.keySet());
+            for (Map.Entry<String, Saliency> entry : sequential.entrySet()) {
+                List<FeatureImportance> expected = entry.getValue().getPerFeatureImportance();
+                List<FeatureImportance> actual = parallel.get(entry.getKey()).getPerFeatureImportance();
+                assertThat(actual.stream().map(fi -> fi.getFeature().getName()).collect(Collectors.toList()))
+                        .isEqualTo(expected.stream().map(fi -> fi.getFeature().getName()).collect(Collectors.toList()));
+                assertThat(actual.stream().map(FeatureImportance::getScore).collect(Collectors.toList()))
+                        .isEqualTo(expected.stream().map(FeatureImportance::getScore).collect(Collectors.toList()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Saliency> explainWithForwardSelection(long seed, Executor executor)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        List<Feature> features = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            features.add(TestUtils.getMockedNumericFeature(i));
+        }
+        PredictionInput input = new PredictionInput(features);
+        PredictionProvider model = TestUtils.getSumSkipTwoOutputModel(0);
+        PredictionOutput output = model.predictAsync(List.of(input))
+                .get(Config.INSTANCE.getAsyncTimeout(), Config.INSTANCE.getAsyncTimeUnit())
+                .get(0);
+        Prediction prediction = new SimplePrediction(input, output);
+
+        LimeConfig limeConfig = new LimeConfig()
+                .withPerturbationContext(new PerturbationContext(seed, new Random(), DEFAULT_NO_OF_PERTURBATIONS))
+                .withSamples(10)
+                .withFeatureSelection(true)
+                .withNoOfFeatures(3)
+                .withExecutor(executor);
+        Map<String, Saliency> saliencyMap = new LimeExplainer(limeConfig).explainAsync(prediction, model)
+                .get(Config.INSTANCE.getAsyncTimeout(), Config.INSTANCE.getAsyncTimeUnit());
+        assertThat(saliencyMap.size()).isEqualTo(2);
+        return saliencyMap;
+    }
 }
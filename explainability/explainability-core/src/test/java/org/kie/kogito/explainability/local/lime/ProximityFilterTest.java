@@ -15,10 +15,8 @@
  */
 package org.kie.kogito.explainability.local.lime;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.explainability.TestUtils;
 
@@ -31,21 +29,26 @@ class ProximityFilterTest {
     void testFilter() {
         ProximityFilter filter = new ProximityFilter(0.5, 0.1);
         int size = 10;
-        List<Pair<double[], Double>> trainingSet = new ArrayList<>();
+        double[][] inputs = new double[size][];
+        double[] outputs = new double[size];
         double[] weights = new double[size];
-        TestUtils.fillBalancedDataForFiltering(size, trainingSet, weights);
+        TestUtils.fillBalancedDataForFiltering(inputs, outputs, weights);
+        EncodedTrainingSet trainingSet = new EncodedTrainingSet(inputs, outputs);
         filter.apply(trainingSet, weights);
         assertThat(trainingSet.size()).isEqualTo(5);
+        assertThat(trainingSet.getInputs()).hasSize(5);
+        assertThat(trainingSet.getOutputs()).containsExactly(1d, 0d, 1d, 1d, 0d);
     }
 
     @Test
     void testNoFilterWithNonMatchingSizes() {
         ProximityFilter filter = new ProximityFilter(0.5, 0.1);
         int size = 10;
-        List<Pair<double[], Double>> trainingSet = new ArrayList<>();
+        double[][] inputs = new double[size][];
+        double[] outputs = new double[size];
         double[] weights = new double[size];
-        TestUtils.fillBalancedDataForFiltering(size, trainingSet, weights);
-        trainingSet.remove(0);
+        TestUtils.fillBalancedDataForFiltering(inputs, outputs, weights);
+        EncodedTrainingSet trainingSet = new EncodedTrainingSet(Arrays.copyOf(inputs, size - 1), Arrays.copyOf(outputs, size - 1));
         filter.apply(trainingSet, weights);
         assertThat(trainingSet.size()).isEqualTo(9); // filtering doesn't happen because of non matching sizes
     }
@@ -16,11 +16,9 @@
 package org.kie.kogito.explainability.local.lime;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.explainability.TestUtils;
 import org.kie.kogito.explainability.model.Feature;
@@ -32,7 +30,7 @@ class SampleWeighterTest {
 
     @Test
     void testSamplingEmptyDataset() {
-        Collection<Pair<double[], Double>> trainingSet = new LinkedList<>();
+        EncodedTrainingSet trainingSet = EncodedTrainingSet.empty();
         List<Feature> features = new LinkedList<>();
         double[] sampleWeights = SampleWeighter.getSampleWeights(features, trainingSet, 0.5);
         assertEquals(0, sampleWeights.length);
@@ -40,18 +38,18 @@ class SampleWeighterTest {
 
     @Test
     void testSamplingNonEmptyDataset() {
-        Collection<Pair<double[], Double>> trainingSet = new LinkedList<>();
         List<Feature> features = new LinkedList<>();
         for (int i = 0; i < 5; i++) {
             features.add(TestUtils.getMockedNumericFeature(1d));
         }
         // create a dataset whose samples values decrease as the dataset grows (starting from 1)
-        for (int i = 0; i < 10; i++) {
+        double[][] inputs = new double[10][];
+        for (int i = 0; i < inputs.length; i++) {
             double[] vector = new double[features.size()];
             Arrays.fill(vector, 1d / (1d + i));
-            Pair<double[], Double> doubles = Pair.of(vector, 0d);
-            trainingSet.add(doubles);
+            inputs[i] = vector;
         }
+        EncodedTrainingSet trainingSet = new EncodedTrainingSet(inputs, new double[inputs.length]);
         double[] weights = SampleWeighter.getSampleWeights(features, trainingSet, 0.5);
         // check that weights decrease with the distance from the 1 vector (the target instance)
         for (int i = 0; i < weights.length - 1; i++) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.explainability.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.explainability.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingPredictionProviderTest {
+
+    private final List<List<PredictionInput>> delegated = new ArrayList<>();
+
+    private final PredictionProvider model = inputs -> {
+        delegated.add(inputs);
+        List<PredictionOutput> outputs = new ArrayList<>();
+        for (PredictionInput input : inputs) {
+            double sum = input.getFeatures().stream()
+                    .filter(f -> Type.NUMBER.equals(f.getType()))
+                    .mapToDouble(f -> f.getValue().asNumber())
+                    .sum();
+            outputs.add(new PredictionOutput(List.of(new Output("sum", Type.NUMBER, new Value(sum), 1d))));
+        }
+        return CompletableFuture.completedFuture(outputs);
+    };
+
+    @Test
+    void testDeduplicateWithinBatch() throws ExecutionException, InterruptedException, TimeoutException {
+        CachingPredictionProvider provider = new CachingPredictionProvider(model, 10);
+        List<PredictionOutput> outputs = predict(provider, input(1, 2), input(3, 4), input(1, 2));
+
+        assertThat(delegated).hasSize(1);
+        assertThat(delegated.get(0)).containsExactly(input(1, 2), input(3, 4));
+        assertThat(outputs).extracting(this::sum).containsExactly(3d, 7d, 3d);
+        assertThat(provider.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testServeFromCache() throws ExecutionException, InterruptedException, TimeoutException {
+        CachingPredictionProvider provider = new CachingPredictionProvider(model, 10);
+        predict(provider, input(1, 2));
+        List<PredictionOutput> outputs = predict(provider, input(5, 6), input(1, 2));
+
+        assertThat(delegated).hasSize(2);
+        assertThat(delegated.get(1)).containsExactly(input(5, 6));
+        assertThat(outputs).extracting(this::sum).containsExactly(11d, 3d);
+        assertThat(provider.getHits()).isEqualTo(1);
+        assertThat(provider.getMisses()).isEqualTo(2);
+
+        predict(provider, input(1, 2), input(5, 6));
+        assertThat(delegated).hasSize(2);
+    }
+
+    @Test
+    void testVectorFeaturesComparedByContent() throws ExecutionException, InterruptedException, TimeoutException {
+        CachingPredictionProvider provider = new CachingPredictionProvider(model, 10);
+        predict(provider, new PredictionInput(List.of(FeatureFactory.newVectorFeature("v", 1, 2))));
+        predict(provider, new PredictionInput(List.of(FeatureFactory.newVectorFeature("v", 1, 2))));
+
+        assertThat(delegated).hasSize(1);
+    }
+
+    @Test
+    void testLruEviction() throws ExecutionException, InterruptedException, TimeoutException {
+        CachingPredictionProvider provider = new CachingPredictionProvider(model, 2, CachingPredictionProvider.Eviction.LRU);
+        predict(provider, input(1), input(2));
+        predict(provider, input(1));
+        predict(provider, input(3));
+        delegated.clear();
+
+        // the least recently used input was evicted
+        predict(provider, input(1), input(3));
+        assertThat(delegated).isEmpty();
+        predict(provider, input(2));
+        assertThat(delegated).hasSize(1);
+    }
+
+    @Test
+    void testFifoEviction() throws ExecutionException, InterruptedException, TimeoutException {
+        CachingPredictionProvider provider = new CachingPredictionProvider(model, 2, CachingPredictionProvider.Eviction.FIFO);
+        predict(provider, input(1), input(2));
+        predict(provider, input(1));
+        predict(provider, input(3));
+        delegated.clear();
+
+        // the first predicted input was evicted, even if it was used later
+        predict(provider, input(2), input(3));
+        assertThat(delegated).isEmpty();
+        predict(provider, input(1));
+        assertThat(delegated).hasSize(1);
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThatThrownBy(() -> new CachingPredictionProvider(model, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<PredictionOutput> predict(PredictionProvider provider, PredictionInput... inputs)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        return provider.predictAsync(List.of(inputs))
+                .get(Config.INSTANCE.getAsyncTimeout(), Config.INSTANCE.getAsyncTimeUnit());
+    }
+
+    private PredictionInput input(double... values) {
+        List<Feature> features = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            features.add(FeatureFactory.newNumericalFeature("f" + i, values[i]));
+        }
+        return new PredictionInput(features);
+    }
+
+    private double sum(PredictionOutput output) {
+        return output.getOutputs().get(0).getValue().asNumber();
+    }
+}
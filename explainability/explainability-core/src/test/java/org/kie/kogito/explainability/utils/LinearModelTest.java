@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.explainability.utils;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Random;
@@ -80,4 +81,27 @@ class LinearModelTest {
         }
         assertThat(linearModel.fit(trainingSet)).isLessThan(1d);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDenseFitMatchesPairFit() {
+        int size = 10;
+        double[][] x = new double[100][];
+        double[] y = new double[100];
+        Collection<Pair<double[], Double>> trainingSet = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            x[i] = new double[size];
+            for (int j = 0; j < size; j++) {
+                x[i][j] = (double) i / (1d * j + i);
+            }
+            y[i] = DoubleStream.of(x[i]).sum();
+            trainingSet.add(new ImmutablePair<>(x[i], y[i]));
+        }
+        double[] sampleWeights = new double[100];
+        Arrays.fill(sampleWeights, 1);
+
+        LinearModel denseModel = new LinearModel(size, false, new Random(4));
+        LinearModel pairModel = new LinearModel(size, false, new Random(4));
+        assertThat(denseModel.fit(x, y, sampleWeights)).isEqualTo(pairModel.fit(trainingSet)).isLessThan(1d);
+        assertArrayEquals(pairModel.getWeights(), denseModel.getWeights());
+    }
+}
@@ -21,10 +21,12 @@ import java.util.Collection;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.context.ManagedExecutor;
 import org.eclipse.microprofile.context.ThreadContext;
 import org.kie.kogito.explainability.api.HasNameValue;
 import org.kie.kogito.explainability.api.ModelIdentifier;
+import org.kie.kogito.explainability.model.CachingPredictionProvider;
 import org.kie.kogito.explainability.model.PredictionProvider;
 import org.kie.kogito.tracing.typedvalue.TypedValue;
 
@@ -36,27 +38,34 @@ public class PredictionProviderFactoryImpl implements PredictionProviderFactory
     private final Vertx vertx;
     private final ThreadContext threadContext;
     private final ManagedExecutor managedExecutor;
+    private final int predictionCacheSize;
 
     @Inject
     public PredictionProviderFactoryImpl(
             Vertx vertx,
             ThreadContext threadContext,
-            ManagedExecutor managedExecutor) {
+            ManagedExecutor managedExecutor,
+            @ConfigProperty(name = "trusty.explainability.predictionCacheSize", defaultValue = "1000") int predictionCacheSize) {
 
         this.vertx = vertx;
         this.threadContext = threadContext;
         this.managedExecutor = managedExecutor;
+        this.predictionCacheSize = predictionCacheSize;
     }
 
     @Override
     public PredictionProvider createPredictionProvider(String serviceUrl,
             ModelIdentifier modelIdentifier,
             Collection<? extends HasNameValue<TypedValue>> predictionOutputs) {
-        return new RemotePredictionProvider(serviceUrl,
+        PredictionProvider predictionProvider = new RemotePredictionProvider(serviceUrl,
                 modelIdentifier,
                 predictionOutputs,
                 vertx,
                 threadContext,
                 managedExecutor);
+        // the predictions are cached per explanation request, a non positive size disables the cache
+        return predictionCacheSize > 0
+                ? new CachingPredictionProvider(predictionProvider, predictionCacheSize)
+                : predictionProvider;
     }
 }
@@ -24,6 +24,7 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.context.ManagedExecutor;
 import org.kie.kogito.explainability.local.counterfactual.CounterfactualConfig;
 import org.kie.kogito.explainability.local.counterfactual.CounterfactualExplainer;
+import org.kie.kogito.explainability.local.counterfactual.SolverConfigBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,14 +34,18 @@ public class CounterfactualExplainerProducer {
     private static final Logger LOG = LoggerFactory.getLogger(CounterfactualExplainerProducer.class);
 
     private final Double goalThreshold;
+    private final String moveThreadCount;
     private final ManagedExecutor executor;
 
     @Inject
     public CounterfactualExplainerProducer(
             @ConfigProperty(name = "trusty.explainability.counterfactuals.goalThreshold",
                     defaultValue = "0.01") Double goalThreshold,
+            @ConfigProperty(name = "trusty.explainability.counterfactuals.moveThreadCount",
+                    defaultValue = "NONE") String moveThreadCount,
             ManagedExecutor executor) {
         this.goalThreshold = goalThreshold;
+        this.moveThreadCount = moveThreadCount;
         this.executor = executor;
     }
 
@@ -49,6 +54,7 @@ public class CounterfactualExplainerProducer {
         LOG.debug("CounterfactualExplainer created");
         final CounterfactualConfig counterfactualConfig = new CounterfactualConfig()
                 .withGoalThreshold(this.goalThreshold)
+                .withSolverConfig(SolverConfigBuilder.builder().withMoveThreadCount(this.moveThreadCount).build())
                 .withExecutor(executor);
         return new CounterfactualExplainer(counterfactualConfig);
     }
@@ -19,6 +19,7 @@ import org.eclipse.microprofile.context.ManagedExecutor;
 import org.eclipse.microprofile.context.ThreadContext;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.explainability.model.CachingPredictionProvider;
 import org.kie.kogito.explainability.model.PredictionProvider;
 
 import io.vertx.mutiny.core.Vertx;
@@ -32,11 +33,25 @@ class PredictionProviderFactoryImplTest {
         PredictionProviderFactoryImpl factory = new PredictionProviderFactoryImpl(
                 Vertx.vertx(),
                 ThreadContext.builder().build(),
-                ManagedExecutor.builder().build());
+                ManagedExecutor.builder().build(),
+                0);
         PredictionProvider predictionProvider = factory.createPredictionProvider(LIME_REQUEST.getServiceUrl(),
                 LIME_REQUEST.getModelIdentifier(),
                 LIME_REQUEST.getOutputs());
         Assertions.assertNotNull(predictionProvider);
         Assertions.assertTrue(predictionProvider instanceof RemotePredictionProvider);
     }
+
+    @Test
+    void createCachingPredictionProvider() {
+        PredictionProviderFactoryImpl factory = new PredictionProviderFactoryImpl(
+                Vertx.vertx(),
+                ThreadContext.builder().build(),
+                ManagedExecutor.builder().build(),
+                100);
+        PredictionProvider predictionProvider = factory.createPredictionProvider(LIME_REQUEST.getServiceUrl(),
+                LIME_REQUEST.getModelIdentifier(),
+                LIME_REQUEST.getOutputs());
+        Assertions.assertTrue(predictionProvider instanceof CachingPredictionProvider);
+    }
 }
@@ -29,12 +29,13 @@ class CounterfactualExplainerProducerTest {
     @Test
     void produce() {
         final ManagedExecutor executor = SmallRyeManagedExecutor.builder().build();
-        CounterfactualExplainerProducer producer = new CounterfactualExplainerProducer(0.01, executor);
+        CounterfactualExplainerProducer producer = new CounterfactualExplainerProducer(0.01, "2", executor);
         CounterfactualExplainer counterfactualExplainer = producer.produce();
 
         assertNotNull(counterfactualExplainer);
         assertEquals(0.01, counterfactualExplainer.getCounterfactualConfig().getGoalThreshold());
         assertEquals(executor, counterfactualExplainer.getCounterfactualConfig().getExecutor());
+        assertEquals("2", counterfactualExplainer.getCounterfactualConfig().getSolverConfig().getMoveThreadCount());
     }
 
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.executor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Limits the callbacks running at the same time, both per target and in total. Callbacks exceeding the limits are
+ * queued by target, and whenever there is room the targets with queued callbacks are served in round-robin, so a burst
+ * of jobs against one target does not delay the callbacks of the others.
+ */
+class CallbackDispatcher {
+
+    private final int maxInFlightPerTarget;
+
+    private final int maxInFlight;
+
+    private final Map<String, Target> targets = new HashMap<>();
+
+    /**
+     * Targets with queued callbacks that are below their in-flight limit, in the order they are going to be served.
+     */
+    private final Deque<Target> ready = new ArrayDeque<>();
+
+    private int inFlight;
+
+    CallbackDispatcher(int maxInFlightPerTarget, int maxInFlight) {
+        if (maxInFlightPerTarget < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("The in-flight callback limits must be greater than zero");
+        }
+        this.maxInFlightPerTarget = maxInFlightPerTarget;
+        this.maxInFlight = maxInFlight;
+    }
+
+    <T> Uni<T> dispatch(String target, Supplier<Uni<T>> callback) {
+        return Uni.createFrom().emitter(emitter -> enqueue(target, () -> {
+            Uni<T> execution;
+            try {
+                execution = callback.get();
+            } catch (RuntimeException e) {
+                release(target);
+                emitter.fail(e);
+                return;
+            }
+            execution.subscribe().with(item -> {
+                release(target);
+                emitter.complete(item);
+            }, error -> {
+                release(target);
+                emitter.fail(error);
+            });
+        }));
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized int getQueued() {
+        return targets.values().stream().mapToInt(target -> target.queued.size()).sum();
+    }
+
+    private void enqueue(String key, Runnable callback) {
+        synchronized (this) {
+            Target target = targets.computeIfAbsent(key, Target::new);
+            target.queued.add(callback);
+            markReady(target);
+        }
+        drain();
+    }
+
+    private void release(String key) {
+        synchronized (this) {
+            Target target = targets.get(key);
+            inFlight--;
+            target.inFlight--;
+            if (target.queued.isEmpty()) {
+                if (target.inFlight == 0) {
+                    targets.remove(key);
+                }
+            } else {
+                markReady(target);
+            }
+        }
+        drain();
+    }
+
+    private void markReady(Target target) {
+        if (!target.ready && target.inFlight < maxInFlightPerTarget) {
+            target.ready = true;
+            ready.add(target);
+        }
+    }
+
+    private void drain() {
+        //the callbacks are started outside the lock since they might complete synchronously and release their slot
+        List<Runnable> toStart = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < maxInFlight && !ready.isEmpty()) {
+                Target target = ready.poll();
+                toStart.add(target.queued.poll());
+                inFlight++;
+                target.inFlight++;
+                if (!target.queued.isEmpty() && target.inFlight < maxInFlightPerTarget) {
+                    ready.add(target);
+                } else {
+                    target.ready = false;
+                }
+            }
+        }
+        toStart.forEach(Runnable::run);
+    }
+
+    private static class Target {
+
+        private final String key;
+
+        private final Deque<Runnable> queued = new ArrayDeque<>();
+
+        private int inFlight;
+
+        private boolean ready;
+
+        private Target(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String toString() {
+            return "Target{key='" + key + "', queued=" + queued.size() + ", inFlight=" + inFlight + '}';
+        }
+    }
+}
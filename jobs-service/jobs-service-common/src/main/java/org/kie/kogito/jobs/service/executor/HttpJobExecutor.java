@@ -23,6 +23,7 @@ import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.api.URIBuilder;
@@ -32,11 +33,15 @@ import org.kie.kogito.jobs.service.model.JobExecutionResponse;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.Recipient.HTTPRecipient;
 import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.JobServiceMetrics;
 import org.kie.kogito.timer.impl.IntervalTrigger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
@@ -51,8 +56,35 @@ public class HttpJobExecutor implements JobExecutor {
     @Inject
     Vertx vertx;
 
+    /**
+     * Maximum number of connections kept to each target host.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.httpMaxPoolSizePerHost", defaultValue = "10")
+    int maxPoolSizePerHost;
+
+    /**
+     * Maximum number of callbacks running at the same time against each target host, the exceeding ones are queued.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.httpMaxInFlightCallbacksPerHost", defaultValue = "10")
+    int maxInFlightCallbacksPerHost;
+
+    /**
+     * Maximum number of callbacks running at the same time considering all the target hosts.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.httpMaxInFlightCallbacks", defaultValue = "100")
+    int maxInFlightCallbacks;
+
+    /**
+     * Negotiates HTTP/2 with the target hosts, through ALPN or h2c upgrade, falling back to HTTP/1.1 when they do not
+     * support it, so the callbacks to a host are multiplexed over a single connection.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.httpHttp2Enabled", defaultValue = "false")
+    boolean http2Enabled;
+
     private WebClient client;
 
+    CallbackDispatcher dispatcher;
+
     @Inject
     HttpConverters httpConverters;
 
@@ -61,20 +93,34 @@ public class HttpJobExecutor implements JobExecutor {
 
     @PostConstruct
     void initialize() {
-        this.client = WebClient.create(vertx);
+        WebClientOptions options = new WebClientOptions().setMaxPoolSize(maxPoolSizePerHost);
+        if (http2Enabled) {
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(true)
+                    .setHttp2MultiplexingLimit(maxInFlightCallbacksPerHost);
+        }
+        this.client = WebClient.create(vertx, options);
+        this.dispatcher = new CallbackDispatcher(maxInFlightCallbacksPerHost, maxInFlightCallbacks);
     }
 
     private Uni<HttpResponse<Buffer>> executeCallback(HTTPRequestCallback request) {
         LOGGER.debug("Executing callback {}", request);
         final URI uri = URIBuilder.toURI(request.getUrl());
-        final HttpRequest<Buffer> clientRequest = client.request(httpConverters.convertHttpMethod(request.getMethod()),
-                uri.getPort(),
-                uri.getHost(),
-                uri.getPath());
-        Optional.ofNullable(request.getQueryParams())
-                .ifPresent(params -> clientRequest.queryParams().addAll(params));
-
-        return clientRequest.send();
+        final String target = uri.getHost() + ":" + uri.getPort();
+        return dispatcher.dispatch(target, () -> {
+            final HttpRequest<Buffer> clientRequest = client.request(httpConverters.convertHttpMethod(request.getMethod()),
+                    uri.getPort(),
+                    uri.getHost(),
+                    uri.getPath());
+            Optional.ofNullable(request.getQueryParams())
+                    .ifPresent(params -> clientRequest.queryParams().addAll(params));
+            final Timer.Sample sample = JobServiceMetrics.startTimer();
+            return clientRequest.send()
+                    .onItemOrFailure()
+                    .invoke((response, error) -> sample.stop(JobServiceMetrics.callbackLatency(target,
+                            response != null && response.statusCode() == 200)));
+        });
     }
 
     private String getResponseCode(HttpResponse<Buffer> response) {
@@ -15,6 +15,10 @@
  */
 package org.kie.kogito.jobs.service.messaging;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
@@ -28,6 +32,7 @@ import org.kie.kogito.jobs.api.event.JobCloudEvent;
 import org.kie.kogito.jobs.service.exception.JobServiceException;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.ScheduledJob;
+import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.ScheduledJobAdapter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
@@ -46,6 +51,8 @@ public class ReactiveMessagingEventConsumer {
 
     private static final String KOGITO_JOB_SERVICE_JOB_REQUEST_EVENTS = "kogito-job-service-job-request-events";
 
+    private static final String KOGITO_JOB_SERVICE_JOB_REQUEST_BATCH_EVENTS = "kogito-job-service-job-request-batch-events";
+
     @Inject
     TimerDelegateJobScheduler scheduler;
 
@@ -68,6 +75,56 @@ public class ReactiveMessagingEventConsumer {
         }
     }
 
+    /**
+     * Consumes the job requests in batches, e.g. all the records of a Kafka poll. The requests are applied in order,
+     * each run of consecutive creations or cancellations with a single scheduler call.
+     */
+    @Incoming(KOGITO_JOB_SERVICE_JOB_REQUEST_BATCH_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    @Retry(delay = 500, maxRetries = 4)
+    public Uni<Void> onKogitoServiceRequestBatch(Message<List<JobCloudEvent<?>>> message) {
+        Uni<List<JobDetails>> processed = Uni.createFrom().item(Collections.emptyList());
+        List<JobDetails> toCreate = new ArrayList<>();
+        List<String> toCancel = new ArrayList<>();
+        for (JobCloudEvent<?> jobCloudEvent : message.getPayload()) {
+            switch (jobCloudEvent.getType()) {
+                case CREATE_PROCESS_INSTANCE_JOB_REQUEST:
+                    if (!toCancel.isEmpty()) {
+                        processed = cancelAll(processed, toCancel);
+                        toCancel = new ArrayList<>();
+                    }
+                    toCreate.add(ScheduledJobAdapter.to(ScheduledJob.builder().job(((CreateProcessInstanceJobRequestEvent) jobCloudEvent).getData()).build()));
+                    break;
+                case CANCEL_JOB_REQUEST:
+                    if (!toCreate.isEmpty()) {
+                        processed = scheduleAll(processed, toCreate);
+                        toCreate = new ArrayList<>();
+                    }
+                    toCancel.add(((CancelJobRequestEvent) jobCloudEvent).getData().getId());
+                    break;
+                default:
+                    LOGGER.error("Unexpected job request type: {}, for the cloud event: {}", jobCloudEvent.getType(), jobCloudEvent);
+            }
+        }
+        //at most one of the last runs is pending
+        processed = toCreate.isEmpty() ? processed : scheduleAll(processed, toCreate);
+        processed = toCancel.isEmpty() ? processed : cancelAll(processed, toCancel);
+        return processed
+                .onItem().transformToUni(jobs -> Uni.createFrom().completionStage(message.ack()))
+                .onFailure().recoverWithUni(throwable -> {
+                    LOGGER.error("An error was produced during the processing of a batch of {} job requests", message.getPayload().size(), throwable);
+                    return Uni.createFrom().completionStage(message.nack(new JobServiceException("An error was produced during Job batch processing: " + throwable.getMessage(), throwable)));
+                });
+    }
+
+    private Uni<List<JobDetails>> scheduleAll(Uni<List<JobDetails>> processed, List<JobDetails> jobs) {
+        return processed.flatMap(previous -> Uni.createFrom().completionStage(scheduler.scheduleAll(jobs).toList().run()));
+    }
+
+    private Uni<List<JobDetails>> cancelAll(Uni<List<JobDetails>> processed, List<String> ids) {
+        return processed.flatMap(previous -> Uni.createFrom().completionStage(scheduler.cancelAll(ids).toList().run()));
+    }
+
     private Uni<Void> handleEvent(Message<JobCloudEvent<?>> message, CreateProcessInstanceJobRequestEvent event) {
         return Uni.createFrom().completionStage(jobRepository.get(event.getData().getId()))
                 .flatMap(existingJob -> {
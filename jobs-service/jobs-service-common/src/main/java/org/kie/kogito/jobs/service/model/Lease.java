@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.model;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A time bound ownership of a resource shared by the Job Service instances of a cluster.
+ */
+public class Lease {
+
+    private String id;
+    private String owner;
+    private ZonedDateTime expirationTime;
+
+    public Lease() {
+    }
+
+    public Lease(String id, String owner, ZonedDateTime expirationTime) {
+        this.id = id;
+        this.owner = owner;
+        this.expirationTime = expirationTime;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public ZonedDateTime getExpirationTime() {
+        return expirationTime;
+    }
+
+    public boolean isExpired(ZonedDateTime now) {
+        return expirationTime == null || !expirationTime.isAfter(now);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Lease)) {
+            return false;
+        }
+        Lease lease = (Lease) o;
+        return Objects.equals(getId(), lease.getId()) &&
+                Objects.equals(getOwner(), lease.getOwner()) &&
+                Objects.equals(getExpirationTime(), lease.getExpirationTime());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getOwner(), getExpirationTime());
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Lease.class.getSimpleName() + "[", "]")
+                .add("id='" + id + "'")
+                .add("owner='" + owner + "'")
+                .add("expirationTime=" + expirationTime)
+                .toString();
+    }
+}
@@ -17,6 +17,8 @@ package org.kie.kogito.jobs.service.model.job;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.kie.kogito.jobs.service.executor.HttpJobExecutor;
 import org.kie.kogito.timer.Job;
@@ -35,19 +37,35 @@ public class HttpJob implements Job<HttpJobContext> {
 
     private Optional<HttpJobExecutor> executor;
 
+    private Optional<Function<JobDetails, CompletionStage<JobDetails>>> reload;
+
     public HttpJob(HttpJobExecutor executor) {
+        this(executor, null);
+    }
+
+    /**
+     * @param executor the executor of the HTTP request
+     * @param reload the function reading the current state of the job before its execution, which returns null if
+     *        the job must not be executed anymore
+     */
+    public HttpJob(HttpJobExecutor executor, Function<JobDetails, CompletionStage<JobDetails>> reload) {
         this.executor = Optional.ofNullable(executor);
+        this.reload = Optional.ofNullable(reload);
     }
 
     public HttpJob() {
         this.executor = Optional.ofNullable(Arc.container())
                 .map(c -> c.instance(HttpJobExecutor.class))
                 .map(InstanceHandle::get);
+        this.reload = Optional.empty();
     }
 
     @Override
     public void execute(HttpJobContext ctx) {
         LOGGER.info("Executing for context {}", ctx.getJobDetails());
-        executor.ifPresent(e -> e.execute(CompletableFuture.completedFuture(ctx.getJobDetails())).thenAccept(j -> LOGGER.debug("Executed {}", j)));
+        executor.ifPresent(e -> reload.map(r -> r.apply(ctx.getJobDetails()))
+                .orElseGet(() -> CompletableFuture.completedFuture(ctx.getJobDetails()))
+                .thenCompose(job -> job == null ? CompletableFuture.<JobDetails> completedFuture(null) : e.execute(CompletableFuture.completedFuture(job)))
+                .thenAccept(j -> LOGGER.debug("Executed {}", j)));
     }
 }
@@ -41,6 +41,7 @@ public class JobDetails {
     private Recipient recipient;//http callback, event topic
     private Trigger trigger;//when/how it should be executed
     private Type type;
+    private Integer partition;//the cluster partition the job id is hashed to, derived from the id so not part of the equality
 
     public enum Type {
 
@@ -60,7 +61,7 @@ public class JobDetails {
     @SuppressWarnings("java:S107")
     protected JobDetails(String id, String correlationId, JobStatus status, ZonedDateTime lastUpdate, Integer retries,
             Integer executionCounter, String scheduledId, Object payload, Recipient recipient, Trigger trigger,
-            Type type, Integer priority) {
+            Type type, Integer priority, Integer partition) {
         this.id = id;
         this.correlationId = correlationId;
         this.status = status;
@@ -73,6 +74,7 @@ public class JobDetails {
         this.trigger = trigger;
         this.type = type;
         this.priority = priority;
+        this.partition = partition;
     }
 
     public String getId() {
@@ -123,6 +125,10 @@ public class JobDetails {
         return priority;
     }
 
+    public Integer getPartition() {
+        return partition;
+    }
+
     public static JobDetailsBuilder builder() {
         return new JobDetailsBuilder();
     }
@@ -167,6 +173,7 @@ public class JobDetails {
                 .add("recipient=" + recipient)
                 .add("trigger=" + trigger)
                 .add("type=" + type)
+                .add("partition=" + partition)
                 .toString();
     }
 }
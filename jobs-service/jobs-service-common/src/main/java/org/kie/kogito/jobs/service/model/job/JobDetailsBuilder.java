@@ -35,6 +35,7 @@ public class JobDetailsBuilder {
     private Trigger trigger;
     private JobDetails.Type type;
     private Integer priority;
+    private Integer partition;
 
     public JobDetailsBuilder id(String id) {
         this.id = id;
@@ -96,9 +97,14 @@ public class JobDetailsBuilder {
         return this;
     }
 
+    public JobDetailsBuilder partition(Integer partition) {
+        this.partition = partition;
+        return this;
+    }
+
     public JobDetails build() {
         return new JobDetails(id, correlationId, status, lastUpdate, retries, executionCounter, scheduledId, payload,
-                recipient, trigger, type, priority);
+                recipient, trigger, type, priority, partition);
     }
 
     public JobDetailsBuilder of(JobDetails jobDetails) {
@@ -113,7 +119,8 @@ public class JobDetailsBuilder {
                 .recipient(jobDetails.getRecipient())
                 .trigger(jobDetails.getTrigger())
                 .type(jobDetails.getType())
-                .priority(jobDetails.getPriority());
+                .priority(jobDetails.getPriority())
+                .partition(jobDetails.getPartition());
     }
 
     public JobDetailsBuilder incrementRetries() {
@@ -138,6 +145,7 @@ public class JobDetailsBuilder {
                 .type(j.map(JobDetails::getType).orElse(type))
                 .priority(j.map(JobDetails::getPriority).orElse(priority))
                 .payload(j.map(JobDetails::getPayload).orElse(payload))
+                .partition(j.map(JobDetails::getPartition).orElse(partition))
                 .executionCounter(j.map(JobDetails::getExecutionCounter).orElse(executionCounter));
     }
 }
\ No newline at end of file
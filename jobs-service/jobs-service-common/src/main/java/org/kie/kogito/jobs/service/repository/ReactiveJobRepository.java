@@ -16,29 +16,127 @@
 package org.kie.kogito.jobs.service.repository;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Lease;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 
 public interface ReactiveJobRepository {
 
     CompletionStage<JobDetails> save(JobDetails job);
 
+    /**
+     * Saves a batch of jobs with as few writes to the storage as it supports.
+     *
+     * @param jobs The jobs to be created or updated.
+     * @return The saved jobs.
+     */
+    PublisherBuilder<JobDetails> saveAll(List<JobDetails> jobs);
+
+    /**
+     * Creates the job, or replaces the existing one with the same id only when it is in the replaceable status, as a
+     * single atomic operation. A replaced job is published as canceled before the status change of the saved one.
+     *
+     * @param job The job to be saved.
+     * @param replaceableStatus The status the existing job must be in to be replaced.
+     * @return The job existing before the operation, or null when there was none. If the existing job was not in the
+     *         replaceable status the given job was not saved.
+     */
+    CompletionStage<JobDetails> upsert(JobDetails job, JobStatus replaceableStatus);
+
+    /**
+     * Applies the {@link #upsert(JobDetails, JobStatus)} to a batch of jobs with distinct ids, each job is created or
+     * replaced atomically, but not the batch as a whole.
+     *
+     * @param jobs The jobs to be saved.
+     * @param replaceableStatus The status the existing jobs must be in to be replaced.
+     * @return The jobs existing before the operation, the jobs not included were created. The given jobs whose existing
+     *         job was not in the replaceable status were not saved.
+     */
+    CompletionStage<List<JobDetails>> upsertAll(List<JobDetails> jobs, JobStatus replaceableStatus);
+
     CompletionStage<JobDetails> merge(String id, JobDetails job);
 
     CompletionStage<JobDetails> get(String id);
 
+    /**
+     * Gets the existing jobs among the given ids, in any order.
+     *
+     * @param ids The ids of the jobs.
+     * @return The jobs found.
+     */
+    PublisherBuilder<JobDetails> getAll(List<String> ids);
+
     CompletionStage<Boolean> exists(String id);
 
     CompletionStage<JobDetails> delete(String id);
 
     CompletionStage<JobDetails> delete(JobDetails job);
 
-    PublisherBuilder<JobDetails> findByStatus(JobStatus... status);
+    /**
+     * Deletes a batch of jobs with as few writes to the storage as it supports.
+     *
+     * @param jobs The jobs to be deleted, in the state to be published as deleted.
+     * @return The deleted jobs.
+     */
+    PublisherBuilder<JobDetails> deleteAll(List<JobDetails> jobs);
+
+    /**
+     * Finds the jobs with any of the given status through the storage indexes, ordered by the next fire time.
+     *
+     * @param limit The maximum number of jobs to return.
+     * @param status The status of the jobs.
+     * @return The jobs found.
+     */
+    PublisherBuilder<JobDetails> findByStatus(int limit, JobStatus... status);
+
+    default PublisherBuilder<JobDetails> findByStatus(JobStatus... status) {
+        return findByStatus(Integer.MAX_VALUE, status);
+    }
 
     PublisherBuilder<JobDetails> findAll();
 
-    PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, JobStatus... status);
+    default PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, JobStatus... status) {
+        return findByStatusBetweenDatesOrderByPriority(from, to, null, status);
+    }
+
+    /**
+     * Finds the jobs with any of the given status firing between the given dates, restricted to the given cluster
+     * partitions through the storage indexes. The jobs saved without a partition are always included, so they are
+     * still found after the cluster mode is enabled.
+     *
+     * @param from The exclusive lower bound of the next fire time.
+     * @param to The exclusive upper bound of the next fire time.
+     * @param partitions The partitions of the jobs, or null for any partition.
+     * @param status The status of the jobs.
+     * @return The jobs found, ordered by priority.
+     */
+    PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, Set<Integer> partitions,
+            JobStatus... status);
+
+    /**
+     * Acquires or renews a lease for the given owner, which is only granted when the lease does not exist, it has
+     * expired or it is already held by the same owner.
+     *
+     * @param id The lease id.
+     * @param owner The owner requesting the lease.
+     * @param expirationTime The time the lease expires unless it is renewed.
+     * @return true if the lease was granted to the owner.
+     */
+    CompletionStage<Boolean> acquireLease(String id, String owner, ZonedDateTime expirationTime);
+
+    /**
+     * Releases a lease, only if it is held by the given owner.
+     *
+     * @param id The lease id.
+     * @param owner The owner releasing the lease.
+     * @return true if the lease was released.
+     */
+    CompletionStage<Boolean> releaseLease(String id, String owner);
+
+    PublisherBuilder<Lease> findLeases();
 }
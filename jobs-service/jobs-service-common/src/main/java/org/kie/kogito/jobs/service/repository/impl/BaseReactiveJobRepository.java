@@ -15,15 +15,19 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
@@ -49,13 +53,6 @@ public abstract class BaseReactiveJobRepository implements ReactiveJobRepository
         return future;
     }
 
-    @Override
-    public PublisherBuilder<JobDetails> findByStatus(JobStatus... status) {
-        return findAll()
-                .filter(job -> Objects.nonNull(job.getStatus()))
-                .filter(job -> Arrays.stream(status).anyMatch(job.getStatus()::equals));
-    }
-
     @Override
     public CompletionStage<JobDetails> save(JobDetails job) {
         return doSave(job)
@@ -64,12 +61,73 @@ public abstract class BaseReactiveJobRepository implements ReactiveJobRepository
 
     public abstract CompletionStage<JobDetails> doSave(JobDetails job);
 
+    @Override
+    public CompletionStage<JobDetails> upsert(JobDetails job, JobStatus replaceableStatus) {
+        return doUpsert(job, replaceableStatus)
+                .thenApply(previous -> {
+                    publishUpserted(job, previous, replaceableStatus);
+                    return previous;
+                });
+    }
+
+    public abstract CompletionStage<JobDetails> doUpsert(JobDetails job, JobStatus replaceableStatus);
+
+    @Override
+    public CompletionStage<List<JobDetails>> upsertAll(List<JobDetails> jobs, JobStatus replaceableStatus) {
+        if (jobs.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return doUpsertAll(jobs, replaceableStatus)
+                .thenApply(previous -> {
+                    Map<String, JobDetails> previousById = previous.stream().collect(Collectors.toMap(JobDetails::getId, Function.identity()));
+                    jobs.forEach(job -> publishUpserted(job, previousById.get(job.getId()), replaceableStatus));
+                    return previous;
+                });
+    }
+
+    public abstract CompletionStage<List<JobDetails>> doUpsertAll(List<JobDetails> jobs, JobStatus replaceableStatus);
+
+    private void publishUpserted(JobDetails job, JobDetails previous, JobStatus replaceableStatus) {
+        if (previous == null || replaceableStatus.equals(previous.getStatus())) {
+            if (previous != null) {
+                //the replaced job is reported as cancelled, as it was when deleted before saving the new one
+                jobStreams.publishJobStatusChange(JobDetails.builder().of(previous).status(JobStatus.CANCELED).build());
+            }
+            jobStreams.publishJobStatusChange(job);
+        }
+    }
+
+    @Override
+    public PublisherBuilder<JobDetails> saveAll(List<JobDetails> jobs) {
+        if (jobs.isEmpty()) {
+            return ReactiveStreams.empty();
+        }
+        return ReactiveStreams.fromCompletionStage(doSaveAll(jobs))
+                .flatMapIterable(saved -> saved)
+                .map(jobStreams::publishJobStatusChange);
+    }
+
+    public abstract CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs);
+
     @Override
     public CompletionStage<JobDetails> delete(JobDetails job) {
         return delete(job.getId())
                 .thenApply(j -> jobStreams.publishJobStatusChange(job));
     }
 
+    @Override
+    public PublisherBuilder<JobDetails> deleteAll(List<JobDetails> jobs) {
+        if (jobs.isEmpty()) {
+            return ReactiveStreams.empty();
+        }
+        return ReactiveStreams.fromCompletionStage(doDeleteAll(jobs.stream().map(JobDetails::getId).collect(Collectors.toList()))
+                .thenApply(v -> jobs))
+                .flatMapIterable(deleted -> deleted)
+                .map(jobStreams::publishJobStatusChange);
+    }
+
+    public abstract CompletionStage<Void> doDeleteAll(List<String> ids);
+
     @Override
     public CompletionStage<JobDetails> merge(String id, JobDetails jobToMerge) {
         return Optional.ofNullable(id)
@@ -15,13 +15,23 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,10 +41,12 @@ import javax.inject.Inject;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Lease;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobStreams;
 import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.Trigger;
 
 import io.quarkus.arc.DefaultBean;
 import io.vertx.core.Vertx;
@@ -45,6 +57,20 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
 
     private final Map<String, JobDetails> jobMap = new ConcurrentHashMap<>();
 
+    /**
+     * Jobs ordered by (fire time, priority, id), jobs without a next fire time are not indexed.
+     */
+    private final NavigableMap<TimeKey, JobDetails> timeIndex = new ConcurrentSkipListMap<>();
+
+    /**
+     * The {@link TimeKey} each job was indexed with, since the trigger of a stored job might change afterwards.
+     */
+    private final Map<String, TimeKey> timeKeys = new ConcurrentHashMap<>();
+
+    private final Map<JobStatus, Set<String>> statusIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, Lease> leaseMap = new ConcurrentHashMap<>();
+
     public InMemoryJobRepository() {
         super(null, null);
     }
@@ -57,16 +83,58 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
     @Override
     public CompletionStage<JobDetails> doSave(JobDetails job) {
         return runAsync(() -> {
-            jobMap.put(job.getId(), job);
+            put(job);
             return job;
         });
     }
 
+    @Override
+    public CompletionStage<JobDetails> doUpsert(JobDetails job, JobStatus replaceableStatus) {
+        return runAsync(() -> upsertJob(job, replaceableStatus));
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doUpsertAll(List<JobDetails> jobs, JobStatus replaceableStatus) {
+        return runAsync(() -> jobs.stream()
+                .map(job -> upsertJob(job, replaceableStatus))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    private JobDetails upsertJob(JobDetails job, JobStatus replaceableStatus) {
+        AtomicReference<JobDetails> previous = new AtomicReference<>();
+        jobMap.compute(job.getId(), (id, current) -> {
+            previous.set(current);
+            if (current != null && !replaceableStatus.equals(current.getStatus())) {
+                return current;
+            }
+            index(id, current, job);
+            return job;
+        });
+        return previous.get();
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return runAsync(() -> {
+            jobs.forEach(this::put);
+            return jobs;
+        });
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String key) {
         return runAsync(() -> jobMap.get(key));
     }
 
+    @Override
+    public PublisherBuilder<JobDetails> getAll(List<String> ids) {
+        return ReactiveStreams.fromIterable(ids.stream()
+                .map(jobMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public CompletionStage<Boolean> exists(String key) {
         return runAsync(() -> jobMap.containsKey(key));
@@ -74,7 +142,15 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
 
     @Override
     public CompletionStage<JobDetails> delete(String key) {
-        return runAsync(() -> jobMap.remove(key));
+        return runAsync(() -> remove(key));
+    }
+
+    @Override
+    public CompletionStage<Void> doDeleteAll(List<String> ids) {
+        return runAsync(() -> {
+            ids.forEach(this::remove);
+            return null;
+        });
     }
 
     @Override
@@ -83,15 +159,168 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
     }
 
     @Override
-    public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, JobStatus... status) {
+    public PublisherBuilder<JobDetails> findByStatus(int limit, JobStatus... status) {
+        return ReactiveStreams.fromIterable(Arrays.stream(status)
+                .distinct()
+                .map(statusIndex::get)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .sorted(Comparator.<String, TimeKey> comparing(timeKeys::get, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(jobMap::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, Set<Integer> partitions,
+            JobStatus... status) {
+        //fire times are indexed in millis, so the range strictly after from and strictly before to is [from + 1ms, to) in millis
+        long fromMillis = from.toInstant().toEpochMilli() + 1;
+        long toMillis = toCeilingMillis(to.toInstant());
+        if (fromMillis >= toMillis) {
+            return ReactiveStreams.empty();
+        }
         return ReactiveStreams.fromIterable(
-                jobMap.values()
+                timeIndex.subMap(TimeKey.lowest(fromMillis), true, TimeKey.lowest(toMillis), false)
+                        .values()
                         .stream()
                         .filter(j -> Optional.ofNullable(j.getStatus())
                                 .filter(s -> Objects.nonNull(status))
                                 .map(s -> Stream.of(status).anyMatch(s::equals)).orElse(true))
-                        .filter(j -> DateUtil.fromDate(j.getTrigger().hasNextFireTime()).isAfter(from) && DateUtil.fromDate(j.getTrigger().hasNextFireTime()).isBefore(to))
+                        .filter(j -> partitions == null || j.getPartition() == null || partitions.contains(j.getPartition()))
                         .sorted(Comparator.comparing(JobDetails::getPriority).reversed())
                         .collect(Collectors.toList()));
     }
+
+    private void put(JobDetails job) {
+        jobMap.compute(job.getId(), (id, previous) -> {
+            index(id, previous, job);
+            return job;
+        });
+    }
+
+    private void index(String id, JobDetails previous, JobDetails job) {
+        unindex(id, previous);
+        Optional.ofNullable(job.getTrigger())
+                .map(Trigger::hasNextFireTime)
+                .map(Date::getTime)
+                .map(time -> new TimeKey(time, job.getPriority(), id))
+                .ifPresent(key -> {
+                    timeKeys.put(id, key);
+                    timeIndex.put(key, job);
+                });
+        Optional.ofNullable(job.getStatus())
+                .ifPresent(s -> statusIndex.computeIfAbsent(s, k -> ConcurrentHashMap.newKeySet()).add(id));
+    }
+
+    private JobDetails remove(String id) {
+        AtomicReference<JobDetails> removed = new AtomicReference<>();
+        jobMap.computeIfPresent(id, (key, previous) -> {
+            unindex(key, previous);
+            removed.set(previous);
+            return null;
+        });
+        return removed.get();
+    }
+
+    private void unindex(String id, JobDetails previous) {
+        Optional.ofNullable(timeKeys.remove(id)).ifPresent(timeIndex::remove);
+        Optional.ofNullable(previous)
+                .map(JobDetails::getStatus)
+                .map(statusIndex::get)
+                .ifPresent(ids -> ids.remove(id));
+    }
+
+    private static long toCeilingMillis(Instant instant) {
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % TimeUnit.MILLISECONDS.toNanos(1) == 0 ? millis : millis + 1;
+    }
+
+    @Override
+    public CompletionStage<Boolean> acquireLease(String id, String owner, ZonedDateTime expirationTime) {
+        return runAsync(() -> {
+            ZonedDateTime now = DateUtil.now();
+            AtomicBoolean acquired = new AtomicBoolean();
+            leaseMap.compute(id, (key, lease) -> {
+                if (lease == null || lease.isExpired(now) || owner.equals(lease.getOwner())) {
+                    acquired.set(true);
+                    return new Lease(id, owner, expirationTime);
+                }
+                return lease;
+            });
+            return acquired.get();
+        });
+    }
+
+    @Override
+    public CompletionStage<Boolean> releaseLease(String id, String owner) {
+        return runAsync(() -> {
+            AtomicBoolean released = new AtomicBoolean();
+            leaseMap.computeIfPresent(id, (key, lease) -> {
+                if (owner.equals(lease.getOwner())) {
+                    released.set(true);
+                    return null;
+                }
+                return lease;
+            });
+            return released.get();
+        });
+    }
+
+    @Override
+    public PublisherBuilder<Lease> findLeases() {
+        return ReactiveStreams.fromIterable(leaseMap.values());
+    }
+
+    /**
+     * Key of the time index, ordering by fire time, then by priority in descending order and finally by id.
+     */
+    static final class TimeKey implements Comparable<TimeKey> {
+
+        private static final Comparator<TimeKey> COMPARATOR = Comparator.comparingLong((TimeKey key) -> key.fireTime)
+                .thenComparing(key -> key.priority, Comparator.reverseOrder())
+                .thenComparing(key -> key.id);
+
+        private final long fireTime;
+
+        private final int priority;
+
+        private final String id;
+
+        TimeKey(long fireTime, Integer priority, String id) {
+            this.fireTime = fireTime;
+            this.priority = Optional.ofNullable(priority).orElse(0);
+            this.id = id;
+        }
+
+        /**
+         * The key preceding all the keys of jobs firing at the given time.
+         */
+        static TimeKey lowest(long fireTime) {
+            return new TimeKey(fireTime, Integer.MAX_VALUE, "");
+        }
+
+        @Override
+        public int compareTo(TimeKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimeKey)) {
+                return false;
+            }
+            TimeKey timeKey = (TimeKey) o;
+            return fireTime == timeKey.fireTime && priority == timeKey.priority && id.equals(timeKey.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fireTime, priority, id);
+        }
+    }
 }
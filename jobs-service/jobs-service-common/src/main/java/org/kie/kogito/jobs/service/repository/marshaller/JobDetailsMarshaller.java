@@ -77,6 +77,7 @@ public class JobDetailsMarshaller {
         private Map<String, Object> recipient;
         private Map<String, Object> trigger;
         private String type;
+        private Integer partition;
 
         public JobDetailsAccessor() {
         }
@@ -94,6 +95,7 @@ public class JobDetailsMarshaller {
             this.recipient = Optional.ofNullable(jobDetails.getRecipient()).map(r -> recipientMarshaller.marshall(r).getMap()).orElse(null);
             this.trigger = Optional.ofNullable(jobDetails.getTrigger()).map(t -> triggerMarshaller.marshall(t).getMap()).orElse(null);
             this.type = Optional.ofNullable(jobDetails.getType()).map(Enum::name).orElse(null);
+            this.partition = jobDetails.getPartition();
         }
 
         public JobDetails to(RecipientMarshaller recipientMarshaller, TriggerMarshaller triggerMarshaller) {
@@ -108,6 +110,7 @@ public class JobDetailsMarshaller {
                     .payload(Optional.ofNullable(this.payload).map(p -> new JsonObject(p).toString()).orElse(null))
                     .type(Optional.ofNullable(this.type).map(JobDetails.Type::valueOf).orElse(null))
                     .priority(this.priority)
+                    .partition(this.partition)
                     .recipient(Optional.ofNullable(this.recipient).map(r -> recipientMarshaller.unmarshall(new JsonObject(r))).orElse(null))
                     .trigger(Optional.ofNullable(this.trigger).map(t -> triggerMarshaller.unmarshall(new JsonObject(t))).orElse(null))
                     .build();
@@ -208,5 +211,13 @@ public class JobDetailsMarshaller {
         public void setType(String type) {
             this.type = type;
         }
+
+        public Integer getPartition() {
+            return partition;
+        }
+
+        public void setPartition(Integer partition) {
+            this.partition = partition;
+        }
     }
 }
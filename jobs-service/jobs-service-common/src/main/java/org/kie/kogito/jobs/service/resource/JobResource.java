@@ -15,9 +15,11 @@
  */
 package org.kie.kogito.jobs.service.resource;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -52,6 +54,7 @@ public class JobResource {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobResource.class);
     @SuppressWarnings("squid:S1075")
     public static final String JOBS_PATH = "/jobs";
+    public static final String BATCH_PATH = "/batch";
 
     @Inject
     TimerDelegateJobScheduler scheduler;
@@ -71,6 +74,20 @@ public class JobResource {
                 .thenApply(j -> j.orElseThrow(() -> new RuntimeException("Failed to schedule job " + job)));
     }
 
+    @POST
+    @Path(BATCH_PATH)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public CompletionStage<List<ScheduledJob>> createAll(List<Job> jobs) {
+        LOGGER.debug("REST create {} jobs", jobs.size());
+        return scheduler.scheduleAll(jobs.stream()
+                .map(job -> ScheduledJobAdapter.to(ScheduledJob.builder().job(job).build()))
+                .collect(Collectors.toList()))
+                .map(ScheduledJobAdapter::of)
+                .toList()
+                .run();
+    }
+
     @PATCH
     @Path("/{id}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -110,6 +127,18 @@ public class JobResource {
                         .orElseThrow(() -> new NotFoundException("Failed to cancel job scheduling for jobId " + id)));
     }
 
+    @DELETE
+    @Path(BATCH_PATH)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public CompletionStage<List<ScheduledJob>> deleteAll(List<String> ids) {
+        LOGGER.debug("REST delete {} jobs", ids.size());
+        return scheduler.cancelAll(ids)
+                .map(ScheduledJobAdapter::of)
+                .toList()
+                .run();
+    }
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @Path("/{id}")
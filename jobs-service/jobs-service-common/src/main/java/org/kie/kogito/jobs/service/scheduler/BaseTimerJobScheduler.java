@@ -18,13 +18,22 @@ package org.kie.kogito.jobs.service.scheduler;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
@@ -34,6 +43,7 @@ import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.ManageableJobHandle;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.jobs.service.utils.JobServiceMetrics;
 import org.kie.kogito.timer.JobHandle;
 import org.kie.kogito.timer.Trigger;
 import org.kie.kogito.timer.impl.PointInTimeTrigger;
@@ -89,20 +99,162 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
     @Override
     public Publisher<JobDetails> schedule(JobDetails job) {
         LOGGER.debug("Scheduling {}", job);
-        return ReactiveStreams
-                //check if the job is already scheduled and persisted
-                .fromCompletionStage(jobRepository.exists(job.getId()))
-                .flatMap(exists -> Boolean.TRUE.equals(exists)
-                        ? handleExistingJob(job)
-                        : ReactiveStreams.of(job))
-                .flatMap(j -> isOnCurrentSchedulerChunk(job)
-                        //in case the job is on the current bulk, proceed with scheduling process
-                        ? doJobScheduling(job)
-                        //in case the job is not on the current bulk, just save it to be scheduled later
-                        : ReactiveStreams.fromCompletionStage(jobRepository.save(jobWithStatus(job, JobStatus.SCHEDULED))))
+        JobDetails partitioned = assignPartition(job);
+        PublisherBuilder<JobDetails> prepared = isOnCurrentSchedulerChunk(partitioned) && isOwned(partitioned)
+                //in case the job is on the current bulk, proceed with scheduling process
+                ? scheduleTimer(partitioned)
+                //in case the job is not on the current bulk or belongs to another instance, just save it to be scheduled later
+                : ReactiveStreams.of(jobWithStatus(partitioned, JobStatus.SCHEDULED));
+        return prepared
+                //a single atomic write saves the job, unless it already exists in a status other than scheduled
+                .flatMap(scheduled -> ReactiveStreams.fromCompletionStage(jobRepository.upsert(scheduled, JobStatus.SCHEDULED)
+                        .thenApply(Optional::ofNullable))
+                        .onErrorResumeWith(e -> ReactiveStreams.fromCompletionStage(cancelTimer(scheduled).toList().run())
+                                .flatMap(cancelled -> ReactiveStreams.<Optional<JobDetails>> failed(e)))
+                        .flatMap(previous -> handlePreviousJob(scheduled, previous)))
                 .buildRs();
     }
 
+    /**
+     * Handles the job existing before the scheduled one was saved. A previous scheduled job was replaced, so its timer is
+     * cancelled, otherwise the new job was not saved and its timer is cancelled instead.
+     */
+    private PublisherBuilder<JobDetails> handlePreviousJob(JobDetails scheduled, Optional<JobDetails> previous) {
+        if (!previous.isPresent()) {
+            return ReactiveStreams.of(scheduled);
+        }
+        JobDetails existing = previous.get();
+        if (isReplaceable(existing)) {
+            //the replaced job was published as canceled by the repository
+            return cancelReplacedTimer(scheduled, jobWithStatus(existing, JobStatus.CANCELED));
+        }
+        return ReactiveStreams.fromCompletionStage(cancelTimer(scheduled).toList().run())
+                .flatMap(cancelled -> JobStatus.RETRY.equals(existing.getStatus())
+                        ? handleRetry(CompletableFuture.completedFuture(existing))
+                                .flatMap(retryJob -> ReactiveStreams.<JobDetails> empty())
+                        //empty to break the stream processing
+                        : ReactiveStreams.<JobDetails> empty());
+    }
+
+    /**
+     * Schedules a batch of jobs with a single conditional write to the repository. As in the
+     * {@link #schedule(JobDetails)}, the timers are registered first, existing jobs are only replaced when they are
+     * still scheduled, and the previous job of each one is handled in the same way. In case the write fails the new
+     * timers are cancelled. A job id repeated in the batch is scheduled once, with its last occurrence.
+     *
+     * @param jobs the jobs to be scheduled
+     * @return the scheduled jobs
+     */
+    public PublisherBuilder<JobDetails> scheduleAll(List<JobDetails> jobs) {
+        LOGGER.debug("Scheduling {} jobs", jobs.size());
+        Collection<JobDetails> unique = jobs.stream()
+                .collect(Collectors.toMap(JobDetails::getId, Function.identity(), (first, last) -> last, LinkedHashMap::new))
+                .values();
+        //the jobs already registered keep their registration when the write fails, since their timers are kept
+        Set<String> registered = unique.stream()
+                .map(JobDetails::getId)
+                .filter(id -> scheduled(id).isPresent())
+                .collect(Collectors.toSet());
+        return ReactiveStreams.fromCompletionStage(ReactiveStreams.fromIterable(unique)
+                .map(this::assignPartition)
+                .flatMap(job -> isOnCurrentSchedulerChunk(job) && isOwned(job)
+                        ? prepareJobScheduling(job)
+                        : ReactiveStreams.of(jobWithStatus(job, JobStatus.SCHEDULED)))
+                .toList()
+                .run())
+                .flatMap(prepared -> upsertAllScheduled(prepared, registered));
+    }
+
+    private PublisherBuilder<JobDetails> upsertAllScheduled(List<JobDetails> prepared, Set<String> registered) {
+        return ReactiveStreams.fromCompletionStage(jobRepository.upsertAll(prepared, JobStatus.SCHEDULED)
+                .thenApply(previous -> previous.stream().collect(Collectors.toMap(JobDetails::getId, Function.identity()))))
+                .onErrorResumeWith(e -> ReactiveStreams.fromCompletionStage(ReactiveStreams.fromIterable(prepared)
+                        .flatMap(job -> rollbackTimer(job, registered.contains(job.getId())))
+                        .toList()
+                        .run())
+                        .flatMap(rolledBack -> ReactiveStreams.<Map<String, JobDetails>> failed(e)))
+                .flatMap(previous -> ReactiveStreams.fromIterable(prepared)
+                        .flatMap(job -> handlePreviousJob(job, Optional.ofNullable(previous.get(job.getId())))));
+    }
+
+    /**
+     * Cancels the timer of a scheduled job replaced by a saved one. When the new job has a timer it is registered with
+     * the same job id, so only the timer of the replaced job is removed, otherwise the registration is removed as well
+     * for the new job to be scheduled by the loader.
+     */
+    private PublisherBuilder<JobDetails> cancelReplacedTimer(JobDetails job, JobDetails replaced) {
+        if (!hasLocalTimer(replaced)) {
+            return ReactiveStreams.of(job);
+        }
+        PublisherBuilder<?> cancel = hasLocalTimer(job) ? ReactiveStreams.fromPublisher(doCancel(replaced)) : cancelTimer(replaced);
+        return ReactiveStreams.fromCompletionStage(cancel.toList().run()).map(cancelled -> job);
+    }
+
+    /**
+     * Cancels the timer of a job that could not be saved, a job registered before keeps its registration as the timer
+     * of the job it should have replaced is kept.
+     */
+    private PublisherBuilder<JobDetails> rollbackTimer(JobDetails job, boolean registered) {
+        if (!hasLocalTimer(job)) {
+            return ReactiveStreams.of(job);
+        }
+        if (!registered) {
+            unregisterScheduledJob(job);
+        }
+        return ReactiveStreams.fromCompletionStage(ReactiveStreams.fromPublisher(doCancel(job)).toList().run()).map(cancelled -> job);
+    }
+
+    private boolean hasLocalTimer(JobDetails job) {
+        //the scheduled id of a job owned by another instance does not refer to a local timer
+        return job != null && job.getScheduledId() != null && isOwned(job);
+    }
+
+    private boolean isReplaceable(JobDetails existing) {
+        if (existing == null || JobStatus.SCHEDULED.equals(existing.getStatus())) {
+            return true;
+        }
+        LOGGER.info("A Job in status: {} already exists for the job id: {}, it will not be scheduled", existing.getStatus(), existing.getId());
+        return false;
+    }
+
+    /**
+     * Schedules the job on the in-memory scheduler, leaving the persistence to the caller.
+     */
+    private PublisherBuilder<JobDetails> prepareJobScheduling(JobDetails job) {
+        if (calculateDelay(DateUtil.fromDate(job.getTrigger().hasNextFireTime())).isNegative()) {
+            LOGGER.error("The expirationTime should be greater than current time, job {} will not be scheduled", job);
+            return ReactiveStreams.empty();
+        }
+        return scheduleRegistering(job, Optional.empty())
+                .map(handle -> jobWithStatusAndHandle(job, JobStatus.SCHEDULED, handle));
+    }
+
+    /**
+     * Cancels a batch of jobs with a single lookup of the existing jobs and a single write to the repository.
+     *
+     * @param ids the ids of the jobs to be cancelled
+     * @return the cancelled jobs, the ids not found are ignored
+     */
+    public PublisherBuilder<JobDetails> cancelAll(List<String> ids) {
+        LOGGER.debug("Cancelling {} jobs", ids.size());
+        return ReactiveStreams.fromCompletionStage(jobRepository.getAll(ids)
+                .map(job -> jobWithStatus(job, JobStatus.CANCELED))
+                .flatMap(this::cancelTimer)
+                .toList()
+                .run())
+                .flatMap(jobRepository::deleteAll);
+    }
+
+    /**
+     * Removes the job from the in-memory scheduler only, the repository is not changed.
+     */
+    private PublisherBuilder<JobDetails> cancelTimer(JobDetails job) {
+        unregisterScheduledJob(job);
+        return hasLocalTimer(job)
+                ? ReactiveStreams.fromPublisher(doCancel(job)).map(handle -> job)
+                : ReactiveStreams.of(job);
+    }
+
     @Override
     public PublisherBuilder<JobDetails> reschedule(String id, Trigger trigger) {
         return ReactiveStreams.fromCompletionStageNullable(jobRepository.merge(id, JobDetails.builder().trigger(trigger).build()))
@@ -126,6 +278,16 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
      * @return
      */
     private PublisherBuilder<JobDetails> doJobScheduling(JobDetails job) {
+        return scheduleTimer(job)
+                .map(scheduledJob -> jobRepository.save(scheduledJob))
+                .flatMapCompletionStage(p -> p);
+    }
+
+    /**
+     * Schedules the job on the in-memory scheduler, failing in case it is expired, and leaving the persistence to the
+     * caller.
+     */
+    private PublisherBuilder<JobDetails> scheduleTimer(JobDetails job) {
         return ReactiveStreams.of(job)
                 //calculate the delay (when the job should be executed)
                 .map(current -> job.getTrigger().hasNextFireTime())
@@ -139,9 +301,7 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                 //schedule the job on the scheduler
                 .map(delay -> scheduleRegistering(job, Optional.empty()))
                 .flatMap(p -> p)
-                .map(handle -> jobWithStatusAndHandle(job, JobStatus.SCHEDULED, handle))
-                .map(scheduledJob -> jobRepository.save(scheduledJob))
-                .flatMapCompletionStage(p -> p);
+                .map(handle -> jobWithStatusAndHandle(job, JobStatus.SCHEDULED, handle));
     }
 
     /**
@@ -153,28 +313,46 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         return DateUtil.fromDate(job.getTrigger().hasNextFireTime()).isBefore(DateUtil.now().plusMinutes(schedulerChunkInMinutes));
     }
 
-    private PublisherBuilder<JobDetails> handleExistingJob(JobDetails job) {
-        //always returns true, canceling in case the job is already schedule
-        return ReactiveStreams.fromCompletionStage(jobRepository.get(job.getId()))
-                //handle scheduled and retry cases
-                .flatMap(
-                        j -> {
-                            switch (j.getStatus()) {
-                                case SCHEDULED:
-                                    return handleExpirationTime(j)
-                                            .map(scheduled -> jobWithStatus(scheduled, JobStatus.CANCELED))
-                                            .map(CompletableFuture::completedFuture)
-                                            .flatMapCompletionStage(this::cancel)
-                                            .map(deleted -> j);
-                                case RETRY:
-                                    return handleRetry(CompletableFuture.completedFuture(j))
-                                            .flatMap(retryJob -> ReactiveStreams.empty());
-                                default:
-                                    //empty to break the stream processing
-                                    return ReactiveStreams.empty();
-                            }
-                        })
-                .onErrorResumeWith(t -> ReactiveStreams.empty());
+    /**
+     * Check if the job belongs to this instance, when running in a cluster the jobs of the partitions owned by other
+     * instances are just saved and scheduled by their owner.
+     */
+    protected boolean isOwned(JobDetails job) {
+        return true;
+    }
+
+    /**
+     * Sets the cluster partition of the job, which is persisted so each instance only loads the jobs of its own
+     * partitions.
+     */
+    protected JobDetails assignPartition(JobDetails job) {
+        return job;
+    }
+
+    /**
+     * Reads a job whose timer has fired back from the repository, since in a cluster it might have been cancelled or
+     * rescheduled by another instance after the timer was registered here. A stale timer is unregistered, so the job
+     * is scheduled again by the next load if it still exists.
+     *
+     * @param fired the job the timer was registered with
+     * @return the current job to be executed, or null if the timer is stale
+     */
+    public CompletionStage<JobDetails> reloadFiredJob(JobDetails fired) {
+        return jobRepository.get(fired.getId())
+                .thenApply(current -> {
+                    if (current != null
+                            && (JobStatus.SCHEDULED.equals(current.getStatus()) || JobStatus.RETRY.equals(current.getStatus()))
+                            && Objects.equals(getFireTime(fired), getFireTime(current))) {
+                        return current;
+                    }
+                    LOGGER.info("Job {} was cancelled or rescheduled after its timer was registered, skipping the execution", fired.getId());
+                    unregisterScheduledJob(fired);
+                    return null;
+                });
+    }
+
+    private static Optional<Date> getFireTime(JobDetails job) {
+        return Optional.ofNullable(job.getTrigger()).map(Trigger::hasNextFireTime);
     }
 
     private Duration calculateDelay(ZonedDateTime expirationTime) {
@@ -256,6 +434,7 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                                 .build())
                         .map(jobRepository::save)
                         .flatMapCompletionStage(p -> p))
+                .peek(job -> JobServiceMetrics.retries().increment())
                 .peek(job -> LOGGER.debug("Retry executed {}", job));
     }
 
@@ -271,6 +450,7 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                         .delete(j)
                         .thenApply(deleted -> {
                             unregisterScheduledJob(j);
+                            JobServiceMetrics.errors().increment();
                             LOGGER.warn("Retry limit exceeded for job{}", j);
                             return j;
                         }))
@@ -296,11 +476,9 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         return ReactiveStreams
                 .fromCompletionStageNullable(futureJob)
                 .peek(job -> LOGGER.debug("Cancel Job Scheduling {}", job))
-                .flatMap(scheduledJob -> Optional.ofNullable(scheduledJob.getScheduledId())
-                        .map(id -> ReactiveStreams
-                                .fromPublisher(this.doCancel(scheduledJob))
-                                .map(b -> scheduledJob))
-                        .orElse(ReactiveStreams.of(scheduledJob)))
+                .flatMap(scheduledJob -> hasLocalTimer(scheduledJob)
+                        ? ReactiveStreams.fromPublisher(this.doCancel(scheduledJob)).map(b -> scheduledJob)
+                        : ReactiveStreams.of(scheduledJob))
                 //final state, removing the job
                 .flatMapCompletionStage(jobRepository::delete)
                 .peek(this::unregisterScheduledJob)
@@ -321,6 +499,34 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
 
     public abstract Publisher<ManageableJobHandle> doCancel(JobDetails scheduledJob);
 
+    /**
+     * Removes the matching jobs from the in-memory scheduler, keeping them in the repository so they can be
+     * scheduled by another instance.
+     *
+     * @param jobIdFilter the filter of the ids of the jobs to be unscheduled
+     * @return the completion of the unscheduling
+     */
+    public CompletionStage<Void> unschedule(Predicate<String> jobIdFilter) {
+        return ReactiveStreams.fromIterable(new ArrayList<>(schedulerControl.keySet()))
+                .filter(jobIdFilter)
+                .flatMap(jobId -> ReactiveStreams.fromCompletionStageNullable(jobRepository.get(jobId)))
+                .peek(this::unregisterScheduledJob)
+                .filter(job -> Objects.nonNull(job.getScheduledId()))
+                .flatMapRsPublisher(this::doCancel)
+                .ignore()
+                .run();
+    }
+
+    /**
+     * Registers the meters of the scheduler, it is not done on the constructor since the one without arguments is also
+     * used by the CDI proxies.
+     */
+    protected void registerMetrics() {
+        JobServiceMetrics.pendingTimers(schedulerControl, Map::size);
+        JobServiceMetrics.retries();
+        JobServiceMetrics.errors();
+    }
+
     @Override
     public Optional<ZonedDateTime> scheduled(String jobId) {
         return Optional.ofNullable(schedulerControl.get(jobId));
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Keeps track of the job partitions owned by this Job Service instance when running in a cluster. Jobs are hashed
+ * by id to a fixed number of partitions, and each instance only schedules the jobs of the partitions it holds a
+ * lease on, see {@link PartitionLeaseManager}. When the cluster mode is disabled every job is owned.
+ */
+@ApplicationScoped
+public class JobPartitions {
+
+    @ConfigProperty(name = "kogito.jobs-service.clusterEnabled", defaultValue = "false")
+    boolean enabled;
+
+    /**
+     * The number of partitions the jobs are hashed to, it must be the same for all the instances of the cluster.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.clusterPartitions", defaultValue = "16")
+    int partitionCount;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public int getPartition(String jobId) {
+        return Math.floorMod(jobId.hashCode(), partitionCount);
+    }
+
+    public boolean isOwned(String jobId) {
+        return !enabled || owned.contains(getPartition(jobId));
+    }
+
+    public Set<Integer> getOwnedPartitions() {
+        return Collections.unmodifiableSet(owned);
+    }
+
+    void addOwnedPartition(int partition) {
+        owned.add(partition);
+    }
+
+    void removeOwnedPartition(int partition) {
+        owned.remove(partition);
+    }
+}
@@ -15,8 +15,10 @@
  */
 package org.kie.kogito.jobs.service.scheduler;
 
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Priority;
 import javax.enterprise.context.ApplicationScoped;
@@ -32,9 +34,11 @@ import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
 import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.jobs.service.utils.ErrorHandling;
+import org.kie.kogito.jobs.service.utils.JobServiceMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.runtime.StartupEvent;
 import io.vertx.mutiny.core.Vertx;
 
@@ -72,6 +76,9 @@ public class JobSchedulerManager {
     @Inject
     Vertx vertx;
 
+    @Inject
+    JobPartitions partitions;
+
     void onStartup(@Observes @Priority(Interceptor.Priority.PLATFORM_AFTER) StartupEvent startupEvent) {
         if (loadJobIntervalInMinutes > schedulerChunkInMinutes) {
             LOGGER.warn("The loadJobIntervalInMinutes ({}) cannot be greater than schedulerChunkInMinutes ({}), " +
@@ -90,25 +97,34 @@ public class JobSchedulerManager {
 
     //Runs periodically loading the jobs from the repository in chunks
     void loadJobDetailss() {
+        final Timer.Sample loading = JobServiceMetrics.startTimer();
+        final AtomicInteger loaded = new AtomicInteger();
         loadJobsInCurrentChunk()
+                .peek(j -> loaded.incrementAndGet())
+                .filter(j -> partitions.isOwned(j.getId()))//not consider jobs saved without a partition that belong to other instances
                 .filter(j -> !scheduler.scheduled(j.getId()).isPresent())//not consider already scheduled jobs
                 .flatMapRsPublisher(t -> ErrorHandling.skipErrorPublisher(scheduler::schedule, t))
                 .forEach(a -> LOGGER.debug("Loaded and scheduled job {}", a))
                 .run()
-                .whenComplete((v, t) -> Optional.ofNullable(t)
-                        .map(ex -> {
-                            LOGGER.error("Error Loading scheduled jobs!", ex);
-                            return null;
-                        })
-                        .orElseGet(() -> {
-                            LOGGER.info("Loading scheduled jobs completed !");
-                            return null;
-                        }));
+                .whenComplete((v, t) -> {
+                    loading.stop(JobServiceMetrics.chunkLoadDuration());
+                    JobServiceMetrics.chunkLoadSize().record(loaded.get());
+                    Optional.ofNullable(t)
+                            .map(ex -> {
+                                LOGGER.error("Error Loading scheduled jobs!", ex);
+                                return null;
+                            })
+                            .orElseGet(() -> {
+                                LOGGER.info("Loading scheduled jobs completed !");
+                                return null;
+                            });
+                });
     }
 
     private PublisherBuilder<JobDetails> loadJobsInCurrentChunk() {
         return repository.findByStatusBetweenDatesOrderByPriority(DateUtil.now().minusMinutes(loadJobFromCurrentTimeIntervalInMinutes),
                 DateUtil.now().plusMinutes(schedulerChunkInMinutes),
+                partitions.isEnabled() ? new HashSet<>(partitions.getOwnedPartitions()) : null,
                 JobStatus.SCHEDULED, JobStatus.RETRY);
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.interceptor.Interceptor;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.service.model.Lease;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Distributes the job partitions among the Job Service instances of a cluster through leases persisted in the
+ * {@link ReactiveJobRepository}. Every instance periodically renews a membership lease, and balances the partitions
+ * so each one holds at most its share of them considering the instances with a valid membership. Partitions whose
+ * lease is not renewed in time, because the instance holding them is gone, are taken over by the others.
+ */
+@ApplicationScoped
+public class PartitionLeaseManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionLeaseManager.class);
+
+    static final String MEMBER_LEASE_PREFIX = "member-";
+
+    static final String PARTITION_LEASE_PREFIX = "partition-";
+
+    /**
+     * The time a lease is valid unless renewed, leases are renewed every third of it.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.clusterLeaseDurationInSeconds", defaultValue = "30")
+    long leaseDurationInSeconds;
+
+    @Inject
+    JobPartitions partitions;
+
+    @Inject
+    ReactiveJobRepository repository;
+
+    @Inject
+    TimerDelegateJobScheduler scheduler;
+
+    @Inject
+    JobSchedulerManager schedulerManager;
+
+    @Inject
+    Vertx vertx;
+
+    private final AtomicBoolean renewing = new AtomicBoolean();
+
+    /**
+     * The time the partitions currently owned are guaranteed to be held, if the leases could not be renewed until
+     * then the partitions are dropped since other instances might have taken them over.
+     */
+    private volatile ZonedDateTime ownedUntil;
+
+    void onStartup(@Observes @Priority(Interceptor.Priority.PLATFORM_AFTER) StartupEvent startupEvent) {
+        if (partitions.isEnabled()) {
+            LOGGER.info("Starting cluster member {} with {} partitions", partitions.getInstanceId(), partitions.getPartitionCount());
+            vertx.runOnContext(this::renewLeases);
+            vertx.setPeriodic(TimeUnit.SECONDS.toMillis(leaseDurationInSeconds) / 3, id -> renewLeases());
+        }
+    }
+
+    void renewLeases() {
+        if (!renewing.compareAndSet(false, true)) {
+            return;
+        }
+        ZonedDateTime now = DateUtil.now();
+        ZonedDateTime expirationTime = now.plusSeconds(leaseDurationInSeconds);
+        doRenewLeases(now, expirationTime)
+                .whenComplete((v, e) -> {
+                    if (e == null) {
+                        ownedUntil = expirationTime;
+                    } else {
+                        LOGGER.error("Error renewing the partition leases", e);
+                        if (ownedUntil == null || !DateUtil.now().isBefore(ownedUntil)) {
+                            dropPartitions(partitions.getOwnedPartitions());
+                        }
+                    }
+                    renewing.set(false);
+                });
+    }
+
+    CompletionStage<Void> doRenewLeases(ZonedDateTime now, ZonedDateTime expirationTime) {
+        String owner = partitions.getInstanceId();
+        return repository.acquireLease(MEMBER_LEASE_PREFIX + owner, owner, expirationTime)
+                .thenCompose(member -> repository.findLeases()
+                        .filter(lease -> !lease.isExpired(now))
+                        .toList()
+                        .run())
+                .thenCompose(leases -> balance(leases, owner, expirationTime));
+    }
+
+    private CompletionStage<Void> balance(List<Lease> leases, String owner, ZonedDateTime expirationTime) {
+        long members = Math.max(1, leases.stream().filter(lease -> lease.getId().startsWith(MEMBER_LEASE_PREFIX)).count());
+        int share = (int) Math.ceil((double) partitions.getPartitionCount() / members);
+        Set<Integer> taken = leases.stream()
+                .filter(lease -> lease.getId().startsWith(PARTITION_LEASE_PREFIX) && !owner.equals(lease.getOwner()))
+                .map(lease -> Integer.valueOf(lease.getId().substring(PARTITION_LEASE_PREFIX.length())))
+                .collect(Collectors.toSet());
+        List<Integer> owned = partitions.getOwnedPartitions().stream().sorted().collect(Collectors.toList());
+        List<Integer> toRenew = owned.subList(0, Math.min(share, owned.size()));
+        List<Integer> toRelease = owned.subList(toRenew.size(), owned.size());
+        List<Integer> toAcquire = IntStream.range(0, partitions.getPartitionCount()).boxed()
+                .filter(partition -> !owned.contains(partition) && !taken.contains(partition))
+                .limit((long) share - toRenew.size())
+                .collect(Collectors.toList());
+
+        AtomicBoolean acquired = new AtomicBoolean();
+        return ReactiveStreams.fromIterable(toRelease)
+                .flatMapCompletionStage(partition -> releasePartition(partition, owner))
+                .ignore()
+                .run()
+                .thenCompose(v -> ReactiveStreams.fromIterable(toRenew)
+                        .flatMapCompletionStage(partition -> repository.acquireLease(PARTITION_LEASE_PREFIX + partition, owner, expirationTime)
+                                .thenCompose(renewed -> Boolean.TRUE.equals(renewed) ? CompletableFuture.completedFuture(null) : dropPartitions(Set.of(partition))))
+                        .ignore()
+                        .run())
+                .thenCompose(v -> ReactiveStreams.fromIterable(toAcquire)
+                        .flatMapCompletionStage(partition -> repository.acquireLease(PARTITION_LEASE_PREFIX + partition, owner, expirationTime)
+                                .thenApply(granted -> {
+                                    if (Boolean.TRUE.equals(granted)) {
+                                        LOGGER.info("Acquired job partition {}", partition);
+                                        partitions.addOwnedPartition(partition);
+                                        acquired.set(true);
+                                    }
+                                    return granted;
+                                }))
+                        .ignore()
+                        .run())
+                .thenRun(() -> {
+                    //the jobs of the new partitions are loaded right away instead of waiting for the periodic loading
+                    if (acquired.get()) {
+                        schedulerManager.loadJobDetailss();
+                    }
+                });
+    }
+
+    private CompletionStage<Boolean> releasePartition(int partition, String owner) {
+        LOGGER.info("Releasing job partition {}", partition);
+        return dropPartitions(Set.of(partition))
+                .thenCompose(v -> repository.releaseLease(PARTITION_LEASE_PREFIX + partition, owner));
+    }
+
+    private CompletionStage<Void> dropPartitions(Set<Integer> dropped) {
+        if (dropped.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LOGGER.info("Dropping job partitions {}", dropped);
+        Set<Integer> removed = Set.copyOf(dropped);
+        removed.forEach(partitions::removeOwnedPartition);
+        return scheduler.unschedule(jobId -> removed.contains(partitions.getPartition(jobId)));
+    }
+}
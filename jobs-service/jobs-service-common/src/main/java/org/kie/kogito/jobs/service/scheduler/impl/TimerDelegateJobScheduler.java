@@ -19,6 +19,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
@@ -35,6 +36,7 @@ import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.ManageableJobHandle;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
+import org.kie.kogito.jobs.service.scheduler.JobPartitions;
 import org.kie.kogito.jobs.service.stream.AvailableStreams;
 import org.kie.kogito.jobs.service.utils.ErrorHandling;
 import org.kie.kogito.timer.Trigger;
@@ -54,6 +56,8 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
 
     private VertxTimerServiceScheduler delegate;
 
+    private JobPartitions partitions;
+
     protected TimerDelegateJobScheduler() {
     }
 
@@ -63,10 +67,26 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
             @ConfigProperty(name = "kogito.jobs-service.maxIntervalLimitToRetryMillis") long maxIntervalLimitToRetryMillis,
             @ConfigProperty(name = "kogito.jobs-service.schedulerChunkInMinutes") long schedulerChunkInMinutes,
             @ConfigProperty(name = "kogito.jobs-service.forceExecuteExpiredJobs") boolean forceExecuteExpiredJobs,
-            HttpJobExecutor httpJobExecutor, VertxTimerServiceScheduler delegate) {
+            HttpJobExecutor httpJobExecutor, VertxTimerServiceScheduler delegate, JobPartitions partitions) {
         super(jobRepository, backoffRetryMillis, maxIntervalLimitToRetryMillis, schedulerChunkInMinutes, forceExecuteExpiredJobs);
         this.httpJobExecutor = httpJobExecutor;
         this.delegate = delegate;
+        this.partitions = partitions;
+    }
+
+    @PostConstruct
+    void init() {
+        registerMetrics();
+    }
+
+    @Override
+    protected boolean isOwned(JobDetails job) {
+        return partitions.isOwned(job.getId());
+    }
+
+    @Override
+    protected JobDetails assignPartition(JobDetails job) {
+        return JobDetails.builder().of(job).partition(partitions.getPartition(job.getId())).build();
     }
 
     @Override
@@ -74,8 +94,9 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
         LOGGER.debug("Job Scheduling {}", job);
         return ReactiveStreams
                 .of(job)
-                .map(j -> delegate.scheduleJob(new HttpJob(httpJobExecutor), new HttpJobContext(j),
-                        trigger.orElse(j.getTrigger())));
+                //in a cluster the job might be cancelled or rescheduled by another instance, so it is read again when fired
+                .map(j -> delegate.scheduleJob(new HttpJob(httpJobExecutor, partitions.isEnabled() ? this::reloadFiredJob : null),
+                        new HttpJobContext(j), trigger.orElse(j.getTrigger())));
     }
 
     @Override
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Hashed timing wheel driven by a single periodic Vert.x timer. Each task is placed in the bucket of the tick it is
+ * due, and every tick only visits the bucket of that tick, firing its due tasks and leaving the ones due in later
+ * rotations of the wheel. Scheduling and cancelling are constant time, and tasks are fired at most one tick late.
+ * <p>
+ * The bucket of a task is encoded in the lower bits of its id, so cancelling does not need any global index.
+ */
+public class TimingWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheel.class);
+
+    private final Vertx vertx;
+    private final long tickMillis;
+    private final int mask;
+    private final int bucketBits;
+    private final Bucket[] buckets;
+    private final long startTime;
+    private final AtomicLong sequence = new AtomicLong();
+    private final long timerId;
+
+    /**
+     * The last processed tick, only updated while holding the lock of the bucket of that tick.
+     */
+    private volatile long currentTick;
+
+    public TimingWheel(Vertx vertx, long tickMillis, int wheelSize) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero");
+        }
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("Wheel size must be greater than zero");
+        }
+        this.vertx = vertx;
+        this.tickMillis = tickMillis;
+        // the size is rounded up to a power of two so the bucket of a tick is a bit mask
+        this.bucketBits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.mask = (1 << bucketBits) - 1;
+        this.buckets = new Bucket[mask + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.startTime = System.currentTimeMillis();
+        this.timerId = vertx.setPeriodic(tickMillis, id -> advance(System.currentTimeMillis()));
+    }
+
+    /**
+     * Schedules a task to be fired once the given time is reached.
+     *
+     * @param time The epoch millis the task is due.
+     * @param task The task.
+     * @return The id that can be used to cancel the task.
+     */
+    public long schedule(long time, Runnable task) {
+        long deadlineTick = Math.max(0, (time - startTime + tickMillis - 1) / tickMillis);
+        while (true) {
+            long tick = Math.max(deadlineTick, currentTick + 1);
+            int index = (int) (tick & mask);
+            Bucket bucket = buckets[index];
+            synchronized (bucket) {
+                // the tick might have been processed meanwhile, in that case the task goes to the next one
+                if (tick > currentTick) {
+                    long id = (sequence.incrementAndGet() << bucketBits) | index;
+                    bucket.timeouts.put(id, new Timeout(tick, task));
+                    return id;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels a scheduled task.
+     *
+     * @param id The id returned when the task was scheduled.
+     * @return true if the task was cancelled, false if it was already fired or cancelled.
+     */
+    public boolean cancel(long id) {
+        Bucket bucket = buckets[(int) (id & mask)];
+        synchronized (bucket) {
+            return bucket.timeouts.remove(id) != null;
+        }
+    }
+
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    /**
+     * Processes all ticks elapsed until the given time, which catches up if the periodic timer was delayed.
+     *
+     * @param now The current epoch millis.
+     */
+    void advance(long now) {
+        long lastTick = (now - startTime) / tickMillis;
+        while (currentTick < lastTick) {
+            for (Runnable task : expire(currentTick + 1)) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error firing timer task", e);
+                }
+            }
+        }
+    }
+
+    private List<Runnable> expire(long tick) {
+        Bucket bucket = buckets[(int) (tick & mask)];
+        List<Runnable> expired = new ArrayList<>();
+        synchronized (bucket) {
+            currentTick = tick;
+            Iterator<Timeout> timeouts = bucket.timeouts.values().iterator();
+            while (timeouts.hasNext()) {
+                Timeout timeout = timeouts.next();
+                if (timeout.tick <= tick) {
+                    timeouts.remove();
+                    expired.add(timeout.task);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private static final class Bucket {
+
+        private final Map<Long, Timeout> timeouts = new HashMap<>();
+    }
+
+    private static final class Timeout {
+
+        private final long tick;
+        private final Runnable task;
+
+        private Timeout(long tick, Runnable task) {
+            this.tick = tick;
+            this.task = task;
+        }
+    }
+}
@@ -20,11 +20,15 @@ import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.jobs.service.model.job.ManageableJobHandle;
 import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.jobs.service.utils.JobServiceMetrics;
 import org.kie.kogito.timer.InternalSchedulerService;
 import org.kie.kogito.timer.Job;
 import org.kie.kogito.timer.JobContext;
@@ -44,6 +48,27 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
 
     protected Vertx vertx;
 
+    /**
+     * When enabled, jobs are fired from a {@link TimingWheel} driven by a single periodic timer instead of setting
+     * one Vert.x timer per job.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.timingWheelEnabled", defaultValue = "false")
+    boolean timingWheelEnabled;
+
+    /**
+     * The duration of a tick of the timing wheel, jobs are fired up to one tick late.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.timingWheelTickInMillis", defaultValue = "100")
+    long timingWheelTickInMillis;
+
+    /**
+     * The number of buckets of the timing wheel, rounded up to a power of two.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.timingWheelSize", defaultValue = "512")
+    int timingWheelSize;
+
+    protected TimingWheel timingWheel;
+
     public VertxTimerServiceScheduler() {
         vertx = Vertx.vertx();
     }
@@ -52,6 +77,18 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
         this.vertx = vertx;
     }
 
+    public VertxTimerServiceScheduler(Vertx vertx, TimingWheel timingWheel) {
+        this.vertx = vertx;
+        this.timingWheel = timingWheel;
+    }
+
+    @PostConstruct
+    void init() {
+        if (timingWheelEnabled) {
+            timingWheel = new TimingWheel(vertx, timingWheelTickInMillis, timingWheelSize);
+        }
+    }
+
     @Override
     public long getCurrentTime() {
         return System.currentTimeMillis();
@@ -64,6 +101,9 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
 
     @Override
     public void shutdown() {
+        if (timingWheel != null) {
+            timingWheel.stop();
+        }
         vertx.close();
     }
 
@@ -101,6 +141,9 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
 
     @Override
     public boolean removeJob(ManageableJobHandle jobHandle) {
+        if (timingWheel != null) {
+            return timingWheel.cancel(jobHandle.getId());
+        }
         return vertx.cancelTimer(jobHandle.getId());
     }
 
@@ -112,13 +155,23 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
         }
         final long then = trigger.hasNextFireTime().getTime();
         final ZonedDateTime now = DateUtil.now();
-        final long delay = calculateDelay(then, now);
         final ManageableJobHandle handle = (ManageableJobHandle) timerJobInstance.getJobHandle();
-        long scheduledId = vertx.setTimer(delay, i -> timerJobInstance.getJob().execute(timerJobInstance.getJobContext()));
+        final long scheduledId;
+        if (timingWheel != null) {
+            scheduledId = timingWheel.schedule(then, () -> fire(timerJobInstance, then));
+        } else {
+            final long delay = calculateDelay(then, now);
+            scheduledId = vertx.setTimer(delay, i -> fire(timerJobInstance, then));
+        }
         handle.setId(scheduledId);
         handle.setScheduledTime(now);
     }
 
+    private void fire(TimerJobInstance timerJobInstance, long then) {
+        JobServiceMetrics.fireLag().record(Math.max(0, getCurrentTime() - then), TimeUnit.MILLISECONDS);
+        timerJobInstance.getJob().execute(timerJobInstance.getJobContext());
+    }
+
     private Long calculateDelay(long then, ZonedDateTime now) {
         return Optional.of(now)
                 .map(ChronoZonedDateTime::toInstant)
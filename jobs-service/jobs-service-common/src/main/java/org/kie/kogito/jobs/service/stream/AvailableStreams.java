@@ -24,6 +24,7 @@ public final class AvailableStreams {
     public static final String JOB_STATUS_CHANGE = "job-status-change";
     public static final String JOB_STATUS_CHANGE_EVENTS = "job-status-change-events";
     public static final String JOB_STATUS_CHANGE_EVENTS_TOPIC = "kogito-job-service-job-status-events";
+    public static final String JOB_STATUS_CHANGE_EVENTS_BATCH_TOPIC = "kogito-job-service-job-status-events-batch";
 
     private AvailableStreams() {
 
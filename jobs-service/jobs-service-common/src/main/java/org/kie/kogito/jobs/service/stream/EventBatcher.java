@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates events into batches of at most a maximum size, which are sent one at a time, a batch is sent as soon as
+ * it is full or when {@link #flush()} is called, usually by a periodic timer bounding the time events wait. Events are
+ * held in a buffer while a batch is being sent, when the buffer is full the overflow strategy is applied:
+ * <ul>
+ * <li>{@link OnOverflow.Strategy#DROP} drops the new events.</li>
+ * <li>{@link OnOverflow.Strategy#LATEST} drops the oldest buffered events in favour of the new ones.</li>
+ * <li>{@link OnOverflow.Strategy#UNBOUNDED_BUFFER} never drops events.</li>
+ * </ul>
+ * The events of a batch that fails to be sent are put back at the head of the buffer and sent again on the next flush.
+ */
+class EventBatcher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventBatcher.class);
+
+    private static final EnumSet<OnOverflow.Strategy> SUPPORTED_STRATEGIES =
+            EnumSet.of(OnOverflow.Strategy.DROP, OnOverflow.Strategy.LATEST, OnOverflow.Strategy.UNBOUNDED_BUFFER);
+
+    private final int maxSize;
+
+    private final int bufferSize;
+
+    private final OnOverflow.Strategy overflowStrategy;
+
+    private final Function<List<T>, CompletionStage<Void>> sender;
+
+    private final Deque<T> buffer = new ArrayDeque<>();
+
+    private boolean sending;
+
+    private boolean overflowing;
+
+    private long dropped;
+
+    private CompletableFuture<Void> drained;
+
+    EventBatcher(int maxSize, int bufferSize, OnOverflow.Strategy overflowStrategy, Function<List<T>, CompletionStage<Void>> sender) {
+        if (maxSize < 1 || bufferSize < maxSize) {
+            throw new IllegalArgumentException("The batch size must be greater than zero and not greater than the buffer size");
+        }
+        if (!SUPPORTED_STRATEGIES.contains(overflowStrategy)) {
+            throw new IllegalArgumentException("Unsupported overflow strategy " + overflowStrategy + ", supported ones are " + SUPPORTED_STRATEGIES);
+        }
+        this.maxSize = maxSize;
+        this.bufferSize = bufferSize;
+        this.overflowStrategy = overflowStrategy;
+        this.sender = sender;
+    }
+
+    void add(T event) {
+        synchronized (this) {
+            if (overflowStrategy != OnOverflow.Strategy.UNBOUNDED_BUFFER && buffer.size() >= bufferSize) {
+                dropped++;
+                if (!overflowing) {
+                    overflowing = true;
+                    LOGGER.warn("Events buffer of size {} is full, applying the overflow strategy {}", bufferSize, overflowStrategy);
+                }
+                if (overflowStrategy == OnOverflow.Strategy.DROP) {
+                    return;
+                }
+                buffer.poll();
+            }
+            buffer.add(event);
+            if (buffer.size() < maxSize) {
+                return;
+            }
+        }
+        flush();
+    }
+
+    void flush() {
+        List<T> batch;
+        synchronized (this) {
+            if (sending || buffer.isEmpty()) {
+                return;
+            }
+            sending = true;
+            batch = new ArrayList<>(Math.min(maxSize, buffer.size()));
+            while (batch.size() < maxSize && !buffer.isEmpty()) {
+                batch.add(buffer.poll());
+            }
+        }
+        send(batch).whenComplete((v, e) -> {
+            boolean next;
+            CompletableFuture<Void> done = null;
+            synchronized (this) {
+                sending = false;
+                overflowing = false;
+                if (e != null) {
+                    requeue(batch);
+                }
+                if (drained != null && (e != null || buffer.isEmpty())) {
+                    done = drained;
+                    drained = null;
+                }
+                //the events accumulated while sending are sent right away instead of waiting for the next flush
+                next = e == null && (buffer.size() >= maxSize || drained != null && !buffer.isEmpty());
+            }
+            if (e != null) {
+                LOGGER.error("Error sending a batch of {} events, they are kept to be sent on the next flush", batch.size(), e);
+            }
+            if (done != null) {
+                if (e != null) {
+                    done.completeExceptionally(e);
+                } else {
+                    done.complete(null);
+                }
+            }
+            if (next) {
+                flush();
+            }
+        });
+    }
+
+    /**
+     * Sends all the buffered events, one batch at a time.
+     *
+     * @return a stage completed when the buffer is empty, or failed when a batch cannot be sent
+     */
+    CompletionStage<Void> drain() {
+        CompletableFuture<Void> done;
+        synchronized (this) {
+            if (!sending && buffer.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (drained == null) {
+                drained = new CompletableFuture<>();
+            }
+            done = drained;
+        }
+        flush();
+        return done;
+    }
+
+    private void requeue(List<T> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            buffer.addFirst(batch.get(i));
+        }
+        if (overflowStrategy == OnOverflow.Strategy.UNBOUNDED_BUFFER) {
+            return;
+        }
+        while (buffer.size() > bufferSize) {
+            dropped++;
+            //the requeued events are the oldest ones, the newest ones are the events arrived while sending
+            if (overflowStrategy == OnOverflow.Strategy.DROP) {
+                buffer.pollLast();
+            } else {
+                buffer.pollFirst();
+            }
+        }
+    }
+
+    private CompletionStage<Void> send(List<T> batch) {
+        try {
+            return sender.apply(batch);
+        } catch (RuntimeException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    synchronized int getBuffered() {
+        return buffer.size();
+    }
+
+    synchronized long getDropped() {
+        return dropped;
+    }
+}
@@ -15,16 +15,28 @@
  */
 package org.kie.kogito.jobs.service.stream;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
 import org.eclipse.microprofile.reactive.messaging.OnOverflow;
 import org.kie.kogito.jobs.service.events.JobDataEvent;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
@@ -36,44 +48,122 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.vertx.mutiny.core.Vertx;
+
 @ApplicationScoped
 public class KafkaJobStreams {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaJobStreams.class);
     public static final String PUBLISH_EVENTS_CONFIG_KEY = "kogito.jobs-service.events-support";
+    public static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
+    private static final long BATCH_SHUTDOWN_TIMEOUT_IN_MILLIS = 10000;
 
     private ObjectMapper objectMapper;
 
     private Emitter<String> kafkaEmitter;
 
+    private Emitter<String> kafkaBatchEmitter;
+
     private Optional<Boolean> enabled;
 
     private String url;
 
+    private Vertx vertx;
+
+    private long batchMaxWaitInMillis;
+
+    private Long batchTimerId;
+
+    /**
+     * Present when the batched publishing is enabled, the status change events are then sent as a JSON array of
+     * CloudEvents, following the CloudEvents JSON batch format, instead of one message per event. The batches go to
+     * their own channel, so the consumers of the single events topic are not handed arrays they cannot read.
+     */
+    private Optional<EventBatcher<JobDataEvent>> batcher;
+
     @Inject
     public KafkaJobStreams(ObjectMapper objectMapper,
             @ConfigProperty(name = PUBLISH_EVENTS_CONFIG_KEY) Optional<String> config,
             @Channel(AvailableStreams.JOB_STATUS_CHANGE_EVENTS_TOPIC) @OnOverflow(value = OnOverflow.Strategy.LATEST) Emitter<String> emitter,
-            @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080") String url) {
+            @Channel(AvailableStreams.JOB_STATUS_CHANGE_EVENTS_BATCH_TOPIC) @OnOverflow(value = OnOverflow.Strategy.UNBOUNDED_BUFFER) Emitter<String> batchEmitter,
+            @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080") String url,
+            Vertx vertx,
+            @ConfigProperty(name = "kogito.jobs-service.eventsBatchEnabled", defaultValue = "false") boolean batchEnabled,
+            @ConfigProperty(name = "kogito.jobs-service.eventsBatchMaxSize", defaultValue = "100") int batchMaxSize,
+            @ConfigProperty(name = "kogito.jobs-service.eventsBatchMaxWaitInMillis", defaultValue = "200") long batchMaxWaitInMillis,
+            @ConfigProperty(name = "kogito.jobs-service.eventsBatchBufferSize", defaultValue = "10000") int batchBufferSize,
+            @ConfigProperty(name = "kogito.jobs-service.eventsBatchOverflowStrategy", defaultValue = "LATEST") OnOverflow.Strategy batchOverflowStrategy) {
         this.objectMapper = objectMapper;
         this.enabled = config.map(Boolean::valueOf).filter(Boolean.TRUE::equals);
         this.kafkaEmitter = emitter;
+        this.kafkaBatchEmitter = batchEmitter;
         this.url = url;
+        this.vertx = vertx;
+        this.batchMaxWaitInMillis = batchMaxWaitInMillis;
+        this.batcher = enabled
+                .filter(e -> batchEnabled)
+                .map(e -> new EventBatcher<>(batchMaxSize, batchBufferSize, batchOverflowStrategy, this::sendBatch));
+    }
+
+    void onStartup(@Observes StartupEvent startupEvent) {
+        //bounds the time the events wait for a batch to be filled
+        batcher.ifPresent(b -> batchTimerId = vertx.setPeriodic(batchMaxWaitInMillis, id -> b.flush()));
+    }
+
+    @PreDestroy
+    void onShutdown() {
+        batcher.ifPresent(b -> {
+            if (batchTimerId != null) {
+                vertx.cancelTimer(batchTimerId);
+            }
+            try {
+                b.drain().toCompletableFuture().get(BATCH_SHUTDOWN_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while publishing the {} pending job status changes", b.getBuffered());
+            } catch (ExecutionException | TimeoutException e) {
+                LOGGER.warn("Error publishing the pending job status changes on shutdown, {} were not published", b.getBuffered(), e);
+            }
+        });
     }
 
     @Incoming(AvailableStreams.JOB_STATUS_CHANGE_EVENTS)
     @Acknowledgment(Acknowledgment.Strategy.PRE_PROCESSING)
     public void jobStatusChangeKafkaPublisher(JobDetails job) {
         enabled
-                .map(e -> kafkaEmitter)
-                .map(emitter -> {
+                .map(e -> {
                     JobDataEvent event = JobDataEvent
                             .builder()
                             .source(url + JobResource.JOBS_PATH)
                             .data(ScheduledJobAdapter.of(job))
                             .build();
-                    return emitter.send(FunctionsUtil.unchecked(objectMapper::writeValueAsString).apply(event));
+                    if (batcher.isPresent()) {
+                        batcher.get().add(event);
+                    } else {
+                        kafkaEmitter.send(FunctionsUtil.unchecked(objectMapper::writeValueAsString).apply(event));
+                    }
+                    return event;
                 })
-                .ifPresent(emitter -> LOGGER.debug("Job Status change published to kafka {}", job));
+                .ifPresent(event -> LOGGER.debug("Job Status change published to kafka {}", job));
+    }
+
+    private CompletionStage<Void> sendBatch(List<JobDataEvent> events) {
+        LOGGER.debug("Publishing a batch of {} job status changes to kafka", events.size());
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+        OutgoingKafkaRecordMetadata<?> metadata = OutgoingKafkaRecordMetadata.builder()
+                .withHeaders(new RecordHeaders().add("content-type", BATCH_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        kafkaBatchEmitter.send(Message.of(FunctionsUtil.unchecked(objectMapper::writeValueAsString).apply(events), Metadata.of(metadata),
+                () -> {
+                    sent.complete(null);
+                    return CompletableFuture.completedFuture(null);
+                },
+                e -> {
+                    sent.completeExceptionally(e);
+                    return CompletableFuture.completedFuture(null);
+                }));
+        return sent;
     }
 }
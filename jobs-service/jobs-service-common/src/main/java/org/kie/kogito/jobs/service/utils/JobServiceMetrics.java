@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.utils;
+
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of the jobs service. They are registered on the global registry, which Quarkus binds to the configured
+ * registries, so the classes not managed by CDI and the ones created in unit tests do not need a registry injected.
+ */
+public class JobServiceMetrics {
+
+    public static final String FIRE_LAG = "kogito.jobs.fire.lag";
+    public static final String PENDING_TIMERS = "kogito.jobs.timers.pending";
+    public static final String CHUNK_LOAD_DURATION = "kogito.jobs.chunk.load.duration";
+    public static final String CHUNK_LOAD_SIZE = "kogito.jobs.chunk.load.size";
+    public static final String CALLBACK_LATENCY = "kogito.jobs.callback.latency";
+    public static final String RETRIES = "kogito.jobs.retries";
+    public static final String ERRORS = "kogito.jobs.errors";
+
+    public static final String TARGET_TAG = "target";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private static final MeterRegistry REGISTRY = Metrics.globalRegistry;
+
+    private JobServiceMetrics() {
+
+    }
+
+    /**
+     * Delay between the time a job was expected to fire and the time its timer actually fired.
+     */
+    public static Timer fireLag() {
+        return Timer.builder(FIRE_LAG)
+                .description("Delay between the expected and the actual fire time of the jobs")
+                .publishPercentileHistogram()
+                .register(REGISTRY);
+    }
+
+    /**
+     * Number of jobs with a timer in the in-memory scheduler.
+     */
+    public static <T> void pendingTimers(T source, ToDoubleFunction<T> size) {
+        Gauge.builder(PENDING_TIMERS, source, size)
+                .description("Jobs scheduled on the in-memory timers")
+                .register(REGISTRY);
+    }
+
+    public static Timer chunkLoadDuration() {
+        return Timer.builder(CHUNK_LOAD_DURATION)
+                .description("Duration of the loading of the jobs in the current scheduler chunk")
+                .register(REGISTRY);
+    }
+
+    public static DistributionSummary chunkLoadSize() {
+        return DistributionSummary.builder(CHUNK_LOAD_SIZE)
+                .description("Jobs read from the repository when loading the current scheduler chunk")
+                .register(REGISTRY);
+    }
+
+    /**
+     * Latency of the callbacks executing the jobs, by target host and outcome.
+     */
+    public static Timer callbackLatency(String target, boolean success) {
+        return Timer.builder(CALLBACK_LATENCY)
+                .description("Latency of the job callbacks")
+                .tag(TARGET_TAG, target)
+                .tag(OUTCOME_TAG, success ? SUCCESS : ERROR)
+                .publishPercentileHistogram()
+                .register(REGISTRY);
+    }
+
+    public static Counter retries() {
+        return Counter.builder(RETRIES)
+                .description("Job executions rescheduled after an error")
+                .register(REGISTRY);
+    }
+
+    /**
+     * Jobs that ended in error after exceeding the retry limit.
+     */
+    public static Counter errors() {
+        return Counter.builder(ERRORS)
+                .description("Jobs that ended in error after exceeding the retry limit")
+                .register(REGISTRY);
+    }
+
+    public static Timer.Sample startTimer() {
+        return Timer.start(REGISTRY);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallbackDispatcherTest {
+
+    private static final String TARGET_A = "a:8080";
+    private static final String TARGET_B = "b:8080";
+
+    private final List<String> started = new ArrayList<>();
+
+    private final List<CompletableFuture<String>> executions = new ArrayList<>();
+
+    @Test
+    void testLimitPerTarget() {
+        CallbackDispatcher tested = new CallbackDispatcher(2, 10);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(dispatch(tested, TARGET_A, "a" + i));
+        }
+        results.add(dispatch(tested, TARGET_B, "b0"));
+
+        assertThat(started).containsExactly("a0", "a1", "b0");
+        assertThat(tested.getInFlight()).isEqualTo(3);
+        assertThat(tested.getQueued()).isEqualTo(1);
+
+        executions.get(0).complete("a0");
+
+        assertThat(results.get(0)).isCompletedWithValue("a0");
+        assertThat(started).containsExactly("a0", "a1", "b0", "a2");
+        assertThat(tested.getQueued()).isZero();
+    }
+
+    @Test
+    void testFairQueueAcrossTargets() {
+        CallbackDispatcher tested = new CallbackDispatcher(10, 1);
+        dispatch(tested, TARGET_A, "a0");
+        dispatch(tested, TARGET_A, "a1");
+        dispatch(tested, TARGET_A, "a2");
+        dispatch(tested, TARGET_B, "b0");
+        dispatch(tested, TARGET_B, "b1");
+
+        for (int i = 0; i < 4; i++) {
+            executions.get(i).complete("done");
+        }
+
+        assertThat(started).containsExactly("a0", "a1", "b0", "a2", "b1");
+        assertThat(tested.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void testReleaseOnFailure() {
+        CallbackDispatcher tested = new CallbackDispatcher(1, 1);
+        CompletableFuture<String> failed = dispatch(tested, TARGET_A, "a0");
+        CompletableFuture<String> failedOnStart = tested.<String> dispatch(TARGET_A, () -> {
+            throw new IllegalStateException("error");
+        }).subscribeAsCompletionStage();
+        dispatch(tested, TARGET_A, "a1");
+
+        executions.get(0).completeExceptionally(new RuntimeException("error"));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(failedOnStart).isCompletedExceptionally();
+        assertThat(started).containsExactly("a0", "a1");
+        assertThat(tested.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidLimits() {
+        assertThatThrownBy(() -> new CallbackDispatcher(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CallbackDispatcher(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompletableFuture<String> dispatch(CallbackDispatcher dispatcher, String target, String name) {
+        return dispatcher.dispatch(target, () -> {
+            started.add(name);
+            CompletableFuture<String> execution = new CompletableFuture<>();
+            executions.add(execution);
+            return Uni.createFrom().completionStage(execution);
+        }).subscribeAsCompletionStage();
+    }
+}
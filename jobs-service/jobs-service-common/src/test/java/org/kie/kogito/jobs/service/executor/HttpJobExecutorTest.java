@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.jobs.service.converters.HttpConverters;
@@ -70,11 +71,28 @@ class HttpJobExecutorTest {
     @Mock
     private WebClient webClient;
 
+    @BeforeEach
+    void setUp() {
+        tested.maxPoolSizePerHost = 10;
+        tested.maxInFlightCallbacksPerHost = 10;
+        tested.maxInFlightCallbacks = 100;
+        tested.dispatcher = new CallbackDispatcher(10, 100);
+    }
+
     @Test
     void testInitialize(@Mock io.vertx.core.Vertx vertxCore) {
         when(vertx.getDelegate()).thenReturn(vertxCore);
         tested.initialize();
         assertNotNull(tested.getClient());
+        assertNotNull(tested.dispatcher);
+    }
+
+    @Test
+    void testInitializeWithHttp2(@Mock io.vertx.core.Vertx vertxCore) {
+        when(vertx.getDelegate()).thenReturn(vertxCore);
+        tested.http2Enabled = true;
+        tested.initialize();
+        assertNotNull(tested.getClient());
     }
 
     @Test
@@ -16,6 +16,7 @@
 
 package org.kie.kogito.jobs.service.messaging;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -36,6 +37,7 @@ import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.reactivestreams.Publisher;
@@ -43,6 +45,7 @@ import org.reactivestreams.Publisher;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -68,6 +71,9 @@ class ReactiveMessagingEventConsumerTest {
     @Captor
     private ArgumentCaptor<Throwable> errorCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<JobDetails>> jobsCaptor;
+
     @BeforeEach
     void setUp() {
         CompletionStage<Void> ackCompletionState = CompletableFuture.completedFuture(null);
@@ -234,6 +240,76 @@ class ReactiveMessagingEventConsumerTest {
         verify(scheduler).cancel(JOB_ID);
     }
 
+    @Test
+    void onBatch(@Mock Message<List<JobCloudEvent<?>>> batch) {
+        Job job = new Job();
+        job.setId(JOB_ID);
+        List<JobCloudEvent<?>> events = List.of(CreateProcessInstanceJobRequestEvent.builder().job(job).build(),
+                CancelJobRequestEvent.builder().jobId("CANCELLED_JOB_ID").build());
+        doReturn(events).when(batch).getPayload();
+        doReturn(CompletableFuture.completedFuture(null)).when(batch).ack();
+        doReturn(ReactiveStreams.of(JobDetails.builder().id(JOB_ID).build())).when(scheduler).scheduleAll(any());
+        doReturn(ReactiveStreams.empty()).when(scheduler).cancelAll(any());
+
+        eventConsumer.onKogitoServiceRequestBatch(batch)
+                .subscribe().with(callback -> {
+                }, Assertions::fail);
+
+        verify(scheduler).scheduleAll(jobsCaptor.capture());
+        assertThat(jobsCaptor.getValue()).extracting(JobDetails::getId).containsExactly(JOB_ID);
+        verify(scheduler).cancelAll(List.of("CANCELLED_JOB_ID"));
+        verify(batch).ack();
+        verify(batch, never()).nack(any());
+    }
+
+    @Test
+    void onBatchKeepsRequestOrder(@Mock Message<List<JobCloudEvent<?>>> batch) {
+        Job job = new Job();
+        job.setId(JOB_ID);
+        Job recreated = new Job();
+        recreated.setId("RECREATED_JOB_ID");
+        List<JobCloudEvent<?>> events = List.of(CreateProcessInstanceJobRequestEvent.builder().job(job).build(),
+                CancelJobRequestEvent.builder().jobId("CANCELLED_JOB_ID").build(),
+                CancelJobRequestEvent.builder().jobId("RECREATED_JOB_ID").build(),
+                CreateProcessInstanceJobRequestEvent.builder().job(recreated).build());
+        doReturn(events).when(batch).getPayload();
+        doReturn(CompletableFuture.completedFuture(null)).when(batch).ack();
+        doReturn(ReactiveStreams.empty()).when(scheduler).scheduleAll(any());
+        doReturn(ReactiveStreams.empty()).when(scheduler).cancelAll(any());
+
+        eventConsumer.onKogitoServiceRequestBatch(batch)
+                .subscribe().with(callback -> {
+                }, Assertions::fail);
+
+        InOrder inOrder = inOrder(scheduler);
+        inOrder.verify(scheduler).scheduleAll(jobsCaptor.capture());
+        inOrder.verify(scheduler).cancelAll(List.of("CANCELLED_JOB_ID", "RECREATED_JOB_ID"));
+        inOrder.verify(scheduler).scheduleAll(jobsCaptor.capture());
+        assertThat(jobsCaptor.getAllValues().get(0)).extracting(JobDetails::getId).containsExactly(JOB_ID);
+        assertThat(jobsCaptor.getAllValues().get(1)).extracting(JobDetails::getId).containsExactly("RECREATED_JOB_ID");
+        verify(batch).ack();
+    }
+
+    @Test
+    void onBatchWithError(@Mock Message<List<JobCloudEvent<?>>> batch) {
+        Job job = new Job();
+        job.setId(JOB_ID);
+        doReturn(List.of(CreateProcessInstanceJobRequestEvent.builder().job(job).build())).when(batch).getPayload();
+        doReturn(CompletableFuture.completedFuture(null)).when(batch).nack(any());
+        doReturn(ReactiveStreams.failed(new Exception(INTERNAL_ERROR))).when(scheduler).scheduleAll(any());
+
+        eventConsumer.onKogitoServiceRequestBatch(batch)
+                .subscribe().with(callback -> {
+                }, Assertions::fail);
+
+        verify(scheduler, never()).cancelAll(any());
+        verify(batch, never()).ack();
+        verify(batch).nack(errorCaptor.capture());
+        assertThat(errorCaptor.getValue())
+                .isInstanceOf(JobServiceException.class)
+                .hasMessageContaining(INTERNAL_ERROR);
+    }
+
     private void executeSuccessfulExecution() {
         eventConsumer.onKogitoServiceRequest(message)
                 .subscribe().with(callback -> {
@@ -15,6 +15,8 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Lease;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.Recipient;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
@@ -150,6 +153,104 @@ public abstract class BaseJobRepositoryTest {
         assertThat(fetchedNotFound.size()).isZero();
     }
 
+    @Test
+    void testFindByStatus() throws ExecutionException, InterruptedException {
+        ZonedDateTime now = DateUtil.now();
+        List<JobDetails> jobs = IntStream.rangeClosed(1, 4).boxed()
+                .map(i -> JobDetails.builder()
+                        .id(UUID.randomUUID().toString())
+                        .status(i % 2 == 0 ? JobStatus.ERROR : JobStatus.SCHEDULED)
+                        .priority(i)
+                        .trigger(new PointInTimeTrigger(now.plusMinutes(10 - i).toInstant().toEpochMilli(), null, null))
+                        .recipient(new Recipient.HTTPRecipient("url"))
+                        .build())
+                .peek(j -> FunctionsUtil.unchecked((t) -> tested().save(j).toCompletableFuture().get()).apply(null))
+                .collect(Collectors.toList());
+
+        List<JobDetails> scheduled = tested().findByStatus(JobStatus.SCHEDULED).toList().run().toCompletableFuture().get();
+        assertThat(scheduled).containsExactly(jobs.get(2), jobs.get(0));
+
+        List<JobDetails> limited = tested().findByStatus(3, JobStatus.SCHEDULED, JobStatus.ERROR).toList().run().toCompletableFuture().get();
+        assertThat(limited).containsExactly(jobs.get(3), jobs.get(2), jobs.get(1));
+
+        assertThat(tested().findByStatus(JobStatus.CANCELED).toList().run().toCompletableFuture().get()).isEmpty();
+    }
+
+    @Test
+    void testUpsert() throws ExecutionException, InterruptedException {
+        JobDetails created = JobDetails.builder()
+                .id(UUID.randomUUID().toString())
+                .status(JobStatus.SCHEDULED)
+                .priority(1)
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .recipient(new Recipient.HTTPRecipient("url"))
+                .build();
+        assertThat(tested().upsert(created, JobStatus.SCHEDULED).toCompletableFuture().get()).isNull();
+        assertThat(tested().get(created.getId()).toCompletableFuture().get()).isEqualTo(created);
+
+        JobDetails replaced = JobDetails.builder().of(created).scheduledId("1").build();
+        assertThat(tested().upsert(replaced, JobStatus.SCHEDULED).toCompletableFuture().get()).isEqualTo(created);
+        assertThat(tested().get(created.getId()).toCompletableFuture().get()).isEqualTo(replaced);
+
+        JobDetails retry = JobDetails.builder().of(replaced).status(JobStatus.RETRY).build();
+        tested().save(retry).toCompletableFuture().get();
+        JobDetails notReplaced = JobDetails.builder().of(created).scheduledId("2").build();
+        assertThat(tested().upsert(notReplaced, JobStatus.SCHEDULED).toCompletableFuture().get()).isEqualTo(retry);
+        assertThat(tested().get(created.getId()).toCompletableFuture().get()).isEqualTo(retry);
+    }
+
+    @Test
+    void testUpsertAll() throws Exception {
+        JobDetails scheduled = JobDetails.builder()
+                .id(UUID.randomUUID().toString())
+                .status(JobStatus.SCHEDULED)
+                .priority(1)
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .recipient(new Recipient.HTTPRecipient("url"))
+                .build();
+        JobDetails retry = JobDetails.builder().of(scheduled).id(UUID.randomUUID().toString()).status(JobStatus.RETRY).build();
+        tested().saveAll(List.of(scheduled, retry)).toList().run().toCompletableFuture().get();
+
+        JobDetails replaced = JobDetails.builder().of(scheduled).scheduledId("1").build();
+        JobDetails notReplaced = JobDetails.builder().of(retry).status(JobStatus.SCHEDULED).build();
+        JobDetails created = JobDetails.builder().of(scheduled).id(UUID.randomUUID().toString()).build();
+        List<JobDetails> previous = tested().upsertAll(List.of(replaced, notReplaced, created), JobStatus.SCHEDULED)
+                .toCompletableFuture().get();
+
+        assertThat(previous).containsExactlyInAnyOrder(scheduled, retry);
+        assertThat(tested().get(scheduled.getId()).toCompletableFuture().get()).isEqualTo(replaced);
+        assertThat(tested().get(retry.getId()).toCompletableFuture().get()).isEqualTo(retry);
+        assertThat(tested().get(created.getId()).toCompletableFuture().get()).isEqualTo(created);
+        assertThat(tested().upsertAll(List.of(), JobStatus.SCHEDULED).toCompletableFuture().get()).isEmpty();
+    }
+
+    @Test
+    void testSaveGetAndDeleteAll() throws Exception {
+        List<JobDetails> jobs = IntStream.rangeClosed(1, 3).boxed()
+                .map(i -> JobDetails.builder()
+                        .id(UUID.randomUUID().toString())
+                        .status(JobStatus.SCHEDULED)
+                        .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(i).toInstant().toEpochMilli(), null, null))
+                        .priority(i)
+                        .recipient(new Recipient.HTTPRecipient("url"))
+                        .build())
+                .collect(Collectors.toList());
+        List<String> ids = jobs.stream().map(JobDetails::getId).collect(Collectors.toList());
+
+        List<JobDetails> saved = tested().saveAll(jobs).toList().run().toCompletableFuture().get();
+        assertThat(saved).containsExactlyInAnyOrderElementsOf(jobs);
+
+        List<String> missingAndExisting = new ArrayList<>(ids);
+        missingAndExisting.add(UUID.randomUUID().toString());
+        List<JobDetails> fetched = tested().getAll(missingAndExisting).toList().run().toCompletableFuture().get();
+        assertThat(fetched).containsExactlyInAnyOrderElementsOf(jobs);
+
+        List<JobDetails> deleted = tested().deleteAll(jobs).toList().run().toCompletableFuture().get();
+        assertThat(deleted).containsExactlyInAnyOrderElementsOf(jobs);
+        assertThat(tested().getAll(ids).toList().run().toCompletableFuture().get()).isEmpty();
+        assertThat(tested().get(ID).toCompletableFuture().get()).isNotNull();
+    }
+
     @Test
     void testMergeCallbackEndpoint() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -166,4 +267,38 @@ public abstract class BaseJobRepositoryTest {
         assertThat(merged.getId()).isEqualTo(job.getId());
         assertThat(merged.getTrigger().hasNextFireTime()).isEqualTo(job.getTrigger().hasNextFireTime());
     }
+
+    @Test
+    void testLeases() throws Exception {
+        String id = UUID.randomUUID().toString();
+        String owner = UUID.randomUUID().toString();
+        String other = UUID.randomUUID().toString();
+        ZonedDateTime expirationTime = DateUtil.now().plusMinutes(1);
+
+        assertThat(tested().acquireLease(id, owner, expirationTime).toCompletableFuture().get()).isTrue();
+        assertThat(tested().acquireLease(id, other, expirationTime).toCompletableFuture().get()).isFalse();
+        //renewal by the owner
+        assertThat(tested().acquireLease(id, owner, expirationTime.plusMinutes(1)).toCompletableFuture().get()).isTrue();
+
+        List<Lease> leases = tested().findLeases().toList().run().toCompletableFuture().get();
+        assertThat(leases).filteredOn(lease -> lease.getId().equals(id))
+                .singleElement()
+                .satisfies(lease -> assertThat(lease.getOwner()).isEqualTo(owner))
+                .satisfies(lease -> assertThat(lease.isExpired(DateUtil.now())).isFalse());
+
+        assertThat(tested().releaseLease(id, other).toCompletableFuture().get()).isFalse();
+        assertThat(tested().releaseLease(id, owner).toCompletableFuture().get()).isTrue();
+        assertThat(tested().acquireLease(id, other, expirationTime).toCompletableFuture().get()).isTrue();
+    }
+
+    @Test
+    void testAcquireExpiredLease() throws Exception {
+        String id = UUID.randomUUID().toString();
+        String owner = UUID.randomUUID().toString();
+        String other = UUID.randomUUID().toString();
+
+        assertThat(tested().acquireLease(id, owner, DateUtil.now().minusMinutes(1)).toCompletableFuture().get()).isTrue();
+        assertThat(tested().acquireLease(id, other, DateUtil.now().plusMinutes(1)).toCompletableFuture().get()).isTrue();
+        assertThat(tested().releaseLease(id, owner).toCompletableFuture().get()).isFalse();
+    }
 }
@@ -15,23 +15,41 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.vertx.core.Vertx;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
 @ExtendWith(MockitoExtension.class)
 class InMemoryJobRepositoryTest extends BaseJobRepositoryTest {
 
     @InjectMocks
     private InMemoryJobRepository tested;
 
+    private JobStreams jobStreams;
+
     @BeforeEach
     public void setUp() throws Exception {
-        tested = new InMemoryJobRepository(Vertx.vertx(), mockJobStreams());
+        jobStreams = mockJobStreams();
+        tested = new InMemoryJobRepository(Vertx.vertx(), jobStreams);
         super.setUp();
     }
 
@@ -39,4 +57,99 @@ class InMemoryJobRepositoryTest extends BaseJobRepositoryTest {
     public ReactiveJobRepository tested() {
         return tested;
     }
+
+    @Test
+    void testUpsertPublishesReplacedJobCanceled() throws Exception {
+        JobDetails created = JobDetails.builder()
+                .id("replaced")
+                .status(JobStatus.SCHEDULED)
+                .priority(1)
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        tested.upsert(created, JobStatus.SCHEDULED).toCompletableFuture().get();
+        JobDetails replacing = JobDetails.builder().of(created).scheduledId("1").build();
+        tested.upsert(replacing, JobStatus.SCHEDULED).toCompletableFuture().get();
+
+        ArgumentCaptor<JobDetails> published = ArgumentCaptor.forClass(JobDetails.class);
+        verify(jobStreams, atLeastOnce()).publishJobStatusChange(published.capture());
+        List<JobDetails> changes = published.getAllValues();
+        assertThat(changes.subList(changes.size() - 3, changes.size()))
+                .extracting(JobDetails::getId, JobDetails::getStatus, JobDetails::getScheduledId)
+                .containsExactly(tuple("replaced", JobStatus.SCHEDULED, null),
+                        tuple("replaced", JobStatus.CANCELED, null),
+                        tuple("replaced", JobStatus.SCHEDULED, "1"));
+    }
+
+    @Test
+    void testUpsertAllPublishesReplacedJobsCanceled() throws Exception {
+        JobDetails created = JobDetails.builder()
+                .id("replaced")
+                .status(JobStatus.SCHEDULED)
+                .priority(1)
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        JobDetails running = JobDetails.builder().of(created).id("running").status(JobStatus.RUNNING).build();
+        tested.saveAll(List.of(created, running)).toList().run().toCompletableFuture().get();
+        JobDetails replacing = JobDetails.builder().of(created).scheduledId("1").build();
+        JobDetails notReplacing = JobDetails.builder().of(running).status(JobStatus.SCHEDULED).build();
+        tested.upsertAll(List.of(replacing, notReplacing), JobStatus.SCHEDULED).toCompletableFuture().get();
+
+        ArgumentCaptor<JobDetails> published = ArgumentCaptor.forClass(JobDetails.class);
+        verify(jobStreams, atLeastOnce()).publishJobStatusChange(published.capture());
+        List<JobDetails> changes = published.getAllValues();
+        assertThat(changes.subList(changes.size() - 2, changes.size()))
+                .extracting(JobDetails::getId, JobDetails::getStatus, JobDetails::getScheduledId)
+                .containsExactly(tuple("replaced", JobStatus.CANCELED, null),
+                        tuple("replaced", JobStatus.SCHEDULED, "1"));
+    }
+
+    @Test
+    void testIndexesUpdatedOnSaveAndDelete() throws Exception {
+        ZonedDateTime now = DateUtil.now();
+        JobDetails job = JobDetails.builder()
+                .id("indexed")
+                .status(JobStatus.SCHEDULED)
+                .priority(1)
+                .trigger(new PointInTimeTrigger(now.plusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        tested.save(job).toCompletableFuture().get();
+        assertThat(findBetween(now, now.plusMinutes(2), JobStatus.SCHEDULED)).containsExactly(job);
+        assertThat(tested.findByStatus(JobStatus.SCHEDULED).toList().run().toCompletableFuture().get()).containsExactly(job);
+
+        JobDetails rescheduled = JobDetails.builder()
+                .of(job)
+                .status(JobStatus.RETRY)
+                .trigger(new PointInTimeTrigger(now.plusMinutes(3).toInstant().toEpochMilli(), null, null))
+                .build();
+        tested.save(rescheduled).toCompletableFuture().get();
+        assertThat(findBetween(now, now.plusMinutes(2), JobStatus.SCHEDULED, JobStatus.RETRY)).isEmpty();
+        assertThat(findBetween(now, now.plusMinutes(4), JobStatus.SCHEDULED, JobStatus.RETRY)).containsExactly(rescheduled);
+        assertThat(tested.findByStatus(JobStatus.SCHEDULED).toList().run().toCompletableFuture().get()).isEmpty();
+        assertThat(tested.findByStatus(JobStatus.RETRY).toList().run().toCompletableFuture().get()).containsExactly(rescheduled);
+
+        tested.delete(rescheduled.getId()).toCompletableFuture().get();
+        assertThat(findBetween(now, now.plusMinutes(4), JobStatus.RETRY)).isEmpty();
+        assertThat(tested.findByStatus(JobStatus.RETRY).toList().run().toCompletableFuture().get()).isEmpty();
+    }
+
+    @Test
+    void testFindByStatusBetweenDatesExcludesBounds() throws Exception {
+        ZonedDateTime fireTime = DateUtil.now().plusMinutes(1);
+        JobDetails job = JobDetails.builder()
+                .id("bounds")
+                .status(JobStatus.SCHEDULED)
+                .priority(1)
+                .trigger(new PointInTimeTrigger(fireTime.toInstant().toEpochMilli(), null, null))
+                .build();
+        tested.save(job).toCompletableFuture().get();
+
+        ZonedDateTime exact = DateUtil.fromDate(job.getTrigger().hasNextFireTime());
+        assertThat(findBetween(exact, exact.plusMinutes(1), JobStatus.SCHEDULED)).isEmpty();
+        assertThat(findBetween(exact.minusMinutes(1), exact, JobStatus.SCHEDULED)).isEmpty();
+        assertThat(findBetween(exact.minusNanos(1), exact.plusNanos(1), JobStatus.SCHEDULED)).containsExactly(job);
+    }
+
+    private List<JobDetails> findBetween(ZonedDateTime from, ZonedDateTime to, JobStatus... status) throws Exception {
+        return tested.findByStatusBetweenDatesOrderByPriority(from, to, status).toList().run().toCompletableFuture().get();
+    }
 }
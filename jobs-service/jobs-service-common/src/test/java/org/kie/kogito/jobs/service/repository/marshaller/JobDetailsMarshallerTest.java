@@ -58,6 +58,7 @@ class JobDetailsMarshallerTest {
         Recipient.HTTPRecipient recipient = new Recipient.HTTPRecipient("testEndpoint");
         Trigger trigger = new PointInTimeTrigger(new Date().toInstant().toEpochMilli(), null, null);
         JobDetails.Type type = JobDetails.Type.HTTP;
+        Integer partition = 5;
 
         jobDetails = JobDetails.builder()
                 .id(id)
@@ -72,6 +73,7 @@ class JobDetailsMarshallerTest {
                 .priority(priority)
                 .recipient(recipient)
                 .trigger(trigger)
+                .partition(partition)
                 .build();
 
         jsonObject = new JsonObject()
@@ -90,7 +92,8 @@ class JobDetailsMarshallerTest {
                         .put("classType", Recipient.HTTPRecipient.class.getName()))
                 .put("trigger", new JsonObject()
                         .put("nextFireTime", trigger.hasNextFireTime().getTime())
-                        .put("classType", PointInTimeTrigger.class.getName()));
+                        .put("classType", PointInTimeTrigger.class.getName()))
+                .put("partition", partition);
     }
 
     @Test
@@ -105,7 +108,9 @@ class JobDetailsMarshallerTest {
 
     @Test
     void unmarshall() {
-        assertEquals(jobDetails, jobDetailsMarshaller.unmarshall(jsonObject));
+        JobDetails unmarshalled = jobDetailsMarshaller.unmarshall(jsonObject);
+        assertEquals(jobDetails, unmarshalled);
+        assertEquals(jobDetails.getPartition(), unmarshalled.getPartition());
     }
 
     @Test
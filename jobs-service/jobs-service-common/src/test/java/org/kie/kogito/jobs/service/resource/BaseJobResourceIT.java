@@ -17,8 +17,11 @@ package org.kie.kogito.jobs.service.resource;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -42,6 +45,7 @@ import io.restassured.response.ValidatableResponse;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -140,6 +144,35 @@ public abstract class BaseJobResourceIT {
         assertEquals(job, response);
     }
 
+    @Test
+    void createAndDeleteBatch() throws Exception {
+        final List<String> ids = Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final List<Job> jobs = ids.stream().map(this::getJob).collect(Collectors.toList());
+        final ScheduledJob[] created = given()
+                .contentType(ContentType.JSON)
+                .body(objectMapper.writeValueAsString(jobs))
+                .when()
+                .post(JobResource.JOBS_PATH + JobResource.BATCH_PATH)
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ScheduledJob[].class);
+        assertThat(created).extracting(ScheduledJob::getId).containsExactlyInAnyOrderElementsOf(ids);
+        ids.forEach(this::assertGetScheduledJob);
+
+        final ScheduledJob[] deleted = given()
+                .contentType(ContentType.JSON)
+                .body(objectMapper.writeValueAsString(ids))
+                .when()
+                .delete(JobResource.JOBS_PATH + JobResource.BATCH_PATH)
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ScheduledJob[].class);
+        assertThat(deleted).extracting(ScheduledJob::getId).containsExactlyInAnyOrderElementsOf(ids);
+        ids.forEach(this::assertJobNotFound);
+    }
+
     @Test
     void getAfterCreate() throws Exception {
         final String id = "3";
@@ -160,6 +193,28 @@ public abstract class BaseJobResourceIT {
         assertNotNull(scheduledJob.getScheduledId());
     }
 
+    @Test
+    void metricsTest() throws Exception {
+        final String id = UUID.randomUUID().toString();
+        final Job job = getJob(id, DateUtil.now().plusSeconds(1));
+        create(jobToJson(job));
+
+        //the job fires and executes the callback, the other meters are registered on startup
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> given()
+                        .when()
+                        .get("/q/metrics")
+                        .then()
+                        .statusCode(200)
+                        .body(containsString("kogito_jobs_fire_lag_seconds_count"),
+                                containsString("kogito_jobs_callback_latency_seconds_count{outcome="),
+                                containsString("kogito_jobs_timers_pending"),
+                                containsString("kogito_jobs_chunk_load_duration_seconds_count"),
+                                containsString("kogito_jobs_chunk_load_size_count"),
+                                containsString("kogito_jobs_retries_total"),
+                                containsString("kogito_jobs_errors_total")));
+    }
+
     @Test
     void cancelRunningNonPeriodicJobTest() throws Exception {
         final String id = UUID.randomUUID().toString();
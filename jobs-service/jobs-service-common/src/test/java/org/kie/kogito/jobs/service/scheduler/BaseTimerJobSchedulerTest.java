@@ -20,7 +20,6 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
@@ -99,6 +98,7 @@ public abstract class BaseTimerJobSchedulerTest {
         scheduled = CompletableFuture.completedFuture(scheduledJob);
         lenient().when(jobRepository.get(JOB_ID)).thenReturn(scheduled);
         lenient().when(jobRepository.save(any(JobDetails.class))).thenAnswer(a -> CompletableFuture.completedFuture(a.getArgument(0)));
+        lenient().when(jobRepository.upsert(any(JobDetails.class), eq(SCHEDULED))).thenReturn(CompletableFuture.completedFuture(null));
         lenient().when(jobExecutor.execute(any())).thenReturn(scheduled);
 
         errorResponse = JobExecutionResponse.builder()
@@ -112,12 +112,12 @@ public abstract class BaseTimerJobSchedulerTest {
 
     @Test
     void testScheduleNotExistingJob() {
-        when(jobRepository.exists(JOB_ID)).thenReturn(CompletableFuture.completedFuture(false));
         Publisher<JobDetails> schedule = tested().schedule(scheduledJob);
         verify(tested(), never()).doSchedule(eq(scheduledJob), delayCaptor.capture());
         subscribeOn(schedule);
         verify(tested()).doSchedule(eq(scheduledJob), delayCaptor.capture());
-        verify(jobRepository).save(scheduleCaptor.capture());
+        verify(jobRepository).upsert(scheduleCaptor.capture(), eq(SCHEDULED));
+        verify(jobRepository, never()).exists(any());
         JobDetails scheduledJob = scheduleCaptor.getValue();
         assertThat(scheduledJob.getScheduledId()).isEqualTo(SCHEDULED_ID);
         assertThat(scheduledJob.getId()).isEqualTo(JOB_ID);
@@ -139,19 +139,14 @@ public abstract class BaseTimerJobSchedulerTest {
                 .of(expired)
                 .filter(Boolean.TRUE::equals)
                 .map(e -> JobDetails.builder()
-                        .status(jobStatus)
+                        .status(SCHEDULED)
                         .id(JOB_ID)
                         .trigger(new PointInTimeTrigger(System.currentTimeMillis(), null, null))
                         .build())
-                .orElse(JobDetails.builder().of(scheduledJob).status(jobStatus).build());
-
-        when(jobRepository.exists(JOB_ID)).thenReturn(CompletableFuture.completedFuture(true));
+                .orElse(scheduledJob);
+        JobDetails existing = JobDetails.builder().of(scheduledJob).status(jobStatus).scheduledId("1").build();
 
-        CompletableFuture<JobDetails> scheduledJobCompletableFuture = CompletableFuture.completedFuture(scheduledJob);
-
-        lenient().when(jobRepository.delete(JOB_ID)).thenReturn(scheduledJobCompletableFuture);
-        lenient().when(jobRepository.delete(any(JobDetails.class))).thenReturn(scheduledJobCompletableFuture);
-        lenient().when(jobRepository.get(JOB_ID)).thenReturn(scheduledJobCompletableFuture);
+        lenient().when(jobRepository.upsert(any(JobDetails.class), eq(SCHEDULED))).thenReturn(CompletableFuture.completedFuture(existing));
 
         Publisher<JobDetails> schedule = tested().schedule(scheduledJob);
 
@@ -159,29 +154,34 @@ public abstract class BaseTimerJobSchedulerTest {
 
         subscribeOn(schedule);
 
-        verify(jobRepository, expired || SCHEDULED.equals(jobStatus) ? atLeastOnce() : never()).delete(any(JobDetails.class));
+        //an expired job fails before reaching the repository
         verify(tested(), expired ? never() : times(1)).doSchedule(eq(scheduledJob), delayCaptor.capture());
-        verify(jobRepository, expired ? never() : times(1)).save(scheduleCaptor.capture());
-
-        //assert always a scheduled job is canceled (periodic or not)
-        Optional.ofNullable(jobStatus)
-                .filter(SCHEDULED::equals)
-                .ifPresent(s -> {
-                    verify(tested()).cancel(scheduleCaptorFuture.capture());
-                    try {
-                        JobDetails value = scheduleCaptorFuture.getValue().toCompletableFuture().get(1, TimeUnit.MILLISECONDS);
-                        assertThat(value.getId()).isEqualTo(scheduledJob.getId());
-                        assertThat(value.getStatus()).isEqualTo(CANCELED);
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-
-        if (!expired) {
-            JobDetails returnedJobDetails = scheduleCaptor.getValue();
-            assertThat(returnedJobDetails.getScheduledId()).isEqualTo(SCHEDULED_ID);
-            assertThat(returnedJobDetails.getId()).isEqualTo(JOB_ID);
-            assertThat(returnedJobDetails.getStatus()).isEqualTo(scheduledJob.getStatus());
+        verify(jobRepository, expired ? never() : times(1)).upsert(scheduleCaptor.capture(), eq(SCHEDULED));
+        verify(jobRepository, never()).exists(any());
+        verify(jobRepository, never()).delete(any(JobDetails.class));
+        if (expired) {
+            return;
+        }
+
+        JobDetails upserted = scheduleCaptor.getValue();
+        assertThat(upserted.getScheduledId()).isEqualTo(SCHEDULED_ID);
+        assertThat(upserted.getId()).isEqualTo(JOB_ID);
+        assertThat(upserted.getStatus()).isEqualTo(SCHEDULED);
+
+        if (SCHEDULED.equals(jobStatus)) {
+            //assert always the replaced scheduled job is canceled (periodic or not)
+            verify(tested()).doCancel(scheduleCaptor.capture());
+            JobDetails cancelled = scheduleCaptor.getValue();
+            assertThat(cancelled.getId()).isEqualTo(existing.getId());
+            assertThat(cancelled.getScheduledId()).isEqualTo(existing.getScheduledId());
+            assertThat(cancelled.getStatus()).isEqualTo(CANCELED);
+            verify(tested(), never()).doCancel(upserted);
+        } else {
+            //the job was not replaced, so the new timer is cancelled and the existing job retried
+            verify(tested()).doCancel(upserted);
+            verify(tested()).doSchedule(eq(existing), delayCaptor.capture());
+            verify(jobRepository).save(scheduleCaptor.capture());
+            assertThat(scheduleCaptor.getValue().getStatus()).isEqualTo(JobStatus.RETRY);
         }
     }
 
@@ -308,12 +308,10 @@ public abstract class BaseTimerJobSchedulerTest {
                 .trigger(new PointInTimeTrigger(expirationTime.toInstant().toEpochMilli(), null, null))
                 .build();
 
-        when(jobRepository.exists(any())).thenReturn(CompletableFuture.completedFuture(Boolean.FALSE));
-
         subscribeOn(tested().schedule(scheduledJob));
 
         verify(tested(), never()).doSchedule(eq(scheduledJob), delayCaptor.capture());
-        verify(jobRepository).save(scheduleCaptor.capture());
+        verify(jobRepository).upsert(scheduleCaptor.capture(), eq(SCHEDULED));
         JobDetails current = scheduleCaptor.getValue();
         assertThat(current.getId()).isEqualTo(JOB_ID);
         assertThat(current.getStatus()).isEqualTo(SCHEDULED);
@@ -322,12 +320,10 @@ public abstract class BaseTimerJobSchedulerTest {
 
     @Test
     void testScheduleInCurrentChunk() {
-        when(jobRepository.exists(any())).thenReturn(CompletableFuture.completedFuture(Boolean.FALSE));
-
         subscribeOn(tested().schedule(scheduledJob));
 
         verify(tested()).doSchedule(eq(scheduledJob), delayCaptor.capture());
-        verify(jobRepository).save(scheduleCaptor.capture());
+        verify(jobRepository).upsert(scheduleCaptor.capture(), eq(SCHEDULED));
         JobDetails current = scheduleCaptor.getValue();
         assertThat(current.getId()).isEqualTo(JOB_ID);
         assertThat(current.getStatus()).isEqualTo(SCHEDULED);
@@ -350,8 +346,6 @@ public abstract class BaseTimerJobSchedulerTest {
 
     @Test
     void testForceExpiredJobToBeExecuted() {
-        when(jobRepository.exists(any())).thenReturn(CompletableFuture.completedFuture(Boolean.FALSE));
-
         scheduledJob = JobDetails.builder()
                 .of(scheduledJob)
                 .trigger(ScheduledJobAdapter.intervalTrigger(DateUtil.now().minusHours(1), 1, 1))
@@ -381,4 +375,49 @@ public abstract class BaseTimerJobSchedulerTest {
         verify(tested()).doCancel(merged);
         verify(tested()).schedule(merged);
     }
+
+    @Test
+    void testRescheduleOutOfCurrentChunk() {
+        subscribeOn(tested().schedule(scheduledJob));
+        assertThat(tested().scheduled(JOB_ID)).isPresent();
+
+        JobDetails existing = JobDetails.builder().of(scheduledJob).scheduledId(SCHEDULED_ID).build();
+        PointInTimeTrigger newTrigger =
+                new PointInTimeTrigger(DateUtil.now().plusMinutes(tested().schedulerChunkInMinutes + 10).toInstant().toEpochMilli(), null, null);
+        JobDetails merged = JobDetails.builder().of(existing).trigger(newTrigger).build();
+        when(jobRepository.merge(eq(JOB_ID), any(JobDetails.class))).thenReturn(CompletableFuture.completedFuture(merged));
+        when(jobRepository.upsert(any(JobDetails.class), eq(SCHEDULED))).thenReturn(CompletableFuture.completedFuture(existing));
+
+        subscribeOn(tested().reschedule(JOB_ID, newTrigger).buildRs());
+
+        //the job is saved without a timer, so it is no longer registered and the loader schedules it later
+        verify(tested(), times(1)).doSchedule(any(JobDetails.class), any());
+        //reschedule also cancels the merged job timer before scheduling it
+        verify(tested(), atLeastOnce()).doCancel(scheduleCaptor.capture());
+        assertThat(scheduleCaptor.getAllValues()).extracting(JobDetails::getStatus).contains(CANCELED);
+        assertThat(tested().scheduled(JOB_ID)).isEmpty();
+    }
+
+    @Test
+    void testReloadFiredJob() {
+        JobDetails reloaded = tested().reloadFiredJob(scheduledJob).toCompletableFuture().join();
+        assertThat(reloaded).isEqualTo(scheduledJob);
+        verify(jobRepository).get(JOB_ID);
+    }
+
+    @Test
+    void testReloadFiredJobCancelled() {
+        when(jobRepository.get(JOB_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        JobDetails reloaded = tested().reloadFiredJob(scheduledJob).toCompletableFuture().join();
+        assertThat(reloaded).isNull();
+    }
+
+    @Test
+    void testReloadFiredJobRescheduled() {
+        PointInTimeTrigger newTrigger = new PointInTimeTrigger(expirationTime.plusMinutes(1).toInstant().toEpochMilli(), null, null);
+        JobDetails rescheduled = JobDetails.builder().of(scheduledJob).trigger(newTrigger).build();
+        when(jobRepository.get(JOB_ID)).thenReturn(CompletableFuture.completedFuture(rescheduled));
+        JobDetails reloaded = tested().reloadFiredJob(scheduledJob).toCompletableFuture().join();
+        assertThat(reloaded).isNull();
+    }
 }
@@ -17,6 +17,7 @@ package org.kie.kogito.jobs.service.scheduler;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -43,6 +44,7 @@ import io.vertx.mutiny.core.Vertx;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -62,6 +64,9 @@ class JobSchedulerManagerTest {
     @Mock
     Vertx vertx;
 
+    @Mock
+    JobPartitions partitions;
+
     @Spy
     @InjectMocks
     private JobSchedulerManager tested;
@@ -84,9 +89,12 @@ class JobSchedulerManagerTest {
 
         lenient().when(repository.findByStatusBetweenDatesOrderByPriority(any(ZonedDateTime.class),
                 any(ZonedDateTime.class),
+                any(),
                 any(JobStatus.class),
                 any(JobStatus.class)))
                 .thenReturn(ReactiveStreams.of(scheduledJob));
+        lenient().when(partitions.isOwned(JOB_ID))
+                .thenReturn(true);
         lenient().when(scheduler.scheduled(JOB_ID))
                 .thenReturn(Optional.empty());
         lenient().when(scheduler.schedule(scheduledJob))
@@ -123,4 +131,29 @@ class JobSchedulerManagerTest {
         tested.loadJobDetailss();
         verify(scheduler, never()).schedule(scheduledJob);
     }
+
+    @Test
+    void testLoadJobDetailssOfAllPartitions() {
+        tested.loadJobDetailss();
+        verify(repository).findByStatusBetweenDatesOrderByPriority(any(ZonedDateTime.class), any(ZonedDateTime.class), isNull(),
+                eq(JobStatus.SCHEDULED), eq(JobStatus.RETRY));
+    }
+
+    @Test
+    void testLoadJobDetailssOfOwnedPartitions() {
+        when(partitions.isEnabled()).thenReturn(true);
+        when(partitions.getOwnedPartitions()).thenReturn(Set.of(1, 3));
+
+        tested.loadJobDetailss();
+        verify(repository).findByStatusBetweenDatesOrderByPriority(any(ZonedDateTime.class), any(ZonedDateTime.class), eq(Set.of(1, 3)),
+                eq(JobStatus.SCHEDULED), eq(JobStatus.RETRY));
+    }
+
+    @Test
+    void testLoadJobDetailssOwnedByOtherInstance() {
+        when(partitions.isOwned(JOB_ID)).thenReturn(false);
+
+        tested.loadJobDetailss();
+        verify(scheduler, never()).schedule(scheduledJob);
+    }
 }
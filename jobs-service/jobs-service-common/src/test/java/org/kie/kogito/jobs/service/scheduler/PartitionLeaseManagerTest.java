@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.jobs.service.model.Lease;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.mutiny.core.Vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.jobs.service.scheduler.PartitionLeaseManager.MEMBER_LEASE_PREFIX;
+import static org.kie.kogito.jobs.service.scheduler.PartitionLeaseManager.PARTITION_LEASE_PREFIX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionLeaseManagerTest {
+
+    private static final String OTHER = "other";
+    private static final String ANOTHER = "another";
+    private static final String YET_ANOTHER = "yet-another";
+
+    @Mock
+    ReactiveJobRepository repository;
+
+    @Mock
+    TimerDelegateJobScheduler scheduler;
+
+    @Mock
+    JobSchedulerManager schedulerManager;
+
+    @Mock
+    Vertx vertx;
+
+    @InjectMocks
+    private PartitionLeaseManager tested;
+
+    private JobPartitions jobPartitions;
+
+    private ZonedDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        tested.leaseDurationInSeconds = 30;
+        jobPartitions = new JobPartitions();
+        jobPartitions.enabled = true;
+        jobPartitions.partitionCount = 4;
+        tested.partitions = jobPartitions;
+        now = DateUtil.now();
+        lenient().when(repository.acquireLease(anyString(), anyString(), any(ZonedDateTime.class)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        lenient().when(repository.releaseLease(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        lenient().when(scheduler.unschedule(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void testOnStartupDisabled(@Mock StartupEvent event) {
+        jobPartitions.enabled = false;
+        tested.onStartup(event);
+        verify(vertx, never()).setPeriodic(anyLong(), any());
+    }
+
+    @Test
+    void testOnStartup(@Mock StartupEvent event) {
+        tested.onStartup(event);
+        verify(vertx).runOnContext(any());
+        verify(vertx).setPeriodic(eq(10000L), any());
+    }
+
+    @Test
+    void testAcquireAllPartitionsWhenAlone() {
+        when(repository.findLeases()).thenReturn(ReactiveStreams.of(member(jobPartitions.getInstanceId())));
+
+        tested.doRenewLeases(now, now.plusSeconds(30)).toCompletableFuture().join();
+
+        assertThat(jobPartitions.getOwnedPartitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+        verify(schedulerManager).loadJobDetailss();
+    }
+
+    @Test
+    void testSharePartitionsWithOtherMember() {
+        when(repository.findLeases()).thenReturn(ReactiveStreams.of(member(jobPartitions.getInstanceId()),
+                member(OTHER),
+                partition(0, OTHER)));
+
+        tested.doRenewLeases(now, now.plusSeconds(30)).toCompletableFuture().join();
+
+        assertThat(jobPartitions.getOwnedPartitions()).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void testReleaseExceedingPartitions() {
+        jobPartitions.addOwnedPartition(0);
+        jobPartitions.addOwnedPartition(1);
+        jobPartitions.addOwnedPartition(2);
+        jobPartitions.addOwnedPartition(3);
+        when(repository.findLeases()).thenReturn(ReactiveStreams.of(member(jobPartitions.getInstanceId()), member(OTHER)));
+
+        tested.doRenewLeases(now, now.plusSeconds(30)).toCompletableFuture().join();
+
+        assertThat(jobPartitions.getOwnedPartitions()).containsExactlyInAnyOrder(0, 1);
+        verify(repository).releaseLease(PARTITION_LEASE_PREFIX + 2, jobPartitions.getInstanceId());
+        verify(repository).releaseLease(PARTITION_LEASE_PREFIX + 3, jobPartitions.getInstanceId());
+        verify(schedulerManager, never()).loadJobDetailss();
+    }
+
+    @Test
+    void testDropLostPartition() {
+        jobPartitions.addOwnedPartition(0);
+        when(repository.findLeases()).thenReturn(ReactiveStreams.of(member(jobPartitions.getInstanceId()),
+                member(OTHER),
+                member(ANOTHER),
+                member(YET_ANOTHER),
+                partition(1, OTHER),
+                partition(2, ANOTHER),
+                partition(3, YET_ANOTHER)));
+        when(repository.acquireLease(eq(PARTITION_LEASE_PREFIX + 0), anyString(), any(ZonedDateTime.class)))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        tested.doRenewLeases(now, now.plusSeconds(30)).toCompletableFuture().join();
+
+        assertThat(jobPartitions.getOwnedPartitions()).isEmpty();
+        verify(scheduler).unschedule(any());
+    }
+
+    @Test
+    void testIgnoreExpiredLeases() {
+        when(repository.findLeases()).thenReturn(ReactiveStreams.of(member(jobPartitions.getInstanceId()),
+                new Lease(MEMBER_LEASE_PREFIX + OTHER, OTHER, now.minusSeconds(1)),
+                new Lease(PARTITION_LEASE_PREFIX + 0, OTHER, now.minusSeconds(1))));
+
+        tested.doRenewLeases(now, now.plusSeconds(30)).toCompletableFuture().join();
+
+        assertThat(jobPartitions.getOwnedPartitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    private Lease member(String owner) {
+        return new Lease(MEMBER_LEASE_PREFIX + owner, owner, now.plusSeconds(30));
+    }
+
+    private Lease partition(int partition, String owner) {
+        return new Lease(PARTITION_LEASE_PREFIX + partition, owner, now.plusSeconds(30));
+    }
+}
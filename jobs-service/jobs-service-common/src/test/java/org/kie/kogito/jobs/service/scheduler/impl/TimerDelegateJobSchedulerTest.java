@@ -15,8 +15,10 @@
  */
 package org.kie.kogito.jobs.service.scheduler.impl;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
@@ -24,16 +26,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.job.HttpJob;
 import org.kie.kogito.jobs.service.model.job.HttpJobContext;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.ManageableJobHandle;
 import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
 import org.kie.kogito.jobs.service.scheduler.BaseTimerJobSchedulerTest;
+import org.kie.kogito.jobs.service.scheduler.JobPartitions;
 import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.timer.Job;
 import org.kie.kogito.timer.JobContext;
 import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -43,12 +49,15 @@ import org.reactivestreams.Publisher;
 import io.smallrye.mutiny.Multi;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
@@ -60,12 +69,16 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
     @Mock
     private VertxTimerServiceScheduler timer;
 
+    @Mock
+    private JobPartitions partitions;
+
     @BeforeEach
     public void setUp() {
         super.setUp();
         ManageableJobHandle handle = new ManageableJobHandle(SCHEDULED_ID);
         handle.setScheduledTime(DateUtil.now());
         lenient().when(timer.scheduleJob(any(Job.class), any(JobContext.class), any(Trigger.class))).thenReturn(handle);
+        lenient().when(partitions.isOwned(any())).thenReturn(true);
     }
 
     @Override
@@ -95,6 +108,145 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
         verify(timer, never()).removeJob(any(ManageableJobHandle.class));
     }
 
+    @Test
+    void testScheduleJobOwnedByOtherInstance() {
+        when(partitions.isOwned(JOB_ID)).thenReturn(false);
+
+        Multi.createFrom().publisher(tested.schedule(scheduledJob)).subscribe().with(dummyCallback(), dummyCallback());
+
+        verify(tested, never()).doSchedule(eq(scheduledJob), any());
+        verify(jobRepository).upsert(any(JobDetails.class), eq(JobStatus.SCHEDULED));
+    }
+
+    @Test
+    void testScheduleAssignsPartition() {
+        when(partitions.getPartition(JOB_ID)).thenReturn(7);
+        ArgumentCaptor<JobDetails> captor = ArgumentCaptor.forClass(JobDetails.class);
+
+        Multi.createFrom().publisher(tested.schedule(scheduledJob)).subscribe().with(dummyCallback(), dummyCallback());
+
+        verify(jobRepository).upsert(captor.capture(), eq(JobStatus.SCHEDULED));
+        assertThat(captor.getValue().getPartition()).isEqualTo(7);
+    }
+
+    @Test
+    void testUnschedule() {
+        Multi.createFrom().publisher(tested.schedule(scheduledJob)).subscribe().with(dummyCallback(), dummyCallback());
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+        when(jobRepository.get(JOB_ID)).thenReturn(CompletableFuture.completedFuture(
+                JobDetails.builder().of(scheduledJob).scheduledId(SCHEDULED_ID).build()));
+
+        tested.unschedule(JOB_ID::equals).toCompletableFuture().join();
+
+        assertThat(tested.scheduled(JOB_ID)).isEmpty();
+        verify(timer).removeJob(any(ManageableJobHandle.class));
+    }
+
+    @Test
+    void testScheduleAll() {
+        JobDetails laterJob = JobDetails.builder()
+                .id("later")
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusDays(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        JobDetails executedJob = JobDetails.builder().of(scheduledJob).id("executed").status(JobStatus.EXECUTED).build();
+        when(jobRepository.upsertAll(any(), eq(JobStatus.SCHEDULED))).thenReturn(CompletableFuture.completedFuture(List.of(executedJob)));
+
+        List<JobDetails> scheduled = tested.scheduleAll(List.of(scheduledJob, laterJob, executedJob)).toList().run().toCompletableFuture().join();
+
+        assertThat(scheduled).extracting(JobDetails::getId).containsExactly(JOB_ID, "later");
+        assertThat(scheduled).extracting(JobDetails::getScheduledId).containsExactly(SCHEDULED_ID, null);
+        assertThat(scheduled).extracting(JobDetails::getStatus).containsOnly(JobStatus.SCHEDULED);
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+        //the executed job was not replaced, so its new timer is cancelled
+        assertThat(tested.scheduled("executed")).isEmpty();
+        verify(timer, times(2)).scheduleJob(any(HttpJob.class), any(HttpJobContext.class), eq(scheduledJob.getTrigger()));
+        verify(timer).removeJob(any(ManageableJobHandle.class));
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testScheduleAllRepeatedId() {
+        JobDetails first = JobDetails.builder().of(scheduledJob).priority(1).build();
+        JobDetails last = JobDetails.builder().of(scheduledJob).priority(2).build();
+        ArgumentCaptor<List<JobDetails>> upsertCaptor = ArgumentCaptor.forClass(List.class);
+        when(jobRepository.upsertAll(upsertCaptor.capture(), eq(JobStatus.SCHEDULED))).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        List<JobDetails> scheduled = tested.scheduleAll(List.of(first, last)).toList().run().toCompletableFuture().join();
+
+        assertThat(scheduled).extracting(JobDetails::getPriority).containsExactly(2);
+        assertThat(upsertCaptor.getValue()).extracting(JobDetails::getPriority).containsExactly(2);
+        verify(timer).scheduleJob(any(HttpJob.class), any(HttpJobContext.class), eq(scheduledJob.getTrigger()));
+    }
+
+    @Test
+    void testScheduleAllReplacingScheduledJob() {
+        JobDetails existing = JobDetails.builder().of(scheduledJob).scheduledId("1").build();
+        when(jobRepository.upsertAll(any(), eq(JobStatus.SCHEDULED))).thenReturn(CompletableFuture.completedFuture(List.of(existing)));
+
+        List<JobDetails> scheduled = tested.scheduleAll(List.of(scheduledJob)).toList().run().toCompletableFuture().join();
+
+        assertThat(scheduled).extracting(JobDetails::getScheduledId).containsExactly(SCHEDULED_ID);
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+        verify(timer).removeJob(any(ManageableJobHandle.class));
+    }
+
+    @Test
+    void testScheduleAllSaveErrorRollsBackTimers() {
+        when(jobRepository.upsertAll(any(), eq(JobStatus.SCHEDULED))).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        ArgumentCaptor<ManageableJobHandle> handleCaptor = ArgumentCaptor.forClass(ManageableJobHandle.class);
+
+        assertThatThrownBy(() -> tested.scheduleAll(List.of(scheduledJob)).toList().run().toCompletableFuture().join())
+                .hasRootCauseMessage("error");
+
+        verify(timer).removeJob(handleCaptor.capture());
+        assertThat(handleCaptor.getValue().getId()).isEqualTo(Long.parseLong(SCHEDULED_ID));
+        assertThat(tested.scheduled(JOB_ID)).isEmpty();
+    }
+
+    @Test
+    void testScheduleAllSaveErrorKeepsRegisteredJob() {
+        Multi.createFrom().publisher(tested.schedule(scheduledJob)).subscribe().with(dummyCallback(), dummyCallback());
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+        when(jobRepository.upsertAll(any(), eq(JobStatus.SCHEDULED))).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+
+        assertThatThrownBy(() -> tested.scheduleAll(List.of(scheduledJob)).toList().run().toCompletableFuture().join())
+                .hasRootCauseMessage("error");
+
+        //only the new timer is cancelled, the replaced job keeps its timer and registration
+        verify(timer).removeJob(any(ManageableJobHandle.class));
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+    }
+
+    @Test
+    void testScheduleAllExpiredReplacementKeepsScheduledJob() {
+        JobDetails expired = JobDetails.builder()
+                .of(scheduledJob)
+                .trigger(new PointInTimeTrigger(DateUtil.now().minusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        when(jobRepository.upsertAll(any(), eq(JobStatus.SCHEDULED))).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        List<JobDetails> scheduled = tested.scheduleAll(List.of(expired)).toList().run().toCompletableFuture().join();
+
+        assertThat(scheduled).isEmpty();
+        verify(jobRepository).upsertAll(List.of(), JobStatus.SCHEDULED);
+        verify(timer, never()).scheduleJob(any(HttpJob.class), any(HttpJobContext.class), any(Trigger.class));
+        verify(timer, never()).removeJob(any(ManageableJobHandle.class));
+    }
+
+    @Test
+    void testCancelAll() {
+        JobDetails existing = JobDetails.builder().of(scheduledJob).scheduledId(SCHEDULED_ID).build();
+        when(jobRepository.getAll(List.of(JOB_ID, "missing"))).thenReturn(ReactiveStreams.of(existing));
+        when(jobRepository.deleteAll(any())).thenAnswer(a -> ReactiveStreams.fromIterable(a.getArgument(0)));
+
+        List<JobDetails> cancelled = tested.cancelAll(List.of(JOB_ID, "missing")).toList().run().toCompletableFuture().join();
+
+        assertThat(cancelled).extracting(JobDetails::getId).containsExactly(JOB_ID);
+        assertThat(cancelled).extracting(JobDetails::getStatus).containsExactly(JobStatus.CANCELED);
+        verify(timer).removeJob(any(ManageableJobHandle.class));
+    }
+
     @Test
     void testJobSuccessProcessor() {
         JobExecutionResponse response = getJobResponse();
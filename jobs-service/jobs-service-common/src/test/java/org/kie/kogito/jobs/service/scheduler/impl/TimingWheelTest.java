@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.mutiny.core.Vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.given;
+
+class TimingWheelTest {
+
+    private static final long TICK = TimeUnit.HOURS.toMillis(1);
+
+    private Vertx vertx;
+    private TimingWheel tested;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        // ticks are long enough for the periodic timer to never fire during the test, time is advanced manually
+        tested = new TimingWheel(vertx, TICK, 4);
+        fired = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tested.stop();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testFireDueTasks() {
+        long now = System.currentTimeMillis();
+        tested.schedule(now + TICK, () -> fired.add("1"));
+        tested.schedule(now + 3 * TICK, () -> fired.add("3"));
+
+        tested.advance(now + 2 * TICK);
+        assertThat(fired).containsExactly("1");
+
+        tested.advance(now + 4 * TICK);
+        assertThat(fired).containsExactly("1", "3");
+    }
+
+    @Test
+    void testFireTasksDueInLaterRotations() {
+        long now = System.currentTimeMillis();
+        tested.schedule(now + 10 * TICK, () -> fired.add("10"));
+
+        tested.advance(now + 9 * TICK);
+        assertThat(fired).isEmpty();
+
+        tested.advance(now + 11 * TICK);
+        assertThat(fired).containsExactly("10");
+    }
+
+    @Test
+    void testExpiredTaskFiresOnNextTick() {
+        long now = System.currentTimeMillis();
+        tested.advance(now + 2 * TICK);
+        tested.schedule(now - TICK, () -> fired.add("expired"));
+
+        tested.advance(now + 3 * TICK);
+        assertThat(fired).containsExactly("expired");
+    }
+
+    @Test
+    void testCancel() {
+        long now = System.currentTimeMillis();
+        long id = tested.schedule(now + TICK, () -> fired.add("1"));
+
+        assertThat(tested.cancel(id)).isTrue();
+        assertThat(tested.cancel(id)).isFalse();
+
+        tested.advance(now + 2 * TICK);
+        assertThat(fired).isEmpty();
+    }
+
+    @Test
+    void testPeriodicTimer() {
+        TimingWheel wheel = new TimingWheel(vertx, 10, 4);
+        try {
+            wheel.schedule(System.currentTimeMillis() + 50, () -> fired.add("1"));
+            given().await()
+                    .atMost(2, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(fired).containsExactly("1"));
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThatThrownBy(() -> new TimingWheel(vertx, 0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel(vertx, TICK, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -99,6 +99,31 @@ class VertxTimerServiceSchedulerTest {
         assertThat(tested.removeJob(handle)).isTrue();
     }
 
+    @Test
+    void testScheduleJobWithTimingWheel() {
+        TimingWheel timingWheel = new TimingWheel(vertx, 10, 16);
+        tested = new VertxTimerServiceScheduler(vertx, timingWheel);
+        final ManageableJobHandle handle = schedule(DateUtil.now().plusSeconds(1));
+        verify(vertx, never()).setTimer(any(Long.class), any());
+        given().await()
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(executor).execute(jobCaptor.capture()));
+        assertThat(jobCaptor.getValue().toCompletableFuture().getNow(null)).isEqualTo(jobDetails);
+        assertThat(handle.getScheduledTime()).isNotNull();
+        assertThat(tested.removeJob(handle)).isFalse();
+        timingWheel.stop();
+    }
+
+    @Test
+    void testRemoveScheduleJobWithTimingWheel() {
+        TimingWheel timingWheel = new TimingWheel(vertx, 10, 16);
+        tested = new VertxTimerServiceScheduler(vertx, timingWheel);
+        final ManageableJobHandle handle = schedule(DateUtil.now().plusHours(1));
+        assertThat(tested.removeJob(handle)).isTrue();
+        assertThat(tested.removeJob(handle)).isFalse();
+        timingWheel.stop();
+    }
+
     private ManageableJobHandle schedule(ZonedDateTime time) {
         final long timestamp = time.toInstant().toEpochMilli();
         trigger = new PointInTimeTrigger(timestamp, null, null);
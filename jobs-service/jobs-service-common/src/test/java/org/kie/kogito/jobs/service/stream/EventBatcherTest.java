@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventBatcherTest {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    private final List<CompletableFuture<Void>> sends = new ArrayList<>();
+
+    private CompletionStage<Void> send(List<Integer> batch) {
+        batches.add(batch);
+        CompletableFuture<Void> send = new CompletableFuture<>();
+        sends.add(send);
+        return send;
+    }
+
+    @Test
+    void testSendWhenFull() {
+        EventBatcher<Integer> tested = new EventBatcher<>(3, 10, OnOverflow.Strategy.LATEST, this::send);
+        tested.add(1);
+        tested.add(2);
+        assertThat(batches).isEmpty();
+
+        tested.add(3);
+        assertThat(batches).containsExactly(List.of(1, 2, 3));
+        assertThat(tested.getBuffered()).isZero();
+    }
+
+    @Test
+    void testFlush() {
+        EventBatcher<Integer> tested = new EventBatcher<>(3, 10, OnOverflow.Strategy.LATEST, this::send);
+        tested.flush();
+        assertThat(batches).isEmpty();
+
+        tested.add(1);
+        tested.flush();
+        assertThat(batches).containsExactly(List.of(1));
+    }
+
+    @Test
+    void testOneBatchAtATime() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 10, OnOverflow.Strategy.LATEST, this::send);
+        tested.add(1);
+        tested.add(2);
+        tested.add(3);
+        tested.add(4);
+        tested.add(5);
+        assertThat(batches).containsExactly(List.of(1, 2));
+
+        sends.get(0).complete(null);
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3, 4));
+
+        sends.get(1).completeExceptionally(new RuntimeException("error"));
+        assertThat(batches).hasSize(2);
+        assertThat(tested.getBuffered()).isEqualTo(3);
+
+        tested.flush();
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3, 4), List.of(3, 4));
+    }
+
+    @Test
+    void testFailedBatchOverflow() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 3, OnOverflow.Strategy.LATEST, this::send);
+        fillWhileSending(tested);
+
+        //the failed events are the oldest ones, so they are dropped first
+        sends.get(0).completeExceptionally(new RuntimeException("error"));
+        assertThat(tested.getBuffered()).isEqualTo(3);
+        assertThat(tested.getDropped()).isEqualTo(3);
+
+        tested.flush();
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(4, 5));
+    }
+
+    @Test
+    void testDrain() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 10, OnOverflow.Strategy.LATEST, this::send);
+        assertThat(tested.drain()).isCompleted();
+
+        tested.add(1);
+        tested.add(2);
+        tested.add(3);
+        CompletableFuture<Void> drained = tested.drain().toCompletableFuture();
+        assertThat(batches).containsExactly(List.of(1, 2));
+
+        sends.get(0).complete(null);
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3));
+        assertThat(drained).isNotDone();
+
+        sends.get(1).complete(null);
+        assertThat(drained).isCompleted();
+        assertThat(tested.getBuffered()).isZero();
+    }
+
+    @Test
+    void testDrainFailure() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 10, OnOverflow.Strategy.LATEST, this::send);
+        tested.add(1);
+        CompletableFuture<Void> drained = tested.drain().toCompletableFuture();
+
+        sends.get(0).completeExceptionally(new RuntimeException("error"));
+        assertThat(drained).isCompletedExceptionally();
+        assertThat(tested.getBuffered()).isEqualTo(1);
+    }
+
+    @Test
+    void testOverflowLatest() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 3, OnOverflow.Strategy.LATEST, this::send);
+        fillWhileSending(tested);
+
+        sends.get(0).complete(null);
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(4, 5));
+        assertThat(tested.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void testOverflowDrop() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 3, OnOverflow.Strategy.DROP, this::send);
+        fillWhileSending(tested);
+
+        sends.get(0).complete(null);
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3, 4));
+        assertThat(tested.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnboundedBuffer() {
+        EventBatcher<Integer> tested = new EventBatcher<>(2, 3, OnOverflow.Strategy.UNBOUNDED_BUFFER, this::send);
+        fillWhileSending(tested);
+
+        assertThat(tested.getBuffered()).isEqualTo(4);
+        assertThat(tested.getDropped()).isZero();
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThatThrownBy(() -> new EventBatcher<Integer>(0, 10, OnOverflow.Strategy.DROP, this::send))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventBatcher<Integer>(10, 5, OnOverflow.Strategy.DROP, this::send))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventBatcher<Integer>(1, 5, OnOverflow.Strategy.FAIL, this::send))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void fillWhileSending(EventBatcher<Integer> tested) {
+        //the first batch is being sent while the next events are buffered
+        for (int i = 1; i <= 6; i++) {
+            tested.add(i);
+        }
+        assertThat(batches).containsExactly(List.of(1, 2));
+    }
+}
@@ -50,6 +50,8 @@ public class InfinispanConfiguration {
         }
 
         public static final String JOB_DETAILS = "JOB_DETAILS";
+
+        public static final String JOB_LEASES = "JOB_LEASES";
     }
 
     @Produces
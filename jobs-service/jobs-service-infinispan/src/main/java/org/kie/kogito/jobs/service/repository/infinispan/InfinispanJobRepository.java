@@ -16,8 +16,16 @@
 package org.kie.kogito.jobs.service.repository.infinispan;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -27,25 +35,30 @@ import javax.inject.Inject;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.Search;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Lease;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.DateUtil;
 
 import io.vertx.core.Vertx;
 
 import static org.kie.kogito.jobs.service.repository.infinispan.InfinispanConfiguration.Caches.JOB_DETAILS;
+import static org.kie.kogito.jobs.service.repository.infinispan.InfinispanConfiguration.Caches.JOB_LEASES;
 
 @ApplicationScoped
 public class InfinispanJobRepository extends BaseReactiveJobRepository implements ReactiveJobRepository {
 
     private RemoteCache<String, JobDetails> cache;
+    private RemoteCache<String, Lease> leaseCache;
     private QueryFactory queryFactory;
     private RemoteCacheManager remoteCacheManager;
 
@@ -64,6 +77,7 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
     void init(@Observes InfinispanInitialized event) {
         this.cache = remoteCacheManager.getCache(JOB_DETAILS);
         this.queryFactory = Search.getQueryFactory(cache);
+        this.leaseCache = remoteCacheManager.getCache(JOB_LEASES);
     }
 
     @Override
@@ -72,11 +86,55 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
                 .thenApply(j -> job);
     }
 
+    @Override
+    public CompletionStage<JobDetails> doUpsert(JobDetails job, JobStatus replaceableStatus) {
+        return runAsync(() -> upsertJob(job, replaceableStatus));
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doUpsertAll(List<JobDetails> jobs, JobStatus replaceableStatus) {
+        //there is no conditional bulk write in Hot Rod, each job is upserted on its own
+        return runAsync(() -> jobs.stream()
+                .map(job -> upsertJob(job, replaceableStatus))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    private JobDetails upsertJob(JobDetails job, JobStatus replaceableStatus) {
+        // retries while other writers change the job between the read and the conditional write
+        while (true) {
+            MetadataValue<JobDetails> current = cache.getWithMetadata(job.getId());
+            if (current == null) {
+                JobDetails existing = cache.withFlags(Flag.FORCE_RETURN_VALUE).putIfAbsent(job.getId(), job);
+                if (existing == null) {
+                    return null;
+                }
+            } else if (!replaceableStatus.equals(current.getValue().getStatus())
+                    || cache.replaceWithVersion(job.getId(), job, current.getVersion())) {
+                return current.getValue();
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return runAsync(() -> {
+            cache.putAll(jobs.stream().collect(Collectors.toMap(JobDetails::getId, Function.identity(), (first, last) -> last)));
+            return jobs;
+        });
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String id) {
         return runAsync(() -> cache.get(id));
     }
 
+    @Override
+    public PublisherBuilder<JobDetails> getAll(List<String> ids) {
+        return ReactiveStreams.fromCompletionStage(runAsync(() -> cache.getAll(new HashSet<>(ids))))
+                .flatMapIterable(Map::values);
+    }
+
     @Override
     public CompletionStage<Boolean> exists(String id) {
         return runAsync(() -> cache.containsKey(id));
@@ -89,6 +147,14 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
                 .remove(id));
     }
 
+    @Override
+    public CompletionStage<Void> doDeleteAll(List<String> ids) {
+        //there is no bulk removal in Hot Rod, the removals are sent concurrently instead
+        return CompletableFuture.allOf(ids.stream()
+                .map(cache::removeAsync)
+                .toArray(CompletableFuture[]::new));
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findAll() {
         Query<JobDetails> query = queryFactory.<JobDetails> create("from job.service.JobDetails");
@@ -96,27 +162,72 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
-    public PublisherBuilder<JobDetails> findByStatus(JobStatus... status) {
+    public PublisherBuilder<JobDetails> findByStatus(int limit, JobStatus... status) {
         Query<JobDetails> query = queryFactory.create("from job.service.JobDetails j " +
                 "where " +
-                "j.status in (" + createStatusQuery(status) + ")");
+                "j.status in (" + createStatusQuery(status) + ") " +
+                "order by j.trigger.nextFireTime asc");
+        query.maxResults(limit);
         return ReactiveStreams.fromIterable(query.execute().list());
     }
 
     @Override
     public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to,
-            JobStatus... status) {
+            Set<Integer> partitions, JobStatus... status) {
         Query<JobDetails> query = queryFactory.create("from job.service.JobDetails j " +
                 "where " +
                 "j.trigger.nextFireTime > :from " +
                 "and j.trigger.nextFireTime < :to " +
                 "and j.status in (" + createStatusQuery(status) + ") " +
+                createPartitionQuery(partitions) +
                 "order by j.priority desc");
         query.setParameter("to", to.toInstant().toEpochMilli());
         query.setParameter("from", from.toInstant().toEpochMilli());
         return ReactiveStreams.fromIterable(query.execute().list());
     }
 
+    @Override
+    public CompletionStage<Boolean> acquireLease(String id, String owner, ZonedDateTime expirationTime) {
+        return runAsync(() -> {
+            Lease lease = new Lease(id, owner, expirationTime);
+            MetadataValue<Lease> current = leaseCache.getWithMetadata(id);
+            if (current == null) {
+                return leaseCache.withFlags(Flag.FORCE_RETURN_VALUE).putIfAbsent(id, lease) == null;
+            }
+            if (owner.equals(current.getValue().getOwner()) || current.getValue().isExpired(DateUtil.now())) {
+                // the version check fails if another owner updated the lease meanwhile
+                return leaseCache.replaceWithVersion(id, lease, current.getVersion());
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public CompletionStage<Boolean> releaseLease(String id, String owner) {
+        return runAsync(() -> {
+            MetadataValue<Lease> current = leaseCache.getWithMetadata(id);
+            return current != null && owner.equals(current.getValue().getOwner()) && leaseCache.removeWithVersion(id, current.getVersion());
+        });
+    }
+
+    @Override
+    public PublisherBuilder<Lease> findLeases() {
+        return ReactiveStreams.fromIterable(new ArrayList<>(leaseCache.values()));
+    }
+
+    //the jobs saved without a partition are included, so they are still found once the cluster mode is enabled
+    private String createPartitionQuery(Set<Integer> partitions) {
+        if (partitions == null) {
+            return "";
+        }
+        if (partitions.isEmpty()) {
+            return "and j.partition is null ";
+        }
+        return partitions.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", "and (j.partition in (", ") or j.partition is null) "));
+    }
+
     //building the query sentence for the status IN (not supported to use array in setParameter on the query)
     private String createStatusQuery(JobStatus[] status) {
         return Arrays.stream(status)
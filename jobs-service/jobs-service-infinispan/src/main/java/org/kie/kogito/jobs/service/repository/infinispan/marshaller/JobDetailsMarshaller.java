@@ -53,6 +53,7 @@ public class JobDetailsMarshaller extends BaseMarshaller<JobDetails> {
         writer.writeObject("recipient", job.getRecipient(), getInterface(job.getRecipient()));
         writer.writeObject("trigger", job.getTrigger(), getInterface(job.getTrigger()));
         writer.writeString("type", mapEnum(job.getType()));
+        writer.writeInt("partition", job.getPartition());
     }
 
     public Class<?> getInterface(Object object) {
@@ -77,6 +78,7 @@ public class JobDetailsMarshaller extends BaseMarshaller<JobDetails> {
         Recipient recipient = reader.readObject("recipient", Recipient.class);
         Trigger trigger = reader.readObject("trigger", Trigger.class);
         JobDetails.Type type = mapString(reader.readString("type"), JobDetails.Type.class);
+        Integer partition = reader.readInt("partition");
 
         return JobDetails.builder()
                 .id(id)
@@ -91,6 +93,7 @@ public class JobDetailsMarshaller extends BaseMarshaller<JobDetails> {
                 .recipient(recipient)
                 .trigger(trigger)
                 .type(type)
+                .partition(partition)
                 .build();
     }
 }
\ No newline at end of file
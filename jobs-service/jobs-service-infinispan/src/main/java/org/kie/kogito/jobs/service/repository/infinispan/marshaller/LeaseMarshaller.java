@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.repository.infinispan.marshaller;
+
+import java.io.IOException;
+
+import org.kie.kogito.jobs.service.model.Lease;
+
+import static org.kie.kogito.jobs.service.utils.DateUtil.instantToZonedDateTime;
+import static org.kie.kogito.jobs.service.utils.DateUtil.zonedDateTimeToInstant;
+
+public class LeaseMarshaller extends BaseMarshaller<Lease> {
+
+    @Override
+    public String getTypeName() {
+        return getPackage() + ".Lease";
+    }
+
+    @Override
+    public Class<? extends Lease> getJavaClass() {
+        return Lease.class;
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, Lease lease) throws IOException {
+        writer.writeString("id", lease.getId());
+        writer.writeString("owner", lease.getOwner());
+        writer.writeInstant("expirationTime", zonedDateTimeToInstant(lease.getExpirationTime()));
+    }
+
+    @Override
+    public Lease readFrom(ProtoStreamReader reader) throws IOException {
+        String id = reader.readString("id");
+        String owner = reader.readString("owner");
+        return new Lease(id, owner, instantToZonedDateTime(reader.readInstant("expirationTime")));
+    }
+}
@@ -37,4 +37,9 @@ public class MarshallersProducer {
     public MessageMarshaller triggerMarshaller() {
         return new TriggerMarshaller();
     }
+
+    @Produces
+    public MessageMarshaller leaseMarshaller() {
+        return new LeaseMarshaller();
+    }
 }
@@ -16,7 +16,11 @@
 
 package org.kie.kogito.jobs.service.repository.mongodb;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -24,22 +28,33 @@ import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.json.JsonWriterSettings;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Lease;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.marshaller.JobDetailsMarshaller;
 import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.DateUtil;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
 
 import io.quarkus.mongodb.FindOptions;
 import io.quarkus.mongodb.reactive.ReactiveMongoClient;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
 import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -49,9 +64,14 @@ import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.gt;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.lte;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Indexes.ascending;
 import static com.mongodb.client.model.ReturnDocument.AFTER;
+import static com.mongodb.client.model.ReturnDocument.BEFORE;
 import static com.mongodb.client.model.Sorts.descending;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.set;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.counting;
@@ -72,11 +92,23 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
 
     static final String FIRE_TIME_COLUMN = "trigger.nextFireTime";
 
+    static final String PARTITION_COLUMN = "partition";
+
+    static final String LEASES_COLLECTION = "jobLeases";
+
+    static final String OWNER_COLUMN = "owner";
+
+    static final String EXPIRATION_TIME_COLUMN = "expirationTime";
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
     private static final JsonWriterSettings jsonWriterSettings = JsonWriterSettings.builder()
             .int64Converter((value, writer) -> writer.writeNumber(value.toString())).build();
 
     private ReactiveMongoCollection<Document> collection;
 
+    private ReactiveMongoCollection<Document> leases;
+
     private JobDetailsMarshaller jobDetailsMarshaller;
 
     MongoDBJobRepository() {
@@ -90,10 +122,12 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
         super(vertx, jobStreams);
         this.jobDetailsMarshaller = jobDetailsMarshaller;
         this.collection = mongoClient.getDatabase(database).getCollection(JOB_DETAILS_COLLECTION);
+        this.leases = mongoClient.getDatabase(database).getCollection(LEASES_COLLECTION);
     }
 
     void onStart(@Observes StartupEvent ev) {
         this.collection.createIndex(ascending(STATUS_COLUMN, FIRE_TIME_COLUMN)).await().indefinitely();
+        this.collection.createIndex(ascending(PARTITION_COLUMN, STATUS_COLUMN, FIRE_TIME_COLUMN)).await().indefinitely();
     }
 
     @Override
@@ -109,6 +143,79 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                 .toCompletionStage();
     }
 
+    @Override
+    public CompletionStage<JobDetails> doUpsert(JobDetails job, JobStatus replaceableStatus) {
+        // the upsert of a job existing in another status fails with a duplicate key as the filter does not match it,
+        // only then the existing job is fetched to be returned
+        return collection.findOneAndReplace(
+                and(eq(ID, job.getId()), eq(STATUS_COLUMN, replaceableStatus.name())),
+                jsonToDocument(jobDetailsMarshaller.marshall(job)),
+                new FindOneAndReplaceOptions().upsert(true).returnDocument(BEFORE))
+                .map(document -> ofNullable(document).map(d -> jobDetailsMarshaller.unmarshall(documentToJson(d))).orElse(null))
+                .onFailure(e -> e instanceof MongoException && ((MongoException) e).getCode() == DUPLICATE_KEY_ERROR)
+                .recoverWithUni(() -> collection.find(eq(ID, job.getId()))
+                        .collect().first()
+                        .map(document -> jobDetailsMarshaller.unmarshall(documentToJson(document))))
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doUpsertAll(List<JobDetails> jobs, JobStatus replaceableStatus) {
+        // the existing jobs are read before the conditional bulk write, as in the doUpsert the jobs existing in another
+        // status fail with a duplicate key, those are read again as they might have changed after the first read
+        return findAll(jobs.stream().map(JobDetails::getId).collect(toList()))
+                .flatMap(previous -> collection.bulkWrite(jobs.stream()
+                        .map(job -> new ReplaceOneModel<>(and(eq(ID, job.getId()), eq(STATUS_COLUMN, replaceableStatus.name())),
+                                jsonToDocument(jobDetailsMarshaller.marshall(job)),
+                                new ReplaceOptions().upsert(true)))
+                        .collect(toList()),
+                        new BulkWriteOptions().ordered(false))
+                        .map(result -> previous)
+                        .onFailure(MongoDBJobRepository::isDuplicateKeyOnly)
+                        .recoverWithUni(e -> {
+                            List<String> notReplaced = ((MongoBulkWriteException) e).getWriteErrors().stream()
+                                    .map(error -> jobs.get(error.getIndex()).getId())
+                                    .collect(toList());
+                            return findAll(notReplaced).map(current -> {
+                                List<JobDetails> merged = previous.stream()
+                                        .filter(job -> !notReplaced.contains(job.getId()))
+                                        .collect(toList());
+                                merged.addAll(current);
+                                return merged;
+                            });
+                        }))
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
+    private Uni<List<JobDetails>> findAll(List<String> ids) {
+        return collection.find(in(ID, ids))
+                .map(document -> jobDetailsMarshaller.unmarshall(documentToJson(document)))
+                .collect().asList();
+    }
+
+    private static boolean isDuplicateKeyOnly(Throwable e) {
+        return e instanceof MongoBulkWriteException
+                && ((MongoBulkWriteException) e).getWriteErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY_ERROR);
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return collection.bulkWrite(jobs.stream()
+                .map(job -> new ReplaceOneModel<>(eq(ID, job.getId()),
+                        jsonToDocument(jobDetailsMarshaller.marshall(job)),
+                        new ReplaceOptions().upsert(true)))
+                .collect(toList()),
+                new BulkWriteOptions().ordered(false))
+                .map(result -> jobs)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String id) {
         return collection.find(eq(ID, id))
@@ -120,6 +227,16 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                 .toCompletionStage();
     }
 
+    @Override
+    public PublisherBuilder<JobDetails> getAll(List<String> ids) {
+        return fromPublisher(collection.find(in(ID, ids))
+                .map(document -> documentToJson(document))
+                .map(jobDetailsMarshaller::unmarshall)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toPublisher());
+    }
+
     @Override
     public CompletionStage<Boolean> exists(String id) {
         return collection.find(eq(ID, id))
@@ -140,6 +257,15 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                 .toCompletionStage();
     }
 
+    @Override
+    public CompletionStage<Void> doDeleteAll(List<String> ids) {
+        return collection.deleteMany(in(ID, ids))
+                .<Void> map(result -> null)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findAll() {
         return fromPublisher(collection.find()
@@ -151,14 +277,31 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
     }
 
     @Override
-    public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, JobStatus... status) {
+    public PublisherBuilder<JobDetails> findByStatus(int limit, JobStatus... status) {
         return fromPublisher(
                 collection.find(
-                        and(
-                                in(STATUS_COLUMN, stream(status).map(Enum::name).collect(toList())),
-                                gt(FIRE_TIME_COLUMN, from.toInstant().toEpochMilli()),
-                                lt(FIRE_TIME_COLUMN, to.toInstant().toEpochMilli())),
-                        new FindOptions().sort(descending("priority")))
+                        in(STATUS_COLUMN, stream(status).map(Enum::name).collect(toList())),
+                        new FindOptions().sort(Sorts.ascending(FIRE_TIME_COLUMN)).limit(limit))
+                        .map(document -> documentToJson(document))
+                        .map(jobDetailsMarshaller::unmarshall)
+                        .emitOn(Infrastructure.getDefaultExecutor())
+                        .convert()
+                        .toPublisher());
+    }
+
+    @Override
+    public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, Set<Integer> partitions,
+            JobStatus... status) {
+        List<Bson> filters = new ArrayList<>();
+        filters.add(in(STATUS_COLUMN, stream(status).map(Enum::name).collect(toList())));
+        filters.add(gt(FIRE_TIME_COLUMN, from.toInstant().toEpochMilli()));
+        filters.add(lt(FIRE_TIME_COLUMN, to.toInstant().toEpochMilli()));
+        if (partitions != null) {
+            //the equality to null also matches the jobs saved without the partition field
+            filters.add(or(in(PARTITION_COLUMN, partitions), eq(PARTITION_COLUMN, null)));
+        }
+        return fromPublisher(
+                collection.find(and(filters), new FindOptions().sort(descending("priority")))
                         .map(document -> documentToJson(document))
                         .map(jobDetailsMarshaller::unmarshall)
                         .emitOn(Infrastructure.getDefaultExecutor())
@@ -166,6 +309,39 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                         .toPublisher());
     }
 
+    @Override
+    public CompletionStage<Boolean> acquireLease(String id, String owner, ZonedDateTime expirationTime) {
+        // the upsert of a lease held by another owner fails with a duplicate key as the filter does not match it
+        return leases.findOneAndUpdate(
+                and(eq(ID, id), or(eq(OWNER_COLUMN, owner), lte(EXPIRATION_TIME_COLUMN, DateUtil.now().toInstant().toEpochMilli()))),
+                combine(set(OWNER_COLUMN, owner), set(EXPIRATION_TIME_COLUMN, expirationTime.toInstant().toEpochMilli())),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(AFTER))
+                .map(document -> document != null)
+                .onFailure(e -> e instanceof MongoException && ((MongoException) e).getCode() == DUPLICATE_KEY_ERROR).recoverWithItem(false)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<Boolean> releaseLease(String id, String owner) {
+        return leases.deleteOne(and(eq(ID, id), eq(OWNER_COLUMN, owner)))
+                .map(result -> result.getDeletedCount() > 0)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
+    @Override
+    public PublisherBuilder<Lease> findLeases() {
+        return fromPublisher(leases.find()
+                .map(document -> new Lease(document.getString(ID), document.getString(OWNER_COLUMN),
+                        DateUtil.instantToZonedDateTime(Instant.ofEpochMilli(document.getLong(EXPIRATION_TIME_COLUMN)))))
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toPublisher());
+    }
+
     static JsonObject documentToJson(Document document) {
         return ofNullable(document).map(doc -> new JsonObject(doc.toJson(jsonWriterSettings))).orElse(null);
     }
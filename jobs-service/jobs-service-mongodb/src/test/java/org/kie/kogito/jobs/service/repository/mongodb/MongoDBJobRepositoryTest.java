@@ -19,9 +19,13 @@ package org.kie.kogito.jobs.service.repository.mongodb;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -50,6 +54,7 @@ import io.smallrye.mutiny.groups.MultiCollect;
 import io.smallrye.mutiny.groups.MultiConvert;
 import io.smallrye.mutiny.groups.UniAwait;
 import io.smallrye.mutiny.groups.UniConvert;
+import io.smallrye.mutiny.groups.UniOnFailure;
 import io.vertx.core.json.JsonObject;
 
 import static com.mongodb.client.model.Filters.and;
@@ -57,6 +62,7 @@ import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.gt;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Indexes.ascending;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -163,6 +169,31 @@ class MongoDBJobRepositoryTest {
         assertEquals(ReturnDocument.AFTER, optionCaptor.getValue().getReturnDocument());
     }
 
+    @Test
+    void doUpsert() {
+        Uni uni = mock(Uni.class);
+        UniOnFailure onFailure = mock(UniOnFailure.class);
+        UniConvert convert = mock(UniConvert.class);
+        when(collection.findOneAndReplace(any(Bson.class), any(), any(FindOneAndReplaceOptions.class))).thenReturn(uni);
+        when(uni.map(any())).thenReturn(uni);
+        when(uni.onFailure(any(Predicate.class))).thenReturn(onFailure);
+        when(onFailure.recoverWithUni(any(Supplier.class))).thenReturn(uni);
+        when(uni.emitOn(any())).thenReturn(uni);
+        when(uni.convert()).thenReturn(convert);
+        when(convert.toCompletionStage()).thenReturn(completableFuture);
+
+        CompletionStage<JobDetails> result = mongoDBJobRepository.doUpsert(unmarshalled, JobStatus.SCHEDULED);
+        assertEquals(completableFuture, result);
+
+        ArgumentCaptor<Bson> filterCaptor = ArgumentCaptor.forClass(Bson.class);
+        ArgumentCaptor<FindOneAndReplaceOptions> optionCaptor = ArgumentCaptor.forClass(FindOneAndReplaceOptions.class);
+        verify(collection, times(1)).findOneAndReplace(filterCaptor.capture(), any(), optionCaptor.capture());
+
+        assertEquals(and(eq(ID, unmarshalled.getId()), eq("status", "SCHEDULED")), filterCaptor.getValue());
+        assertTrue(optionCaptor.getValue().isUpsert());
+        assertEquals(ReturnDocument.BEFORE, optionCaptor.getValue().getReturnDocument());
+    }
+
     @Test
     void get() {
         CompletionStage<JobDetails> result = mongoDBJobRepository.get(unmarshalled.getId());
@@ -208,6 +239,18 @@ class MongoDBJobRepositoryTest {
         verify(jobDetailsMarshaller, atLeastOnce()).unmarshall(marshalled);
     }
 
+    @Test
+    void findByStatus() {
+        PublisherBuilder<JobDetails> result = mongoDBJobRepository.findByStatus(10, JobStatus.SCHEDULED, JobStatus.ERROR);
+        assertNotNull(result);
+
+        ArgumentCaptor<Bson> filterCaptor = ArgumentCaptor.forClass(Bson.class);
+        verify(collection, times(1)).find(filterCaptor.capture(), any(FindOptions.class));
+        verify(jobDetailsMarshaller, atLeastOnce()).unmarshall(marshalled);
+
+        assertEquals(in("status", Arrays.asList("SCHEDULED", "ERROR")), filterCaptor.getValue());
+    }
+
     @Test
     void findByStatusBetweenDatesOrderByPriority() {
         ZonedDateTime from = ZonedDateTime.now();
@@ -228,14 +271,34 @@ class MongoDBJobRepositoryTest {
                 filterCaptor.getValue());
     }
 
+    @Test
+    void findByStatusBetweenDatesOrderByPriorityInPartitions() {
+        ZonedDateTime from = ZonedDateTime.now();
+        ZonedDateTime to = ZonedDateTime.now();
+
+        PublisherBuilder<JobDetails> result = mongoDBJobRepository.findByStatusBetweenDatesOrderByPriority(from, to, Set.of(1), JobStatus.SCHEDULED);
+        assertNotNull(result);
+
+        ArgumentCaptor<Bson> filterCaptor = ArgumentCaptor.forClass(Bson.class);
+        verify(collection, times(1)).find(filterCaptor.capture(), any(FindOptions.class));
+
+        assertEquals(and(
+                in("status", List.of("SCHEDULED")),
+                gt("trigger.nextFireTime", from.toInstant().toEpochMilli()),
+                lt("trigger.nextFireTime", to.toInstant().toEpochMilli()),
+                or(in("partition", Set.of(1)), eq("partition", null))),
+                filterCaptor.getValue());
+    }
+
     @Test
     void onStart() {
         mongoDBJobRepository.onStart(null);
 
         ArgumentCaptor<Bson> indexCaptor = ArgumentCaptor.forClass(Bson.class);
-        verify(collection, times(1)).createIndex(indexCaptor.capture());
+        verify(collection, times(2)).createIndex(indexCaptor.capture());
 
-        assertEquals(ascending("status", "trigger.nextFireTime"), indexCaptor.getValue());
+        assertEquals(ascending("status", "trigger.nextFireTime"), indexCaptor.getAllValues().get(0));
+        assertEquals(ascending("partition", "status", "trigger.nextFireTime"), indexCaptor.getAllValues().get(1));
     }
 
     @Test
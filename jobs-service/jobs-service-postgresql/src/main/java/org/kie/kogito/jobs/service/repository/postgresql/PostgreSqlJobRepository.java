@@ -17,10 +17,12 @@
 package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -29,14 +31,18 @@ import javax.inject.Inject;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Lease;
 import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
 import org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller;
 import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.Trigger;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -54,7 +60,29 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     private static final String JOB_DETAILS_TABLE = "job_details";
 
     private static final String JOB_DETAILS_COLUMNS = "id, correlation_id, status, last_update, retries, " +
-            "execution_counter, scheduled_id, payload, type, priority, recipient, trigger";
+            "execution_counter, scheduled_id, payload, type, priority, recipient, trigger, partition_id";
+
+    private static final String UPSERT_STATEMENT = "INSERT INTO " + JOB_DETAILS_TABLE + " (" + JOB_DETAILS_COLUMNS +
+            ", fire_time) VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12, $13, $14) " +
+            "ON CONFLICT (id) DO " +
+            "UPDATE SET correlation_id = $2, status = $3, last_update = $4, retries = $5, " +
+            "execution_counter = $6, scheduled_id = $7, payload = $8, type = $9, priority = $10, " +
+            "recipient = $11, trigger = $12, partition_id = $13, fire_time = $14 ";
+
+    private static final String UPSERT_QUERY = UPSERT_STATEMENT + "RETURNING " + JOB_DETAILS_COLUMNS;
+
+    /**
+     * The previous row is locked and read on the snapshot before the upsert, which only updates it when it is in the
+     * replaceable status given as the last parameter.
+     */
+    private static final String CONDITIONAL_UPSERT_QUERY = "WITH previous AS (SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE +
+            " WHERE id = $1 FOR UPDATE), " +
+            "upserted AS (" + UPSERT_STATEMENT + "WHERE " + JOB_DETAILS_TABLE + ".status = $15 RETURNING id) " +
+            "SELECT " + JOB_DETAILS_COLUMNS + " FROM previous";
+
+    private static final String STATUS_TIME_QUERY = "status = ANY($1) AND fire_time > $2 AND fire_time < $3";
+
+    private static final String JOB_LEASES_TABLE = "job_leases";
 
     private PgPool client;
 
@@ -77,33 +105,76 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
 
     @Override
     public CompletionStage<JobDetails> doSave(JobDetails job) {
-        return client.preparedQuery("INSERT INTO " + JOB_DETAILS_TABLE + " (" + JOB_DETAILS_COLUMNS +
-                ") VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12) " +
-                "ON CONFLICT (id) DO " +
-                "UPDATE SET correlation_id = $2, status = $3, last_update = $4, retries = $5, " +
-                "execution_counter = $6, scheduled_id = $7, payload = $8, type = $9, priority = $10, " +
-                "recipient = $11, trigger = $12 " +
-                "RETURNING " + JOB_DETAILS_COLUMNS)
-                .execute(Tuple.tuple(Stream.of(
-                        job.getId(),
-                        job.getCorrelationId(),
-                        Optional.ofNullable(job.getStatus()).map(Enum::name).orElse(null),
-                        Optional.ofNullable(job.getLastUpdate()).map(ZonedDateTime::toOffsetDateTime).orElse(null),
-                        job.getRetries(),
-                        job.getExecutionCounter(),
-                        job.getScheduledId(),
-                        Optional.ofNullable(job.getPayload()).map(p -> new JsonObject(p.toString())).orElse(null),
-                        Optional.ofNullable(job.getType()).map(Enum::name).orElse(null),
-                        job.getPriority(),
-                        recipientMarshaller.marshall(job.getRecipient()),
-                        triggerMarshaller.marshall(job.getTrigger()))
-                        .collect(toList())))
+        return client.preparedQuery(UPSERT_QUERY)
+                .execute(toTuple(job))
                 .onItem().transform(RowSet::iterator)
                 .onItem().transform(iterator -> iterator.hasNext() ? from(iterator.next()) : null)
                 .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
                 .subscribeAsCompletionStage();
     }
 
+    @Override
+    public CompletionStage<JobDetails> doUpsert(JobDetails job, JobStatus replaceableStatus) {
+        return client.preparedQuery(CONDITIONAL_UPSERT_QUERY)
+                .execute(toTuple(job).addString(replaceableStatus.name()))
+                .onItem().transform(RowSet::iterator)
+                .onItem().transform(iterator -> iterator.hasNext() ? from(iterator.next()) : null)
+                .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+                .subscribeAsCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doUpsertAll(List<JobDetails> jobs, JobStatus replaceableStatus) {
+        //each job runs the conditional upsert, pipelined in a single round trip with one result set per job
+        return client.preparedQuery(CONDITIONAL_UPSERT_QUERY)
+                .executeBatch(jobs.stream().map(job -> toTuple(job).addString(replaceableStatus.name())).collect(toList()))
+                .onItem().transform(rowSet -> {
+                    List<JobDetails> previous = new ArrayList<>();
+                    for (RowSet<Row> current = rowSet; current != null; current = current.next()) {
+                        current.forEach(row -> previous.add(from(row)));
+                    }
+                    return previous;
+                })
+                .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+                .subscribeAsCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        //the batch is pipelined in a single round trip, with one result set per job
+        return client.preparedQuery(UPSERT_QUERY)
+                .executeBatch(jobs.stream().map(this::toTuple).collect(toList()))
+                .onItem().transform(rowSet -> {
+                    List<JobDetails> saved = new ArrayList<>(jobs.size());
+                    for (RowSet<Row> current = rowSet; current != null; current = current.next()) {
+                        current.forEach(row -> saved.add(from(row)));
+                    }
+                    return saved;
+                })
+                .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+                .subscribeAsCompletionStage();
+    }
+
+    private Tuple toTuple(JobDetails job) {
+        return Tuple.tuple(Stream.of(
+                job.getId(),
+                job.getCorrelationId(),
+                Optional.ofNullable(job.getStatus()).map(Enum::name).orElse(null),
+                Optional.ofNullable(job.getLastUpdate()).map(ZonedDateTime::toOffsetDateTime).orElse(null),
+                job.getRetries(),
+                job.getExecutionCounter(),
+                job.getScheduledId(),
+                Optional.ofNullable(job.getPayload()).map(p -> new JsonObject(p.toString())).orElse(null),
+                Optional.ofNullable(job.getType()).map(Enum::name).orElse(null),
+                job.getPriority(),
+                recipientMarshaller.marshall(job.getRecipient()),
+                triggerMarshaller.marshall(job.getTrigger()),
+                job.getPartition(),
+                Optional.ofNullable(job.getTrigger()).map(Trigger::hasNextFireTime)
+                        .map(DateUtil::fromDate).map(ZonedDateTime::toOffsetDateTime).orElse(null))
+                .collect(toList()));
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String id) {
         return client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + " WHERE id = $1").execute(Tuple.of(id))
@@ -113,6 +184,16 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                 .subscribeAsCompletionStage();
     }
 
+    @Override
+    public PublisherBuilder<JobDetails> getAll(List<String> ids) {
+        return ReactiveStreams.fromPublisher(
+                client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + " WHERE id = ANY($1)")
+                        .execute(Tuple.of(ids.toArray(String[]::new)))
+                        .onItem().transformToMulti(rowSet -> Multi.createFrom().iterable(rowSet))
+                        .onItem().transform(this::from)
+                        .emitOn(Infrastructure.getDefaultExecutor())); // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+    }
+
     @Override
     public CompletionStage<Boolean> exists(String id) {
         return client.preparedQuery("SELECT id FROM " + JOB_DETAILS_TABLE + " WHERE id = $1").execute(Tuple.of(id))
@@ -130,6 +211,15 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                 .subscribeAsCompletionStage();
     }
 
+    @Override
+    public CompletionStage<Void> doDeleteAll(List<String> ids) {
+        return client.preparedQuery("DELETE FROM " + JOB_DETAILS_TABLE + " WHERE id = ANY($1)")
+                .execute(Tuple.of(ids.toArray(String[]::new)))
+                .onItem().<Void> transform(rowSet -> null)
+                .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+                .subscribeAsCompletionStage();
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findAll() {
         return ReactiveStreams.fromPublisher(
@@ -140,27 +230,68 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
-    public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, JobStatus... status) {
-        String statusQuery = createStatusQuery(status);
-        String timeQuery = createTimeQuery(from, to);
-        String query = " WHERE " + statusQuery + " AND " + timeQuery;
-
+    public PublisherBuilder<JobDetails> findByStatus(int limit, JobStatus... status) {
+        String[] statusNames = Arrays.stream(status).map(JobStatus::name).toArray(String[]::new);
         return ReactiveStreams.fromPublisher(
-                client.query("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + query + " ORDER BY priority DESC").execute()
+                client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE +
+                        " WHERE status = ANY($1) ORDER BY fire_time LIMIT $2")
+                        .execute(Tuple.of(statusNames, limit))
                         .onItem().transformToMulti(rowSet -> Multi.createFrom().iterable(rowSet))
                         .onItem().transform(this::from)
                         .emitOn(Infrastructure.getDefaultExecutor())); // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
     }
 
-    static String createStatusQuery(JobStatus... status) {
-        return Arrays.stream(status).map(JobStatus::name)
-                .collect(Collectors.joining("', '", "status IN ('", "')"));
+    /**
+     * Loads the jobs through an index range scan on the fire time. When the partitions are given the scan is restricted
+     * to them, the jobs saved before the partitions were stored are always loaded.
+     */
+    @Override
+    public PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, Set<Integer> partitionIds,
+            JobStatus... status) {
+        String[] statusNames = Arrays.stream(status).map(JobStatus::name).toArray(String[]::new);
+        Uni<RowSet<Row>> rows = partitionIds != null
+                ? client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE +
+                        " WHERE " + STATUS_TIME_QUERY + " AND (partition_id = ANY($4) OR partition_id IS NULL) ORDER BY priority DESC")
+                        .execute(Tuple.of(statusNames, from.toOffsetDateTime(), to.toOffsetDateTime(), partitionIds.toArray(Integer[]::new)))
+                : client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE +
+                        " WHERE " + STATUS_TIME_QUERY + " ORDER BY priority DESC")
+                        .execute(Tuple.of(statusNames, from.toOffsetDateTime(), to.toOffsetDateTime()));
+
+        return ReactiveStreams.fromPublisher(
+                rows.onItem().transformToMulti(rowSet -> Multi.createFrom().iterable(rowSet))
+                        .onItem().transform(this::from)
+                        .emitOn(Infrastructure.getDefaultExecutor())); // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+    }
+
+    @Override
+    public CompletionStage<Boolean> acquireLease(String id, String owner, ZonedDateTime expirationTime) {
+        return client.preparedQuery("INSERT INTO " + JOB_LEASES_TABLE + " (id, owner, expiration_time) VALUES ($1, $2, $3) " +
+                "ON CONFLICT (id) DO " +
+                "UPDATE SET owner = $2, expiration_time = $3 " +
+                "WHERE " + JOB_LEASES_TABLE + ".owner = $2 OR " + JOB_LEASES_TABLE + ".expiration_time <= $4 " +
+                "RETURNING id")
+                .execute(Tuple.of(id, owner, expirationTime.toOffsetDateTime(), DateUtil.now().toOffsetDateTime()))
+                .onItem().transform(rowSet -> rowSet.rowCount() > 0)
+                .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+                .subscribeAsCompletionStage();
     }
 
-    static String createTimeQuery(ZonedDateTime from, ZonedDateTime to) {
-        String fromQuery = "(trigger->>'nextFireTime')::INT8 > " + from.toInstant().toEpochMilli();
-        String toQuery = "(trigger->>'nextFireTime')::INT8 < " + to.toInstant().toEpochMilli();
-        return fromQuery + " AND " + toQuery;
+    @Override
+    public CompletionStage<Boolean> releaseLease(String id, String owner) {
+        return client.preparedQuery("DELETE FROM " + JOB_LEASES_TABLE + " WHERE id = $1 AND owner = $2").execute(Tuple.of(id, owner))
+                .onItem().transform(rowSet -> rowSet.rowCount() > 0)
+                .emitOn(Infrastructure.getDefaultExecutor()) // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
+                .subscribeAsCompletionStage();
+    }
+
+    @Override
+    public PublisherBuilder<Lease> findLeases() {
+        return ReactiveStreams.fromPublisher(
+                client.query("SELECT id, owner, expiration_time FROM " + JOB_LEASES_TABLE).execute()
+                        .onItem().transformToMulti(rowSet -> Multi.createFrom().iterable(rowSet))
+                        .onItem().transform(row -> new Lease(row.getString("id"), row.getString("owner"),
+                                row.getOffsetDateTime("expiration_time").atZoneSameInstant(DEFAULT_ZONE)))
+                        .emitOn(Infrastructure.getDefaultExecutor())); // TODO Workaround for Quarkus Reactive Client issue with GZip: https://github.com/quarkusio/quarkus/issues/8152
     }
 
     JobDetails from(Row row) {
@@ -177,6 +308,7 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                 .priority(row.getInteger("priority"))
                 .recipient(recipientMarshaller.unmarshall(row.get(JsonObject.class, 10)))
                 .trigger(triggerMarshaller.unmarshall(row.get(JsonObject.class, 11)))
+                .partition(row.getInteger("partition_id"))
                 .build();
     }
 }
@@ -0,0 +1,6 @@
+CREATE TABLE job_leases
+(
+  id VARCHAR(50) PRIMARY KEY,
+  owner VARCHAR(50) NOT NULL,
+  expiration_time TIMESTAMPTZ NOT NULL
+);
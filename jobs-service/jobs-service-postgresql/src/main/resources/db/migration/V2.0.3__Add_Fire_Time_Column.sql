@@ -0,0 +1,15 @@
+ALTER TABLE job_details
+    ADD COLUMN fire_time TIMESTAMPTZ;
+
+UPDATE job_details
+    SET fire_time = TO_TIMESTAMP((trigger->>'nextFireTime')::INT8 / 1000.0)
+    WHERE trigger->>'nextFireTime' IS NOT NULL;
+
+DROP INDEX status_date;
+
+CREATE INDEX job_details_fire_time_idx ON job_details
+(
+  status,
+  fire_time,
+  priority
+);
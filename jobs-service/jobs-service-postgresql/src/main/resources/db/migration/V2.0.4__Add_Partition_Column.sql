@@ -0,0 +1,9 @@
+ALTER TABLE job_details
+    ADD COLUMN partition_id INT4;
+
+CREATE INDEX job_details_partition_fire_time_idx ON job_details
+(
+  partition_id,
+  status,
+  fire_time
+);
@@ -17,6 +17,8 @@
 package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -31,6 +33,7 @@ import org.kie.kogito.jobs.service.model.job.JobDetails;
 import org.kie.kogito.jobs.service.model.job.Recipient;
 import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
 import org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller;
+import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.timer.Trigger;
 import org.kie.kogito.timer.impl.PointInTimeTrigger;
 import org.mockito.ArgumentCaptor;
@@ -47,8 +50,10 @@ import io.vertx.mutiny.sqlclient.RowSet;
 import io.vertx.mutiny.sqlclient.Tuple;
 
 import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.kie.kogito.jobs.service.utils.DateUtil.DEFAULT_ZONE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -82,6 +87,7 @@ class PostgreSqlJobRepositoryTest {
         Uni uni = mock(Uni.class);
         when(query.execute(any(Tuple.class))).thenReturn(uni);
         when(query.execute()).thenReturn(uni);
+        when(query.executeBatch(any(List.class))).thenReturn(uni);
         UniOnItem uniOnItem = mock(UniOnItem.class);
         when(uni.onItem()).thenReturn(uniOnItem);
         when(uniOnItem.transform(any(Function.class))).thenReturn(uni);
@@ -125,6 +131,7 @@ class PostgreSqlJobRepositoryTest {
                 .priority(1)
                 .recipient(recipient)
                 .trigger(trigger)
+                .partition(3)
                 .build();
 
         CompletionStage<JobDetails> result = repository.doSave(job);
@@ -136,11 +143,11 @@ class PostgreSqlJobRepositoryTest {
         verify(query, times(1)).execute(parameterCaptor.capture());
 
         String query = "INSERT INTO job_details (id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "payload, type, priority, recipient, trigger) VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12) " +
+                "payload, type, priority, recipient, trigger, partition_id, fire_time) VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12, $13, $14) " +
                 "ON CONFLICT (id) DO UPDATE SET correlation_id = $2, status = $3, last_update = $4, retries = $5, " +
                 "execution_counter = $6, scheduled_id = $7, payload = $8, type = $9, priority = $10, " +
-                "recipient = $11, trigger = $12 RETURNING id, correlation_id, status, last_update, retries, " +
-                "execution_counter, scheduled_id, payload, type, priority, recipient, trigger";
+                "recipient = $11, trigger = $12, partition_id = $13, fire_time = $14 RETURNING id, correlation_id, status, last_update, retries, " +
+                "execution_counter, scheduled_id, payload, type, priority, recipient, trigger, partition_id";
 
         Tuple parameter = Tuple.tuple(Stream.of(
                 job.getId(),
@@ -154,7 +161,9 @@ class PostgreSqlJobRepositoryTest {
                 job.getType().name(),
                 job.getPriority(),
                 new JsonObject().put("recipientMarshaller", "test"),
-                new JsonObject().put("triggerMarshaller", "test"))
+                new JsonObject().put("triggerMarshaller", "test"),
+                job.getPartition(),
+                DateUtil.fromDate(trigger.hasNextFireTime()).toOffsetDateTime())
                 .collect(toList()));
 
         assertEquals(query, queryCaptor.getValue());
@@ -170,6 +179,86 @@ class PostgreSqlJobRepositoryTest {
         assertEquals(parameter.getInteger(9), parameterCaptor.getValue().getInteger(9));
         assertEquals(parameter.getJson(10), parameterCaptor.getValue().getJson(10));
         assertEquals(parameter.getJson(11), parameterCaptor.getValue().getJson(11));
+        assertEquals(parameter.getInteger(12), parameterCaptor.getValue().getInteger(12));
+        assertEquals(parameter.getOffsetDateTime(13), parameterCaptor.getValue().getOffsetDateTime(13));
+    }
+
+    @Test
+    void doUpsert() {
+        JobDetails job = JobDetails.builder()
+                .id("test")
+                .status(JobStatus.SCHEDULED)
+                .trigger(new PointInTimeTrigger(time.toInstant().getEpochSecond(), null, null))
+                .build();
+
+        CompletionStage<JobDetails> result = repository.doUpsert(job, JobStatus.SCHEDULED);
+        assertEquals(completableFuture, result);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).execute(parameterCaptor.capture());
+
+        String query = "WITH previous AS (SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "payload, type, priority, recipient, trigger, partition_id FROM job_details WHERE id = $1 FOR UPDATE), " +
+                "upserted AS (INSERT INTO job_details (id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "payload, type, priority, recipient, trigger, partition_id, fire_time) VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12, $13, $14) " +
+                "ON CONFLICT (id) DO UPDATE SET correlation_id = $2, status = $3, last_update = $4, retries = $5, " +
+                "execution_counter = $6, scheduled_id = $7, payload = $8, type = $9, priority = $10, " +
+                "recipient = $11, trigger = $12, partition_id = $13, fire_time = $14 WHERE job_details.status = $15 RETURNING id) " +
+                "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "payload, type, priority, recipient, trigger, partition_id FROM previous";
+
+        assertEquals(query, queryCaptor.getValue());
+        assertEquals(15, parameterCaptor.getValue().size());
+        assertEquals("test", parameterCaptor.getValue().getString(0));
+        assertEquals("SCHEDULED", parameterCaptor.getValue().getString(14));
+    }
+
+    @Test
+    void doUpsertAll() {
+        JobDetails job = JobDetails.builder()
+                .id("test")
+                .status(JobStatus.SCHEDULED)
+                .trigger(new PointInTimeTrigger(time.toInstant().getEpochSecond(), null, null))
+                .build();
+
+        CompletionStage<List<JobDetails>> result = repository.doUpsertAll(List.of(job, JobDetails.builder().of(job).id("test2").build()),
+                JobStatus.SCHEDULED);
+        assertEquals(completableFuture, result);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Tuple>> parameterCaptor = ArgumentCaptor.forClass(List.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).executeBatch(parameterCaptor.capture());
+
+        assertTrue(queryCaptor.getValue().endsWith("WHERE job_details.status = $15 RETURNING id) " +
+                "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "payload, type, priority, recipient, trigger, partition_id FROM previous"));
+        assertEquals(2, parameterCaptor.getValue().size());
+        assertEquals("test", parameterCaptor.getValue().get(0).getString(0));
+        assertEquals("SCHEDULED", parameterCaptor.getValue().get(0).getString(14));
+        assertEquals("test2", parameterCaptor.getValue().get(1).getString(0));
+    }
+
+    @Test
+    void doSaveAll() {
+        JobDetails job = JobDetails.builder()
+                .id("test")
+                .status(JobStatus.SCHEDULED)
+                .trigger(new PointInTimeTrigger(time.toInstant().getEpochSecond(), null, null))
+                .build();
+
+        CompletionStage<List<JobDetails>> result = repository.doSaveAll(List.of(job, JobDetails.builder().of(job).id("test2").build()));
+        assertEquals(completableFuture, result);
+
+        ArgumentCaptor<List<Tuple>> parameterCaptor = ArgumentCaptor.forClass(List.class);
+        verify(client, times(1)).preparedQuery(anyString());
+        verify(query, times(1)).executeBatch(parameterCaptor.capture());
+
+        assertEquals(2, parameterCaptor.getValue().size());
+        assertEquals("test", parameterCaptor.getValue().get(0).getString(0));
+        assertEquals("test2", parameterCaptor.getValue().get(1).getString(0));
     }
 
     @Test
@@ -183,13 +272,30 @@ class PostgreSqlJobRepositoryTest {
         verify(query, times(1)).execute(parameterCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "payload, type, priority, recipient, trigger FROM job_details WHERE id = $1";
+                "payload, type, priority, recipient, trigger, partition_id FROM job_details WHERE id = $1";
         String parameter = "test";
 
         assertEquals(query, queryCaptor.getValue());
         assertEquals(parameter, parameterCaptor.getValue().getValue(0));
     }
 
+    @Test
+    void getAll() {
+        PublisherBuilder<JobDetails> result = repository.getAll(List.of("test", "test2"));
+        assertNotNull(result);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).execute(parameterCaptor.capture());
+
+        String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "payload, type, priority, recipient, trigger, partition_id FROM job_details WHERE id = ANY($1)";
+
+        assertEquals(query, queryCaptor.getValue());
+        assertArrayEquals(new String[] { "test", "test2" }, (String[]) parameterCaptor.getValue().getValue(0));
+    }
+
     @Test
     void exists() {
         CompletionStage<Boolean> result = repository.exists("test");
@@ -219,13 +325,27 @@ class PostgreSqlJobRepositoryTest {
 
         String query = "DELETE FROM job_details WHERE id = $1 " +
                 "RETURNING id, correlation_id, status, last_update, retries, " +
-                "execution_counter, scheduled_id, payload, type, priority, recipient, trigger";
+                "execution_counter, scheduled_id, payload, type, priority, recipient, trigger, partition_id";
         String parameter = "test";
 
         assertEquals(query, queryCaptor.getValue());
         assertEquals(parameter, parameterCaptor.getValue().getValue(0));
     }
 
+    @Test
+    void doDeleteAll() {
+        CompletionStage<Void> result = repository.doDeleteAll(List.of("test", "test2"));
+        assertEquals(completableFuture, result);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).execute(parameterCaptor.capture());
+
+        assertEquals("DELETE FROM job_details WHERE id = ANY($1)", queryCaptor.getValue());
+        assertArrayEquals(new String[] { "test", "test2" }, (String[]) parameterCaptor.getValue().getValue(0));
+    }
+
     @Test
     void findAll() {
         PublisherBuilder<JobDetails> result = repository.findAll();
@@ -235,64 +355,74 @@ class PostgreSqlJobRepositoryTest {
         verify(client, times(1)).query(queryCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, " +
-                "execution_counter, scheduled_id, payload, type, priority, recipient, trigger FROM job_details";
+                "execution_counter, scheduled_id, payload, type, priority, recipient, trigger, partition_id FROM job_details";
 
         assertEquals(query, queryCaptor.getValue());
     }
 
     @Test
-    void findByStatusBetweenDatesOrderByPriority() {
-        ZonedDateTime from = ZonedDateTime.now();
-        ZonedDateTime to = ZonedDateTime.now();
-
-        PublisherBuilder<JobDetails> result = repository.findByStatusBetweenDatesOrderByPriority(from, to, JobStatus.SCHEDULED, JobStatus.RETRY);
+    void findByStatus() {
+        PublisherBuilder<JobDetails> result = repository.findByStatus(10, JobStatus.SCHEDULED, JobStatus.ERROR);
         assertNotNull(result);
 
         ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
-        verify(client, times(1)).query(queryCaptor.capture());
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).execute(parameterCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "payload, type, priority, recipient, trigger FROM job_details " +
-                "WHERE status IN ('SCHEDULED', 'RETRY') AND (trigger->>'nextFireTime')::INT8 > " + from.toInstant().toEpochMilli() +
-                " AND (trigger->>'nextFireTime')::INT8 < " + to.toInstant().toEpochMilli() + " ORDER BY priority DESC";
+                "payload, type, priority, recipient, trigger, partition_id FROM job_details WHERE status = ANY($1) ORDER BY fire_time LIMIT $2";
 
         assertEquals(query, queryCaptor.getValue());
+        assertArrayEquals(new String[] { "SCHEDULED", "ERROR" }, (String[]) parameterCaptor.getValue().getValue(0));
+        assertEquals(10, parameterCaptor.getValue().getInteger(1));
     }
 
     @Test
-    void findByStatusBetweenDatesOrderByPriorityNoCondition() {
+    void findByStatusBetweenDatesOrderByPriority() {
         ZonedDateTime from = ZonedDateTime.now();
         ZonedDateTime to = ZonedDateTime.now();
 
-        PublisherBuilder<JobDetails> result = repository.findByStatusBetweenDatesOrderByPriority(from, to, JobStatus.SCHEDULED);
+        PublisherBuilder<JobDetails> result = repository.findByStatusBetweenDatesOrderByPriority(from, to, JobStatus.SCHEDULED, JobStatus.RETRY);
         assertNotNull(result);
 
         ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
-        verify(client, times(1)).query(queryCaptor.capture());
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).execute(parameterCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "payload, type, priority, recipient, trigger FROM job_details " +
-                "WHERE status IN ('SCHEDULED') AND (trigger->>'nextFireTime')::INT8 > " + from.toInstant().toEpochMilli() +
-                " AND (trigger->>'nextFireTime')::INT8 < " + to.toInstant().toEpochMilli() + " ORDER BY priority DESC";
+                "payload, type, priority, recipient, trigger, partition_id FROM job_details " +
+                "WHERE status = ANY($1) AND fire_time > $2 AND fire_time < $3 ORDER BY priority DESC";
 
         assertEquals(query, queryCaptor.getValue());
+        assertArrayEquals(new String[] { "SCHEDULED", "RETRY" }, (String[]) parameterCaptor.getValue().getValue(0));
+        assertEquals(from.toOffsetDateTime(), parameterCaptor.getValue().getOffsetDateTime(1));
+        assertEquals(to.toOffsetDateTime(), parameterCaptor.getValue().getOffsetDateTime(2));
+        assertEquals(3, parameterCaptor.getValue().size());
     }
 
     @Test
-    void createStatusQuery() {
-        String statusQuery = PostgreSqlJobRepository.createStatusQuery(JobStatus.SCHEDULED, JobStatus.RETRY);
-        assertEquals("status IN ('SCHEDULED', 'RETRY')", statusQuery);
-    }
-
-    @Test
-    void createTimeQuery() {
+    void findByStatusBetweenDatesOrderByPriorityInPartitions() {
         ZonedDateTime from = ZonedDateTime.now();
         ZonedDateTime to = ZonedDateTime.now();
 
-        String timeQuery = PostgreSqlJobRepository.createTimeQuery(from, to);
-        assertEquals("(trigger->>'nextFireTime')::INT8 > " + from.toInstant().toEpochMilli()
-                + " AND (trigger->>'nextFireTime')::INT8 < " + to.toInstant().toEpochMilli(),
-                timeQuery);
+        PublisherBuilder<JobDetails> result = repository.findByStatusBetweenDatesOrderByPriority(from, to, Set.of(1), JobStatus.SCHEDULED);
+        assertNotNull(result);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        verify(query, times(1)).execute(parameterCaptor.capture());
+
+        String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "payload, type, priority, recipient, trigger, partition_id FROM job_details " +
+                "WHERE status = ANY($1) AND fire_time > $2 AND fire_time < $3 " +
+                "AND (partition_id = ANY($4) OR partition_id IS NULL) ORDER BY priority DESC";
+
+        assertEquals(query, queryCaptor.getValue());
+        assertArrayEquals(new String[] { "SCHEDULED" }, (String[]) parameterCaptor.getValue().getValue(0));
+        assertArrayEquals(new Integer[] { 1 }, (Integer[]) parameterCaptor.getValue().getValue(3));
     }
 
     @Test
@@ -313,6 +443,7 @@ class PostgreSqlJobRepositoryTest {
         when(row.getInteger("priority")).thenReturn(1);
         when(row.get(JsonObject.class, 10)).thenReturn(new JsonObject().put("recipientMarshaller", "test"));
         when(row.get(JsonObject.class, 11)).thenReturn(new JsonObject().put("triggerMarshaller", "test"));
+        when(row.getInteger("partition_id")).thenReturn(2);
 
         JobDetails jobDetails = repository.from(row);
 
@@ -329,8 +460,10 @@ class PostgreSqlJobRepositoryTest {
                 .priority(1)
                 .recipient(recipient)
                 .trigger(trigger)
+                .partition(2)
                 .build();
 
         assertEquals(expected, jobDetails);
+        assertEquals(expected.getPartition(), jobDetails.getPartition());
     }
 }
@@ -15,6 +15,8 @@
  */
 package org.kie.kogito.persistence.api;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.kie.kogito.persistence.api.query.Query;
@@ -70,6 +72,41 @@ public interface Storage<K, V> {
      */
     V remove(K key);
 
+    /**
+     * Gets the elements for a collection of keys. Keys that are not present in the storage are not included in the result.
+     *
+     * @param keys The keys.
+     * @return The key-value pairs of the elements found.
+     */
+    default Map<K, V> getAll(Collection<K> keys) {
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys) {
+            V value = get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Puts all the given key-value pairs. Elements with an already existing key are replaced.
+     *
+     * @param entries The key-value pairs.
+     */
+    default void putAll(Map<K, V> entries) {
+        entries.forEach(this::put);
+    }
+
+    /**
+     * Removes all the elements with the given keys. Keys that are not present in the storage are ignored.
+     *
+     * @param keys The keys.
+     */
+    default void removeAll(Collection<K> keys) {
+        keys.forEach(this::remove);
+    }
+
     /**
      * Checks whether the storage contains a key.
      *
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.api.query;
+
+/**
+ * Position of the null (or missing) attribute values in the sort order of a storage, needed to seek a position
+ * holding null values.
+ */
+public enum NullOrdering {
+
+    /**
+     * Null values are greater than any other value: last for ascending sorts, first for descending ones.
+     */
+    HIGHEST,
+    /**
+     * Null values are lower than any other value: first for ascending sorts, last for descending ones.
+     */
+    LOWEST,
+    /**
+     * Null values are placed last whatever the sort direction.
+     */
+    LAST
+}
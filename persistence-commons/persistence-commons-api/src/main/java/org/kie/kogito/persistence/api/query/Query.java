@@ -16,6 +16,9 @@
 package org.kie.kogito.persistence.api.query;
 
 import java.util.List;
+import java.util.Map;
+
+import io.smallrye.mutiny.Multi;
 
 public interface Query<T> {
 
@@ -27,5 +30,47 @@ public interface Query<T> {
 
     Query<T> sort(List<AttributeSort> sortBy);
 
+    /**
+     * Restricts the results to the elements placed after the given position in the query sort order, which allows
+     * paginating with a seek predicate instead of an offset. The position must hold a value, possibly null, for every
+     * sort attribute, and the last sort attribute should be unique so the position is unambiguous. Storages unable to
+     * seek a position do not support cursor pagination.
+     *
+     * @param position The sort attribute values of the last element previously read.
+     * @return The query.
+     * @see QueryFilterFactory#seek(List, Map, NullOrdering)
+     */
+    default Query<T> after(Map<String, Object> position) {
+        throw new UnsupportedOperationException("Cursor pagination not supported by this storage.");
+    }
+
+    /**
+     * Hints the storage that only the given top level attributes of the results are going to be read, so the rest
+     * can be left unset instead of being loaded. Storages unable to project the results return complete elements.
+     *
+     * @param attributes The names of the attributes to be read.
+     * @return The query.
+     */
+    default Query<T> project(List<String> attributes) {
+        return this;
+    }
+
     List<T> execute();
+
+    /**
+     * Counts the elements matching the query filters, limit, offset and sorting are ignored.
+     *
+     * @return The number of matching elements.
+     */
+    long count();
+
+    /**
+     * Executes the query emitting the results as they are read from the storage, instead of materializing all of them
+     * in a list. The query is executed on subscription.
+     *
+     * @return The `Multi` of the query results.
+     */
+    default Multi<T> stream() {
+        return Multi.createFrom().deferred(() -> Multi.createFrom().iterable(execute()));
+    }
 }
@@ -15,8 +15,10 @@
  */
 package org.kie.kogito.persistence.api.query;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public final class QueryFilterFactory {
 
@@ -90,4 +92,92 @@ public final class QueryFilterFactory {
     public static <T> AttributeFilter<AttributeFilter<T>> not(AttributeFilter<T> filter) {
         return new AttributeFilter<>(null, FilterCondition.NOT, filter);
     }
+
+    /**
+     * Creates the filter matching the elements placed after the given position in the sort order. For a sort on
+     * a1, a2 the filter is {@code a1 >= v1 and (a1 > v1 or (a1 = v1 and a2 > v2))}, where the redundant leading bound
+     * lets the storage use an index on the first sort attribute. Descending attributes use the opposite comparisons.
+     * Null values in the position are compared with {@code IS NULL} and {@code IS NOT NULL} according to the place of
+     * the nulls in the storage sort order.
+     *
+     * @param sortBy The sort of the query, must not be empty.
+     * @param position The value of each sort attribute for the last element previously read, which may be null.
+     * @param nullOrdering The place of the null values in the storage sort order.
+     * @return The seek filter, or null if no element can be placed after the position.
+     */
+    public static AttributeFilter<?> seek(List<AttributeSort> sortBy, Map<String, Object> position, NullOrdering nullOrdering) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            throw new IllegalArgumentException("Seeking a position requires the query to be sorted");
+        }
+        List<AttributeFilter<?>> alternatives = new ArrayList<>();
+        List<AttributeFilter<?>> equalities = new ArrayList<>();
+        for (AttributeSort sort : sortBy) {
+            if (!position.containsKey(sort.getAttribute())) {
+                throw new IllegalArgumentException("Missing value for sort attribute " + sort.getAttribute());
+            }
+            Object value = position.get(sort.getAttribute());
+            AttributeFilter<?> after = after(sort, value, nullOrdering);
+            if (after != null) {
+                List<AttributeFilter<?>> alternative = new ArrayList<>(equalities);
+                alternative.add(after);
+                alternatives.add(alternative.size() == 1 ? alternative.get(0) : and(alternative));
+            }
+            equalities.add(value == null ? isNull(sort.getAttribute()) : equalTo(sort.getAttribute(), value));
+        }
+        if (alternatives.isEmpty()) {
+            return null;
+        }
+        AttributeFilter<?> seek = alternatives.size() == 1 ? alternatives.get(0) : or(alternatives);
+        AttributeSort first = sortBy.get(0);
+        Object firstValue = position.get(first.getAttribute());
+        if (alternatives.size() == 1 || firstValue == null || nullsAfter(first, nullOrdering)) {
+            // The leading bound is only added when it is a plain comparison an index can be used for
+            return seek;
+        }
+        return and(Arrays.asList(first.getSort() == SortDirection.ASC ? greaterThanEqual(first.getAttribute(), firstValue)
+                : lessThanEqual(first.getAttribute(), firstValue), seek));
+    }
+
+    /**
+     * Adds the seek filter of the given position, if any, to the filters of a query.
+     *
+     * @param filters The query filters, may be null.
+     * @param sortBy The query sort.
+     * @param position The position to seek, may be null.
+     * @param nullOrdering The place of the null values in the storage sort order.
+     * @return The filters to be applied by the storage.
+     * @see #seek(List, Map, NullOrdering)
+     */
+    public static List<AttributeFilter<?>> withSeek(List<AttributeFilter<?>> filters, List<AttributeSort> sortBy, Map<String, Object> position,
+            NullOrdering nullOrdering) {
+        if (position == null) {
+            return filters;
+        }
+        List<AttributeFilter<?>> seekFilters = filters == null ? new ArrayList<>() : new ArrayList<>(filters);
+        AttributeFilter<?> seek = seek(sortBy, position, nullOrdering);
+        // Nothing is placed after a position holding the last possible value of every sort attribute
+        seekFilters.add(seek == null ? and(Arrays.asList(isNull(sortBy.get(0).getAttribute()), notNull(sortBy.get(0).getAttribute()))) : seek);
+        return seekFilters;
+    }
+
+    private static AttributeFilter<?> after(AttributeSort sort, Object value, NullOrdering nullOrdering) {
+        String attribute = sort.getAttribute();
+        boolean nullsAfter = nullsAfter(sort, nullOrdering);
+        if (value == null) {
+            return nullsAfter ? null : notNull(attribute);
+        }
+        AttributeFilter<?> after = sort.getSort() == SortDirection.ASC ? greaterThan(attribute, value) : lessThan(attribute, value);
+        return nullsAfter ? or(Arrays.asList(after, isNull(attribute))) : after;
+    }
+
+    private static boolean nullsAfter(AttributeSort sort, NullOrdering nullOrdering) {
+        switch (nullOrdering) {
+            case HIGHEST:
+                return sort.getSort() == SortDirection.ASC;
+            case LOWEST:
+                return sort.getSort() == SortDirection.DESC;
+            default:
+                return true;
+        }
+    }
 }
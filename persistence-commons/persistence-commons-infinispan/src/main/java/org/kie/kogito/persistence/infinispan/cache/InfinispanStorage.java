@@ -16,8 +16,11 @@
 
 package org.kie.kogito.persistence.infinispan.cache;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.kie.kogito.persistence.api.Storage;
@@ -70,6 +73,21 @@ public class InfinispanStorage<K, V> implements Storage<K, V> {
         return delegate.put(key, value);
     }
 
+    @Override
+    public Map<K, V> getAll(Collection<K> keys) {
+        return delegate.getAll(new HashSet<>(keys));
+    }
+
+    @Override
+    public void putAll(Map<K, V> entries) {
+        delegate.putAll(entries);
+    }
+
+    @Override
+    public void removeAll(Collection<K> keys) {
+        CompletableFuture.allOf(keys.stream().map(delegate::removeAsync).toArray(CompletableFuture[]::new)).join();
+    }
+
     @Override
     public Multi<V> objectCreatedListener() {
         LOGGER.debug("Adding new object created listener into Cache: {}", delegate.getName());
@@ -16,19 +16,26 @@
 package org.kie.kogito.persistence.infinispan.query;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.Search;
 import org.infinispan.query.dsl.QueryFactory;
+import org.infinispan.query.dsl.QueryResult;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.NullOrdering;
 import org.kie.kogito.persistence.api.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.smallrye.mutiny.Multi;
+
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withSeek;
 
 public class InfinispanQuery<T> implements Query<T> {
 
@@ -36,12 +43,14 @@ public class InfinispanQuery<T> implements Query<T> {
     private static final String AND = " and ";
     private static final String OR = " or ";
     private static final String ATTRIBUTE_VALUE = "o.%s = %s";
+    static final int STREAM_PAGE_SIZE = 100;
 
     private QueryFactory qf;
     private Integer limit;
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private Map<String, Object> after;
     private String rootType;
 
     public InfinispanQuery(RemoteCache<?, T> delegate, String rootType) {
@@ -81,19 +90,15 @@ public class InfinispanQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query<T> after(Map<String, Object> position) {
+        this.after = position;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
-        StringBuilder queryString = new StringBuilder("from " + rootType + " o");
-        if (filters != null && !filters.isEmpty()) {
-            queryString.append(" where ");
-            queryString.append(filters.stream().map(filterStringFunction()).collect(joining(AND)));
-        }
-        if (sortBy != null && !sortBy.isEmpty()) {
-            queryString.append(" order by ");
-            queryString.append(sortBy.stream().map(f -> "o." + f.getAttribute() + " " + f.getSort().name()).collect(joining(", ")));
-        }
-        LOGGER.debug("Executing Infinispan query: {}", queryString);
-        org.infinispan.query.dsl.Query<T> query = qf.create(queryString.toString());
+        org.infinispan.query.dsl.Query<T> query = qf.create(getQueryString(getFilters()));
         if (limit != null) {
             query.maxResults(limit);
         }
@@ -103,6 +108,63 @@ public class InfinispanQuery<T> implements Query<T> {
         return query.execute().list();
     }
 
+    @Override
+    public Multi<T> stream() {
+        String queryString = getQueryString(getFilters());
+        long end = limit == null ? Long.MAX_VALUE : (offset == null ? 0 : offset) + (long) limit;
+        // Remote queries are fully materialized by the server, so results are fetched in bounded pages instead
+        return Multi.createBy().repeating()
+                .supplier(() -> new AtomicLong(offset == null ? 0 : offset), position -> {
+                    long start = position.get();
+                    int pageSize = (int) Math.min(STREAM_PAGE_SIZE, end - start);
+                    if (pageSize <= 0) {
+                        return List.<T> of();
+                    }
+                    List<T> page = qf.<T> create(queryString).startOffset(start).maxResults(pageSize).execute().list();
+                    position.set(page.size() < pageSize ? end : start + page.size());
+                    return page;
+                })
+                .until(List::isEmpty)
+                .onItem().disjoint();
+    }
+
+    @Override
+    public long count() {
+        String queryString = getQueryString(filters);
+        // The hit count is computed by the server ignoring pagination, it is only missing for non-indexed caches
+        // where the server counts the matches with a projection instead of returning them
+        QueryResult<T> result = qf.<T> create(queryString).maxResults(1).execute();
+        return result.hitCount().orElseGet(() -> {
+            String countString = "select count(o.id) " + getFromString(filters);
+            LOGGER.debug("Executing Infinispan query: {}", countString);
+            List<Object[]> rows = qf.<Object[]> create(countString).execute().list();
+            return rows.isEmpty() ? 0L : ((Number) rows.get(0)[0]).longValue();
+        });
+    }
+
+    private List<AttributeFilter<?>> getFilters() {
+        return withSeek(filters, sortBy, after, NullOrdering.LAST);
+    }
+
+    private String getQueryString(List<AttributeFilter<?>> queryFilters) {
+        StringBuilder queryString = new StringBuilder(getFromString(queryFilters));
+        if (sortBy != null && !sortBy.isEmpty()) {
+            queryString.append(" order by ");
+            queryString.append(sortBy.stream().map(f -> "o." + f.getAttribute() + " " + f.getSort().name()).collect(joining(", ")));
+        }
+        LOGGER.debug("Executing Infinispan query: {}", queryString);
+        return queryString.toString();
+    }
+
+    private String getFromString(List<AttributeFilter<?>> queryFilters) {
+        StringBuilder fromString = new StringBuilder("from " + rootType + " o");
+        if (queryFilters != null && !queryFilters.isEmpty()) {
+            fromString.append(" where ");
+            fromString.append(queryFilters.stream().map(filterStringFunction()).collect(joining(AND)));
+        }
+        return fromString.toString();
+    }
+
     private Function<AttributeFilter<?>, String> filterStringFunction() {
         return filter -> {
             switch (filter.getCondition()) {
@@ -18,6 +18,7 @@ package org.kie.kogito.persistence.infinispan.cache;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -103,6 +104,33 @@ class InfinispanStorageIT {
         assertThat(cache.size()).isZero();
     }
 
+    @Test
+    void testPutAll() {
+        storage.putAll(Map.of("testPutAll_1", "testValue1", "testPutAll_2", "testValue2"));
+
+        assertThat(cache.get("testPutAll_1")).isEqualTo("testValue1");
+        assertThat(cache.get("testPutAll_2")).isEqualTo("testValue2");
+    }
+
+    @Test
+    void testGetAll() {
+        cache.put("testGetAll_1", "testValue1");
+        cache.put("testGetAll_2", "testValue2");
+
+        assertThat(storage.getAll(List.of("testGetAll_1", "testGetAll_2", "testGetAll_3")))
+                .containsOnly(Map.entry("testGetAll_1", "testValue1"), Map.entry("testGetAll_2", "testValue2"));
+    }
+
+    @Test
+    void testRemoveAll() {
+        cache.put("testRemoveAll_1", "testValue1");
+        cache.put("testRemoveAll_2", "testValue2");
+        cache.put("testRemoveAll_3", "testValue3");
+        storage.removeAll(List.of("testRemoveAll_1", "testRemoveAll_2"));
+
+        assertThat(cache.keySet()).containsExactly("testRemoveAll_3");
+    }
+
     @Test
     void testObjectCreatedListener() throws Exception {
         CountDownLatch latch = new CountDownLatch(3);
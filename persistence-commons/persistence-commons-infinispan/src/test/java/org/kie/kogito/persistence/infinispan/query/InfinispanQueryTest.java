@@ -15,7 +15,11 @@
  */
 package org.kie.kogito.persistence.infinispan.query;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.stream.Stream;
 
 import org.infinispan.query.dsl.Query;
@@ -52,7 +56,13 @@ import static org.kie.kogito.persistence.api.query.QueryFilterFactory.or;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 import static org.kie.kogito.persistence.api.query.SortDirection.ASC;
 import static org.kie.kogito.persistence.api.query.SortDirection.DESC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.persistence.infinispan.query.InfinispanQuery.STREAM_PAGE_SIZE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -171,6 +181,51 @@ class InfinispanQueryTest {
         verify(queryResult).list();
     }
 
+    @Test
+    void testStream() {
+        when(mockQuery.startOffset(anyLong())).thenReturn(mockQuery);
+        when(mockQuery.maxResults(anyInt())).thenReturn(mockQuery);
+        when(queryResult.list()).thenReturn(Collections.nCopies(STREAM_PAGE_SIZE, "a"), Collections.nCopies(STREAM_PAGE_SIZE / 2, "b"));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.limit(STREAM_PAGE_SIZE * 2);
+        query.offset(10);
+
+        List<String> results = query.stream().collect().asList().await().indefinitely();
+
+        assertThat(results).hasSize(STREAM_PAGE_SIZE + STREAM_PAGE_SIZE / 2);
+        verify(factory, times(2)).create("from org.kie.kogito.index.model.ProcessInstance o");
+        verify(mockQuery).startOffset(10);
+        verify(mockQuery).startOffset(10 + STREAM_PAGE_SIZE);
+        verify(mockQuery, times(2)).maxResults(STREAM_PAGE_SIZE);
+    }
+
+    @Test
+    void testCount() {
+        when(mockQuery.maxResults(anyInt())).thenReturn(mockQuery);
+        when(queryResult.hitCount()).thenReturn(OptionalLong.of(42));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.filter(asList(equalTo("name", "test")));
+        query.limit(10);
+
+        assertThat(query.count()).isEqualTo(42);
+        verify(factory).create("from org.kie.kogito.index.model.ProcessInstance o where o.name = 'test'");
+        verify(mockQuery).maxResults(1);
+    }
+
+    @Test
+    void testCountWithoutHitCount() {
+        when(mockQuery.maxResults(anyInt())).thenReturn(mockQuery);
+        when(queryResult.hitCount()).thenReturn(OptionalLong.empty());
+        when(queryResult.list()).thenReturn(List.<Object[]> of(new Object[] { 7L }));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.filter(asList(equalTo("name", "test")));
+        query.sort(asList(orderBy("name", ASC)));
+
+        assertThat(query.count()).isEqualTo(7);
+        verify(factory).create("select count(o.id) from org.kie.kogito.index.model.ProcessInstance o where o.name = 'test'");
+        verify(mockQuery, never()).maxResults(Integer.MAX_VALUE);
+    }
+
     @Test
     void testOrderBy() {
         InfinispanQuery query = new InfinispanQuery(factory, rootType);
@@ -182,6 +237,46 @@ class InfinispanQueryTest {
         verify(queryResult).list();
     }
 
+    @Test
+    void testAfter() {
+        InfinispanQuery query = new InfinispanQuery(factory, rootType);
+        query.filter(asList(equalTo("processId", "travels")));
+        query.sort(asList(orderBy("start", DESC), orderBy("id", ASC)));
+        query.after(Map.of("start", 10L, "id", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b"));
+
+        query.execute();
+
+        verify(factory).create("from org.kie.kogito.index.model.ProcessInstance o where o.processId = 'travels' and ((o.start < 10 or o.start is null) or (o.start = 10 and (o.id > '8035b580-6ae4-4aa8-9ec0-e18e19809e0b' or o.id is null))) order by o.start DESC, o.id ASC");
+        verify(queryResult).list();
+    }
+
+    @Test
+    void testAfterNullValue() {
+        InfinispanQuery query = new InfinispanQuery(factory, rootType);
+        query.sort(asList(orderBy("end", ASC), orderBy("id", ASC)));
+        Map<String, Object> position = new HashMap<>();
+        position.put("end", null);
+        position.put("id", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b");
+        query.after(position);
+
+        query.execute();
+
+        verify(factory).create("from org.kie.kogito.index.model.ProcessInstance o where (o.end is null and (o.id > '8035b580-6ae4-4aa8-9ec0-e18e19809e0b' or o.id is null)) order by o.end ASC, o.id ASC");
+        verify(queryResult).list();
+    }
+
+    @Test
+    void testCountIgnoresAfter() {
+        when(mockQuery.maxResults(anyInt())).thenReturn(mockQuery);
+        when(queryResult.hitCount()).thenReturn(OptionalLong.of(1));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.sort(asList(orderBy("id", ASC)));
+        query.after(Map.of("id", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b"));
+
+        assertThat(query.count()).isEqualTo(1);
+        verify(factory).create("from org.kie.kogito.index.model.ProcessInstance o order by o.id ASC");
+    }
+
     @ParameterizedTest
     @MethodSource("provideFilters")
     void assertQueryFilters(List<AttributeFilter<?>> filters, String queryString) {
@@ -16,13 +16,15 @@
 
 package org.kie.kogito.persistence.mongodb.query;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.bson.conversions.Bson;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.NullOrdering;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.api.query.SortDirection;
 import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
@@ -31,17 +33,25 @@ import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 
+import io.smallrye.mutiny.Multi;
+
+import static com.mongodb.client.model.Projections.include;
 import static com.mongodb.client.model.Sorts.ascending;
 import static com.mongodb.client.model.Sorts.descending;
 import static com.mongodb.client.model.Sorts.orderBy;
 import static java.util.stream.Collectors.toList;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withSeek;
 
 public class MongoQuery<V, E> implements Query<V> {
 
+    static final int STREAM_BATCH_SIZE = 100;
+
     Integer limit;
     Integer offset;
     List<AttributeFilter<?>> filters;
     List<AttributeSort> sortBy;
+    Map<String, Object> after;
+    List<String> projection;
 
     MongoEntityMapper<V, E> mongoEntityMapper;
 
@@ -76,25 +86,53 @@ public class MongoQuery<V, E> implements Query<V> {
         return this;
     }
 
+    @Override
+    public Query<V> after(Map<String, Object> position) {
+        this.after = position;
+        return this;
+    }
+
+    @Override
+    public Query<V> project(List<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
     @Override
     public List<V> execute() {
+        return this.find().map(mongoEntityMapper::mapToModel).into(new ArrayList<>());
+    }
+
+    @Override
+    public Multi<V> stream() {
+        return Multi.createFrom().resource(() -> this.find().batchSize(STREAM_BATCH_SIZE).iterator(),
+                cursor -> Multi.createFrom().<E> iterable(() -> cursor))
+                .withFinalizer(MongoCursor::close)
+                .map(mongoEntityMapper::mapToModel);
+    }
+
+    @Override
+    public long count() {
+        return QueryUtils.generateQuery(this.filters, mongoEntityMapper::convertToMongoAttribute)
+                .map(this.mongoCollection::countDocuments).orElseGet(this.mongoCollection::countDocuments);
+    }
+
+    private List<AttributeFilter<?>> getFilters() {
+        return withSeek(filters, sortBy, after, NullOrdering.LOWEST);
+    }
+
+    private FindIterable<E> find() {
         MongoCollection<E> collection = this.mongoCollection;
-        Optional<Bson> query = QueryUtils.generateQuery(this.filters, mongoEntityMapper::convertToMongoAttribute);
+        Optional<Bson> query = QueryUtils.generateQuery(this.getFilters(), mongoEntityMapper::convertToMongoAttribute);
         Optional<Bson> sort = this.generateSort();
 
         FindIterable<E> find = query.map(collection::find).orElseGet(collection::find);
         find = sort.map(find::sort).orElse(find);
+        find = Optional.ofNullable(this.projection)
+                .map(attributes -> include(attributes.stream().map(mongoEntityMapper::convertToMongoAttribute).collect(toList())))
+                .map(find::projection).orElse(find);
         find = Optional.ofNullable(this.offset).map(find::skip).orElse(find);
-        find = Optional.ofNullable(this.limit).map(find::limit).orElse(find);
-
-        List<V> list = new LinkedList<>();
-        try (MongoCursor<E> cursor = find.iterator()) {
-            while (cursor.hasNext()) {
-                E e = cursor.next();
-                list.add(mongoEntityMapper.mapToModel(e));
-            }
-        }
-        return list;
+        return Optional.ofNullable(this.limit).map(find::limit).orElse(find);
     }
 
     private Optional<Bson> generateSort() {
@@ -16,17 +16,25 @@
 
 package org.kie.kogito.persistence.mongodb.storage;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
 import org.kie.kogito.persistence.mongodb.query.MongoQuery;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 
 import io.smallrye.mutiny.Multi;
@@ -34,6 +42,7 @@ import io.smallrye.mutiny.Multi;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.kie.kogito.persistence.mongodb.model.ModelUtils.MONGO_ID;
 import static org.kie.kogito.persistence.mongodb.storage.StorageUtils.watchCollectionEntries;
 import static org.kie.kogito.persistence.mongodb.storage.StorageUtils.watchCollectionKeys;
@@ -102,6 +111,37 @@ public class MongoStorage<V, E> implements Storage<String, V> {
         return Objects.nonNull(v) ? oldValue : null;
     }
 
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        Map<String, V> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        Codec<E> codec = this.mongoCollection.getCodecRegistry().get(mapper.getEntityClass());
+        this.mongoCollection.withDocumentClass(BsonDocument.class).find(in(MONGO_ID, keys)).forEach(
+                document -> result.put(document.getString(MONGO_ID).getValue(),
+                        mapper.mapToModel(codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build()))));
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<String, V> entries) {
+        List<ReplaceOneModel<E>> replacements = entries.entrySet().stream().filter(e -> Objects.nonNull(e.getValue()))
+                .map(e -> new ReplaceOneModel<>(new Document(MONGO_ID, e.getKey()), mapper.mapToEntity(e.getKey(), e.getValue()),
+                        new ReplaceOptions().upsert(true)))
+                .collect(toList());
+        if (!replacements.isEmpty()) {
+            this.mongoCollection.bulkWrite(replacements);
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            this.mongoCollection.deleteMany(in(MONGO_ID, keys));
+        }
+    }
+
     @Override
     public void clear() {
         this.mongoCollection.deleteMany(new Document());
@@ -79,4 +79,48 @@ class MongoQueryIT {
         assertEquals(1, results.size());
         assertEquals("5", results.get(0));
     }
+
+    @Test
+    void testStream() {
+        for (int i = 0; i < MongoQuery.STREAM_BATCH_SIZE * 2 + 1; i++) {
+            collection.insertOne(new Document(MONGO_ID, String.valueOf(i)).append(TEST_ATTRIBUTE, String.format("%03d", i)));
+        }
+
+        mongoQuery.offset(1);
+        mongoQuery.sort(List.of(orderBy(TEST_ATTRIBUTE, ASC)));
+
+        List<String> results = mongoQuery.stream().collect().asList().await().indefinitely();
+        assertEquals(MongoQuery.STREAM_BATCH_SIZE * 2, results.size());
+        assertEquals("001", results.get(0));
+        assertEquals(String.format("%03d", MongoQuery.STREAM_BATCH_SIZE * 2), results.get(results.size() - 1));
+    }
+
+    @Test
+    void testProject() {
+        collection.insertOne(new Document(MONGO_ID, "1").append(TEST_ATTRIBUTE, "2").append("other", "3"));
+        MongoQuery<String, Document> query = new MongoQuery<>(collection, new MockMongoEntityMapper() {
+            @Override
+            public String mapToModel(Document entity) {
+                return String.join(",", entity.keySet());
+            }
+        });
+
+        query.project(List.of("id", TEST_ATTRIBUTE));
+
+        List<String> results = query.execute();
+        assertEquals(1, results.size());
+        assertEquals(MONGO_ID + "," + TEST_ATTRIBUTE, results.get(0));
+    }
+
+    @Test
+    void testCount() {
+        collection.insertOne(new Document(MONGO_ID, "1").append(TEST_ATTRIBUTE, "2"));
+        collection.insertOne(new Document(MONGO_ID, "2").append(TEST_ATTRIBUTE, "5"));
+        collection.insertOne(new Document(MONGO_ID, "3").append(TEST_ATTRIBUTE, "7"));
+
+        mongoQuery.limit(1);
+        mongoQuery.filter(List.of(QueryFilterFactory.in(TEST_ATTRIBUTE, List.of("2", "5"))));
+
+        assertEquals(2, mongoQuery.count());
+    }
 }
@@ -16,6 +16,9 @@
 
 package org.kie.kogito.persistence.mongodb.storage;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.inject.Inject;
 
 import org.bson.Document;
@@ -103,4 +106,31 @@ class MongoStorageIT {
         storage.remove(testId);
         assertEquals(0, collection.countDocuments());
     }
+
+    @Test
+    void testGetAll() {
+        collection.insertOne(new Document(MONGO_ID, "testGetAll_1").append(TEST_ATTRIBUTE, "testValue1"));
+        collection.insertOne(new Document(MONGO_ID, "testGetAll_2").append(TEST_ATTRIBUTE, "testValue2"));
+        assertEquals(Map.of("testGetAll_1", "testValue1", "testGetAll_2", "testValue2"),
+                storage.getAll(List.of("testGetAll_1", "testGetAll_2", "testGetAll_3")));
+    }
+
+    @Test
+    void testPutAll() {
+        collection.insertOne(new Document(MONGO_ID, "testPutAll_1").append(TEST_ATTRIBUTE, "oldValue"));
+        storage.putAll(Map.of("testPutAll_1", "testValue1", "testPutAll_2", "testValue2"));
+        assertEquals(2, collection.countDocuments());
+        assertEquals("testValue1", collection.find(new Document(MONGO_ID, "testPutAll_1")).first().get(TEST_ATTRIBUTE));
+        assertEquals("testValue2", collection.find(new Document(MONGO_ID, "testPutAll_2")).first().get(TEST_ATTRIBUTE));
+    }
+
+    @Test
+    void testRemoveAll() {
+        collection.insertOne(new Document(MONGO_ID, "testRemoveAll_1").append(TEST_ATTRIBUTE, "testValue1"));
+        collection.insertOne(new Document(MONGO_ID, "testRemoveAll_2").append(TEST_ATTRIBUTE, "testValue2"));
+        collection.insertOne(new Document(MONGO_ID, "testRemoveAll_3").append(TEST_ATTRIBUTE, "testValue3"));
+        storage.removeAll(List.of("testRemoveAll_1", "testRemoveAll_2"));
+        assertEquals(1, collection.countDocuments());
+        assertNotNull(collection.find(new Document(MONGO_ID, "testRemoveAll_3")).first());
+    }
 }
@@ -25,6 +25,7 @@ import org.hibernate.query.NativeQuery;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.FilterCondition;
+import org.kie.kogito.persistence.api.query.NullOrdering;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.oracle.model.CacheEntityRepository;
 import org.slf4j.Logger;
@@ -36,6 +37,7 @@ import com.vladmihalcea.hibernate.type.json.JsonBlobType;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withSeek;
 
 public class OracleQuery<T> implements Query<T> {
 
@@ -53,6 +55,7 @@ public class OracleQuery<T> implements Query<T> {
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private Map<String, Object> after;
     private Map<String, JsonField> fields;
 
     private static final class JsonField {
@@ -102,27 +105,16 @@ public class OracleQuery<T> implements Query<T> {
     }
 
     @Override
-    public List<T> execute() {
-        //Get type information from filters/sorting to cast JSON document fields in query
-        fields = addFilters(new HashMap<>(), filters);
-        if (sortBy != null && !sortBy.isEmpty()) {
-            sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
-                    .forEach(sortBy -> fields.put(sortBy.getAttribute(),
-                            new JsonField(sortBy.getAttribute())));
-        }
+    public Query<T> after(Map<String, Object> position) {
+        this.after = position;
+        return this;
+    }
 
+    @Override
+    public List<T> execute() {
         // Build the query to retrieve the filtered data from the temporary table above.
         StringBuilder queryString = new StringBuilder("SELECT key, name, json_value FROM kogito_data_cache ")
-                .append(" WHERE name = '")
-                .append(name)
-                .append("'");
-        if (filters != null && !filters.isEmpty()) {
-            queryString.append(" AND ");
-            queryString.append(filters.stream()
-                    .map(filter -> new StringBuilder()
-                            .append(filterStringFunction(filter)))
-                    .collect(joining(AND)));
-        }
+                .append(getWhereClause(getFilters()));
 
         // Sorting
         if (sortBy != null && !sortBy.isEmpty()) {
@@ -160,6 +152,39 @@ public class OracleQuery<T> implements Query<T> {
         }).collect(Collectors.toList());
     }
 
+    @Override
+    public long count() {
+        String queryString = "SELECT count(*) FROM kogito_data_cache" + getWhereClause(filters);
+        LOGGER.debug("Executing Oracle count query: {}", queryString);
+        return ((Number) repository.getEntityManager().createNativeQuery(queryString).getSingleResult()).longValue();
+    }
+
+    private List<AttributeFilter<?>> getFilters() {
+        return withSeek(filters, sortBy, after, NullOrdering.HIGHEST);
+    }
+
+    private String getWhereClause(List<AttributeFilter<?>> queryFilters) {
+        //Get type information from filters/sorting to cast JSON document fields in query
+        fields = addFilters(new HashMap<>(), queryFilters);
+        if (sortBy != null && !sortBy.isEmpty()) {
+            sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
+                    .forEach(sortBy -> fields.put(sortBy.getAttribute(),
+                            new JsonField(sortBy.getAttribute())));
+        }
+
+        StringBuilder whereClause = new StringBuilder(" WHERE name = '")
+                .append(name)
+                .append("'");
+        if (queryFilters != null && !queryFilters.isEmpty()) {
+            whereClause.append(" AND ");
+            whereClause.append(queryFilters.stream()
+                    .map(filter -> new StringBuilder()
+                            .append(filterStringFunction(filter)))
+                    .collect(joining(AND)));
+        }
+        return whereClause.toString();
+    }
+
     @SuppressWarnings("unchecked")
     private Map<String, JsonField> addFilters(final Map<String, JsonField> fields,
             final List<AttributeFilter<?>> filters) {
@@ -16,6 +16,7 @@
 
 package org.kie.kogito.persistence.oracle;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -95,8 +96,7 @@ public class OracleStorage<V> implements Storage<String, V> {
         };
     }
 
-    @Override
-    public V put(String key, V value) {
+    protected ObjectNode toJson(V value) {
         ObjectNode json;
         if (String.class.equals(type)) {
             json = mapper.createObjectNode();
@@ -104,6 +104,12 @@ public class OracleStorage<V> implements Storage<String, V> {
         } else {
             json = mapper.valueToTree(value);
         }
+        return json;
+    }
+
+    @Override
+    public V put(String key, V value) {
+        ObjectNode json = toJson(value);
         CacheId cacheId = new CacheId(cacheName, key);
         Optional<CacheEntity> byId = repository.findByIdOptional(cacheId);
         CacheEntity entity;
@@ -117,6 +123,35 @@ public class OracleStorage<V> implements Storage<String, V> {
         return value;
     }
 
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return repository.stream("name = ?1 and key in ?2", cacheName, keys).collect(toMap(CacheEntity::getKey, mapper()));
+    }
+
+    @Override
+    public void putAll(Map<String, V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<String, CacheEntity> existing = repository.stream("name = ?1 and key in ?2", cacheName, entries.keySet())
+                .collect(toMap(CacheEntity::getKey, Function.identity()));
+        entries.forEach((key, value) -> {
+            CacheEntity entity = existing.getOrDefault(key, new CacheEntity(cacheName, key));
+            entity.setValue(toJson(value));
+            repository.persist(entity);
+        });
+    }
+
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            repository.delete("name = ?1 and key in ?2", cacheName, keys);
+        }
+    }
+
     @Override
     public V remove(String key) {
         V value = get(key);
@@ -17,6 +17,7 @@
 package org.kie.kogito.persistence.oracle;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.transaction.Transactional;
@@ -238,6 +239,25 @@ class OracleStorageServiceIT {
         assertThat(entity).isNull();
     }
 
+    @Test
+    @Transactional
+    void testBulkOperations() {
+        String cacheName = "test";
+
+        Storage<String, String> cache = storageService.getCache(cacheName);
+        cache.put("key1", "oldValue");
+        cache.putAll(Map.of("key1", "value1", "key2", "value2", "key3", "value3"));
+
+        assertThat(cache.entries()).hasSize(3);
+        assertThat(cache.get("key1")).isEqualTo("value1");
+        assertThat(cache.getAll(List.of("key1", "key2", "key4")))
+                .containsOnly(Map.entry("key1", "value1"), Map.entry("key2", "value2"));
+
+        cache.removeAll(List.of("key1", "key2"));
+
+        assertThat(cache.entries()).containsOnly(Map.entry("key3", "value3"));
+    }
+
     @Test
     @Transactional
     void testQuery_Equal() {
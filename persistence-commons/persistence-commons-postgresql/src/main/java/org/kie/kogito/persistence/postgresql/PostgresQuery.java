@@ -20,21 +20,28 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.FilterCondition;
+import org.kie.kogito.persistence.api.query.NullOrdering;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vladmihalcea.hibernate.type.json.JsonNodeBinaryType;
 
+import io.smallrye.mutiny.Multi;
+
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withSeek;
 
 public class PostgresQuery<T> implements Query<T> {
 
@@ -42,6 +49,7 @@ public class PostgresQuery<T> implements Query<T> {
     private static final String AND = " AND ";
     private static final String OR = " OR ";
     private static final String ATTRIBUTE_ACCESSOR = "(json_value->>'%s')";
+    private static final int STREAM_FETCH_SIZE = 100;
 
     private final String name;
     private final CacheEntityRepository repository;
@@ -52,6 +60,7 @@ public class PostgresQuery<T> implements Query<T> {
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private Map<String, Object> after;
     private Map<String, JsonField> fields;
 
     private static final class JsonField {
@@ -100,28 +109,39 @@ public class PostgresQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query<T> after(Map<String, Object> position) {
+        this.after = position;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
-        //Get type information from filters/sorting to cast JSON document fields in query
-        fields = addFilters(new HashMap<>(), filters);
-        if (sortBy != null && !sortBy.isEmpty()) {
-            sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
-                    .forEach(sortBy -> fields.put(sortBy.getAttribute(),
-                            new JsonField(sortBy.getAttribute())));
+        return (List<T>) createQuery().getResultList().stream().map(this::toValue).collect(Collectors.toList());
+    }
+
+    @Override
+    public Multi<T> stream() {
+        return Multi.createFrom().<Stream<?>, T> resource(() -> createQuery().setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE).getResultStream(),
+                results -> Multi.createFrom().items(() -> results.map(this::toValue)))
+                .withFinalizer(Stream::close);
+    }
+
+    private T toValue(Object result) {
+        if (result == null) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue((JsonNode) result, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
         }
+    }
 
+    private javax.persistence.Query createQuery() {
         // Build the query to retrieve the filtered data from the temporary table above.
         StringBuilder queryString = new StringBuilder("SELECT * FROM kogito_data_cache")
-                .append(" WHERE name = '")
-                .append(name)
-                .append("'");
-        if (filters != null && !filters.isEmpty()) {
-            queryString.append(" AND ");
-            queryString.append(filters.stream()
-                    .map(filter -> new StringBuilder()
-                            .append(filterStringFunction(filter)))
-                    .collect(joining(AND)));
-        }
+                .append(getWhereClause(getFilters()));
 
         // Sorting
         if (sortBy != null && !sortBy.isEmpty()) {
@@ -142,19 +162,40 @@ public class PostgresQuery<T> implements Query<T> {
         if (offset != null) {
             query.setFirstResult(offset);
         }
+        return query;
+    }
 
-        List<?> results = query.getResultList();
+    @Override
+    public long count() {
+        String queryString = "SELECT count(*) FROM kogito_data_cache" + getWhereClause(filters);
+        LOGGER.debug("Executing PostgreSQL count query: {}", queryString);
+        return ((Number) repository.getEntityManager().createNativeQuery(queryString).getSingleResult()).longValue();
+    }
 
-        return results.stream().map(r -> {
-            if (r == null) {
-                return null;
-            }
-            try {
-                return objectMapper.readValue(objectMapper.writeValueAsString(r), type);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
-        }).collect(Collectors.toList());
+    private List<AttributeFilter<?>> getFilters() {
+        return withSeek(filters, sortBy, after, NullOrdering.HIGHEST);
+    }
+
+    private String getWhereClause(List<AttributeFilter<?>> queryFilters) {
+        //Get type information from filters/sorting to cast JSON document fields in query
+        fields = addFilters(new HashMap<>(), queryFilters);
+        if (sortBy != null && !sortBy.isEmpty()) {
+            sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
+                    .forEach(sortBy -> fields.put(sortBy.getAttribute(),
+                            new JsonField(sortBy.getAttribute())));
+        }
+
+        StringBuilder whereClause = new StringBuilder(" WHERE name = '")
+                .append(name)
+                .append("'");
+        if (queryFilters != null && !queryFilters.isEmpty()) {
+            whereClause.append(" AND ");
+            whereClause.append(queryFilters.stream()
+                    .map(filter -> new StringBuilder()
+                            .append(filterStringFunction(filter)))
+                    .collect(joining(AND)));
+        }
+        return whereClause.toString();
     }
 
     @SuppressWarnings("unchecked")
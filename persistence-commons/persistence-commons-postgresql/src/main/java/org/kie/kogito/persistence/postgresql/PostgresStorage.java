@@ -16,9 +16,15 @@
 
 package org.kie.kogito.persistence.postgresql;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
 
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.query.Query;
@@ -33,11 +39,14 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.smallrye.mutiny.Multi;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 
 public class PostgresStorage<V> implements Storage<String, V> {
 
     private static final String LISTENER_NOT_AVAILABLE_IN_POSTGRES_SQL = "Listener not available in PostgresSQL";
+    private static final String UPSERT_QUERY = "INSERT INTO kogito_data_cache (name, key, json_value) VALUES %s ON CONFLICT (key, name) DO UPDATE SET json_value = EXCLUDED.json_value";
+    private static final int UPSERT_BATCH_SIZE = 1000;
     private CacheEntityRepository repository;
     private String cacheName;
     private Class<V> type;
@@ -95,8 +104,7 @@ public class PostgresStorage<V> implements Storage<String, V> {
         };
     }
 
-    @Override
-    public V put(String key, V value) {
+    protected ObjectNode toJson(V value) {
         ObjectNode json;
         if (String.class.equals(type)) {
             json = mapper.createObjectNode();
@@ -104,6 +112,12 @@ public class PostgresStorage<V> implements Storage<String, V> {
         } else {
             json = mapper.valueToTree(value);
         }
+        return json;
+    }
+
+    @Override
+    public V put(String key, V value) {
+        ObjectNode json = toJson(value);
         CacheId cacheId = new CacheId(cacheName, key);
         Optional<CacheEntity> byId = repository.findByIdOptional(cacheId);
         CacheEntity entity;
@@ -117,6 +131,44 @@ public class PostgresStorage<V> implements Storage<String, V> {
         return value;
     }
 
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return repository.stream("name = ?1 and key in ?2", cacheName, keys).collect(toMap(CacheEntity::getKey, mapper()));
+    }
+
+    @Override
+    public void putAll(Map<String, V> entries) {
+        EntityManager entityManager = repository.getEntityManager();
+        // The upsert bypasses the persistence context, flush pending changes and detach any managed copy that would become stale
+        entityManager.flush();
+        entries.keySet().forEach(key -> entityManager.detach(entityManager.getReference(CacheEntity.class, new CacheId(cacheName, key))));
+
+        List<Map.Entry<String, V>> rows = new ArrayList<>(entries.entrySet());
+        for (int from = 0; from < rows.size(); from += UPSERT_BATCH_SIZE) {
+            List<Map.Entry<String, V>> batch = rows.subList(from, Math.min(from + UPSERT_BATCH_SIZE, rows.size()));
+            String values = IntStream.range(0, batch.size())
+                    .mapToObj(i -> format("(?%d, ?%d, CAST(?%d AS jsonb))", 3 * i + 1, 3 * i + 2, 3 * i + 3))
+                    .collect(joining(", "));
+            javax.persistence.Query query = entityManager.createNativeQuery(format(UPSERT_QUERY, values));
+            for (int i = 0; i < batch.size(); i++) {
+                query.setParameter(3 * i + 1, cacheName);
+                query.setParameter(3 * i + 2, batch.get(i).getKey());
+                query.setParameter(3 * i + 3, toJson(batch.get(i).getValue()).toString());
+            }
+            query.executeUpdate();
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            repository.delete("name = ?1 and key in ?2", cacheName, keys);
+        }
+    }
+
     @Override
     public V remove(String key) {
         V value = get(key);
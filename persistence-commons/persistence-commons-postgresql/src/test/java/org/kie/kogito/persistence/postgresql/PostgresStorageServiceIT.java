@@ -17,6 +17,7 @@
 package org.kie.kogito.persistence.postgresql;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.transaction.Transactional;
@@ -238,6 +239,25 @@ class PostgresStorageServiceIT {
         assertThat(entity).isNull();
     }
 
+    @Test
+    @Transactional
+    void testBulkOperations() {
+        String cacheName = "test";
+
+        Storage<String, String> cache = storageService.getCache(cacheName);
+        cache.put("key1", "oldValue");
+        cache.putAll(Map.of("key1", "value1", "key2", "value2", "key3", "value3"));
+
+        assertThat(cache.entries()).hasSize(3);
+        assertThat(cache.get("key1")).isEqualTo("value1");
+        assertThat(cache.getAll(List.of("key1", "key2", "key4")))
+                .containsOnly(Map.entry("key1", "value1"), Map.entry("key2", "value2"));
+
+        cache.removeAll(List.of("key1", "key2"));
+
+        assertThat(cache.entries()).containsOnly(Map.entry("key3", "value3"));
+    }
+
     @Test
     @Transactional
     void testQuery_Equal() {
@@ -256,6 +276,24 @@ class PostgresStorageServiceIT {
         assertThat(results.get(0).getField3()).isEqualTo("A");
     }
 
+    @Test
+    @Transactional
+    void testQuery_Stream() {
+        String cacheName = "queries";
+
+        Storage<String, StructuredType> cache = storageService.getCache(cacheName, StructuredType.class);
+        cache.put("key1", StructuredType.builder().withField1(1).withField3("A").build());
+        cache.put("key2", StructuredType.builder().withField1(2).withField3("B").build());
+        cache.put("key3", StructuredType.builder().withField1(3).withField3("C").build());
+
+        Query<StructuredType> query = cache.query();
+        query.filter(List.of(QueryFilterFactory.greaterThan("field1", 1)));
+        query.sort(List.of(QueryFilterFactory.orderBy("field1", SortDirection.DESC)));
+
+        List<StructuredType> results = query.stream().collect().asList().await().indefinitely();
+        assertThat(results).extracting(StructuredType::getField3).containsExactly("C", "B");
+    }
+
     @Test
     @Transactional
     void testQuery_Integers() {
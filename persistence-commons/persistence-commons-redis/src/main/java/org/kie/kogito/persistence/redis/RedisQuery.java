@@ -18,6 +18,7 @@ package org.kie.kogito.persistence.redis;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.kie.kogito.persistence.api.query.AttributeFilter;
@@ -29,12 +30,14 @@ import org.slf4j.LoggerFactory;
 
 import io.redisearch.Client;
 import io.redisearch.SearchResult;
+import io.smallrye.mutiny.Multi;
 
 import static org.kie.kogito.persistence.redis.Constants.RAW_OBJECT_FIELD;
 
 public class RedisQuery<V> implements Query<V> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisQuery.class);
+    static final int STREAM_PAGE_SIZE = 100;
 
     Integer limit;
     Integer offset;
@@ -83,18 +86,52 @@ public class RedisQuery<V> implements Query<V> {
 
     @Override
     public List<V> execute() {
-        io.redisearch.Query query = new io.redisearch.Query(RedisQueryFactory.buildQueryBody(indexName, filters));
-
+        io.redisearch.Query query = createQuery();
         setQueryLimitAndOffset(query);
 
+        SearchResult search = redisClient.search(query);
+        LOGGER.debug(String.format("%d documets have been found for the query.", search.totalResults));
+
+        return toValues(search);
+    }
+
+    @Override
+    public Multi<V> stream() {
+        boolean paginated = limit != null && offset != null;
+        long end = paginated ? (long) offset + limit : Long.MAX_VALUE;
+        return Multi.createBy().repeating()
+                .supplier(() -> new AtomicLong(paginated ? offset : 0), position -> {
+                    long start = position.get();
+                    int pageSize = (int) Math.min(STREAM_PAGE_SIZE, end - start);
+                    if (pageSize <= 0) {
+                        return List.<V> of();
+                    }
+                    io.redisearch.Query query = createQuery().limit((int) start, pageSize);
+                    List<V> page = toValues(redisClient.search(query));
+                    position.set(page.size() < pageSize ? end : start + page.size());
+                    return page;
+                })
+                .until(List::isEmpty)
+                .onItem().disjoint();
+    }
+
+    @Override
+    public long count() {
+        return redisClient.search(createQuery().limit(0, 0)).totalResults;
+    }
+
+    private io.redisearch.Query createQuery() {
+        io.redisearch.Query query = new io.redisearch.Query(RedisQueryFactory.buildQueryBody(indexName, filters));
+
         if (sortBy != null) {
             query.setSortBy(sortBy.getAttribute(), SortDirection.ASC.equals(sortBy.getSort()));
         }
 
         RedisQueryFactory.addFilters(query, filters);
-        SearchResult search = redisClient.search(query);
-        LOGGER.debug(String.format("%d documets have been found for the query.", search.totalResults));
+        return query;
+    }
 
+    private List<V> toValues(SearchResult search) {
         return search.docs.stream().map(x -> {
             try {
                 return JsonUtils.getMapper().readValue((String) x.get(RAW_OBJECT_FIELD), type);
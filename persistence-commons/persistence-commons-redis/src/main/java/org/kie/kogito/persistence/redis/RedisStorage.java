@@ -16,6 +16,7 @@
 
 package org.kie.kogito.persistence.redis;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,38 +75,36 @@ public class RedisStorage<V> implements Storage<String, V> {
     @Override
     public V get(String key) {
         Document document = redisClient.getDocument(key);
-        try {
-            return document == null ? null : JsonUtils.getMapper().readValue((String) document.get(RAW_OBJECT_FIELD), type);
-        } catch (JsonProcessingException e) {
-            LOGGER.warn("Could not deserialize the requested object.", e);
-            throw new RuntimeException(e);
-        }
+        return document == null ? null : toValue(document);
     }
 
     @Override
-    public V put(String key, V value) {
-        Map<String, Object> document = new HashMap<>();
-        List<String> indexedFields = redisIndexManager.getSchema(indexName);
-        if (indexedFields.size() > 0) { // Add into the payload only the indexed fields, if there is any
-            Map<String, Object> mappedValue = JsonUtils.getMapper().convertValue(value, Map.class);
-            for (String fieldName : indexedFields) {
-                if (mappedValue.get(fieldName) != null) { // If a field is indexed, its value can not be null: it has to be filtered out
-                    // Indexed values have to be escaped according to https://github.com/RediSearch/RediSearch/issues/1148
-                    document.put(fieldName, Sanitizer.sanitize(mappedValue.get(fieldName)));
-                }
+    public Map<String, V> getAll(Collection<String> keys) {
+        Map<String, V> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        for (Document document : redisClient.getDocuments(keys.toArray(new String[0]))) {
+            if (document != null) {
+                result.put(document.getId(), toValue(document));
             }
         }
+        return result;
+    }
 
-        document.put(INDEX_NAME_FIELD, indexName);
+    @Override
+    public V put(String key, V value) {
+        redisClient.addDocument(key, toDocument(value));
+        return value;
+    }
 
-        try {
-            document.put(RAW_OBJECT_FIELD, JsonUtils.getMapper().writeValueAsString(value));
-        } catch (JsonProcessingException e) {
-            LOGGER.warn("Could not serialize the object.", e);
-            throw new RuntimeException(e);
+    @Override
+    public void putAll(Map<String, V> entries) {
+        if (!entries.isEmpty()) {
+            redisClient.addDocuments(entries.entrySet().stream()
+                    .map(e -> new Document(e.getKey(), toDocument(e.getValue())))
+                    .toArray(Document[]::new));
         }
-        redisClient.addDocument(key, document);
-        return value;
     }
 
     @Override
@@ -115,6 +114,13 @@ public class RedisStorage<V> implements Storage<String, V> {
         return value;
     }
 
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            redisClient.deleteDocuments(true, keys.toArray(new String[0]));
+        }
+    }
+
     @Override
     public boolean containsKey(String key) {
         return redisClient.getDocument(key) != null;
@@ -137,4 +143,37 @@ public class RedisStorage<V> implements Storage<String, V> {
     public String getRootType() {
         return type.getSimpleName();
     }
+
+    private V toValue(Document document) {
+        try {
+            return JsonUtils.getMapper().readValue((String) document.get(RAW_OBJECT_FIELD), type);
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Could not deserialize the requested object.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Map<String, Object> toDocument(V value) {
+        Map<String, Object> document = new HashMap<>();
+        List<String> indexedFields = redisIndexManager.getSchema(indexName);
+        if (indexedFields.size() > 0) { // Add into the payload only the indexed fields, if there is any
+            Map<String, Object> mappedValue = JsonUtils.getMapper().convertValue(value, Map.class);
+            for (String fieldName : indexedFields) {
+                if (mappedValue.get(fieldName) != null) { // If a field is indexed, its value can not be null: it has to be filtered out
+                    // Indexed values have to be escaped according to https://github.com/RediSearch/RediSearch/issues/1148
+                    document.put(fieldName, Sanitizer.sanitize(mappedValue.get(fieldName)));
+                }
+            }
+        }
+
+        document.put(INDEX_NAME_FIELD, indexName);
+
+        try {
+            document.put(RAW_OBJECT_FIELD, JsonUtils.getMapper().writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Could not serialize the object.", e);
+            throw new RuntimeException(e);
+        }
+        return document;
+    }
 }
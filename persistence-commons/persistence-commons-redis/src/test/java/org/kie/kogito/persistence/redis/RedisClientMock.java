@@ -146,7 +146,13 @@ public class RedisClientMock implements io.redisearch.Client {
 
     @Override
     public boolean[] addDocuments(Document... documents) {
-        throw new UnsupportedOperationException("Mock does not support this operation.");
+        boolean[] results = new boolean[documents.length];
+        for (int i = 0; i < documents.length; i++) {
+            Map<String, Object> fields = new HashMap<>();
+            documents[i].getProperties().forEach(e -> fields.put(e.getKey(), e.getValue()));
+            results[i] = addDocument(documents[i].getId(), fields);
+        }
+        return results;
     }
 
     @Override
@@ -191,7 +197,11 @@ public class RedisClientMock implements io.redisearch.Client {
 
     @Override
     public boolean[] deleteDocuments(boolean b, String... strings) {
-        throw new UnsupportedOperationException("Mock does not support this operation.");
+        boolean[] results = new boolean[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            results[i] = storage.remove(strings[i]) != null;
+        }
+        return results;
     }
 
     @Override
@@ -206,7 +216,11 @@ public class RedisClientMock implements io.redisearch.Client {
 
     @Override
     public List<Document> getDocuments(String... strings) {
-        throw new UnsupportedOperationException("Mock does not support this operation.");
+        List<Document> documents = new ArrayList<>();
+        for (String key : strings) {
+            documents.add(getDocument(key));
+        }
+        return documents;
     }
 
     @Override
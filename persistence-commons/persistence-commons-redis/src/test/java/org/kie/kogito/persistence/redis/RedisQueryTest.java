@@ -41,6 +41,8 @@ import static org.kie.kogito.persistence.redis.Constants.RAW_OBJECT_FIELD;
 import static org.kie.kogito.persistence.redis.Person.NAME_PROPERTY;
 import static org.kie.kogito.persistence.redis.TestContants.TEST_INDEX_NAME;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RedisQueryTest {
@@ -51,6 +53,12 @@ public class RedisQueryTest {
         Assertions.assertThrows(UnsupportedOperationException.class, () -> redisQuery.sort(asList(orderBy("first", SortDirection.DESC), orderBy("second", SortDirection.ASC))));
     }
 
+    @Test
+    public void cursorPaginationIsNotSupported() {
+        RedisQuery<Person> redisQuery = new RedisQuery<>(new RedisClientMock(), TEST_INDEX_NAME, Person.class);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> redisQuery.after(Map.of(NAME_PROPERTY, "pippo")));
+    }
+
     @Test
     public void executeTest() throws JsonProcessingException {
         Client client = Mockito.mock(Client.class);
@@ -80,4 +88,26 @@ public class RedisQueryTest {
         Assertions.assertEquals("pippo", result.get(0).getName());
         Assertions.assertEquals(20, result.get(0).getAge());
     }
+
+    @Test
+    public void streamTest() throws JsonProcessingException {
+        Client client = Mockito.mock(Client.class);
+
+        Person person = new Person("pippo", 20);
+        Map<String, Object> map = JsonUtils.getMapper().convertValue(person, Map.class);
+        map.put(RAW_OBJECT_FIELD, JsonUtils.getMapper().writeValueAsString(person));
+
+        SearchResult searchResult = new SearchResult(singletonList(0L), false, false, false);
+        searchResult.docs.add(new Document("pippo", map));
+        when(client.search(any(Query.class))).thenReturn(searchResult);
+
+        RedisQuery<Person> redisQuery = new RedisQuery<>(client, TEST_INDEX_NAME, Person.class);
+
+        List<Person> result = redisQuery.stream().collect().asList().await().indefinitely();
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals("pippo", result.get(0).getName());
+        // A page smaller than the page size ends the stream without further searches
+        verify(client, times(1)).search(any(Query.class));
+    }
 }
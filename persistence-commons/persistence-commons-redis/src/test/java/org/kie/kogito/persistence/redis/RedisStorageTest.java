@@ -16,6 +16,7 @@
 
 package org.kie.kogito.persistence.redis;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
@@ -133,6 +134,31 @@ public class RedisStorageTest {
         Assertions.assertNull(redisStorage.get(key));
     }
 
+    @Test
+    public void putAllAndGetAllOperationsTest() {
+        redisStorage.putAll(Map.of("key1", new Person("pippo", 22), "key2", new Person("pluto", 33)));
+
+        Assertions.assertEquals(2, redisClientMock.getStorage().size());
+
+        Map<String, Person> retrieved = redisStorage.getAll(List.of("key1", "key2", "a_key_that_does_not_exist"));
+        Assertions.assertEquals(2, retrieved.size());
+        Assertions.assertEquals("pippo", retrieved.get("key1").getName());
+        Assertions.assertEquals(33, retrieved.get("key2").getAge());
+    }
+
+    @Test
+    public void removeAllOperationTest() {
+        redisStorage.put("key1", new Person("pippo", 22));
+        redisStorage.put("key2", new Person("pluto", 33));
+        redisStorage.put("key3", new Person("paperino", 44));
+
+        redisStorage.removeAll(List.of("key1", "key2"));
+
+        Assertions.assertNull(redisStorage.get("key1"));
+        Assertions.assertNull(redisStorage.get("key2"));
+        Assertions.assertNotNull(redisStorage.get("key3"));
+    }
+
     @Test
     public void nullIndexedValuesTest() {
         String key = "myKey";
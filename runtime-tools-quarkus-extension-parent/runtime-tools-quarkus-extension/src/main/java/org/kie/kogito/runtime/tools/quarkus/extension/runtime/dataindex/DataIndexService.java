@@ -35,9 +35,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Path("/dataindex")
 public class DataIndexService {
 
-    public static final String ALL_TASKS_IDS_QUERY = "{ \"operationName\": \"getAllTasksIds\", \"query\": \"query getAllTasksIds{  UserTaskInstances{ id } }\" }";
-    public static final String ALL_PROCESS_INSTANCES_IDS_QUERY = "{ \"operationName\": \"getAllProcessesIds\", \"query\": \"query getAllProcessesIds{  ProcessInstances{ id } }\" }";
-    public static final String ALL_JOBS_IDS_QUERY = "{ \"operationName\": \"getAllJobsIds\", \"query\": \"query getAllJobsIds{  Jobs{ id } }\" }";
+    public static final String TASKS_COUNT_QUERY = "{ \"operationName\": \"getTasksCount\", \"query\": \"query getTasksCount{  UserTaskInstancesCount }\" }";
+    public static final String PROCESS_INSTANCES_COUNT_QUERY = "{ \"operationName\": \"getProcessInstancesCount\", \"query\": \"query getProcessInstancesCount{  ProcessInstancesCount }\" }";
+    public static final String JOBS_COUNT_QUERY = "{ \"operationName\": \"getJobsCount\", \"query\": \"query getJobsCount{  JobsCount }\" }";
 
     private final ObjectMapper mapper;
     private final DataIndexClient dataIndexClient;
@@ -55,8 +55,8 @@ public class DataIndexService {
     @Produces(MediaType.TEXT_PLAIN)
     public Response tasksCount() {
         try {
-            TasksResponse tasksResponse = doQuery(ALL_TASKS_IDS_QUERY, TasksResponse.class);
-            int tasksCount = tasksResponse.getData().getTasks().size();
+            TasksResponse tasksResponse = doQuery(TASKS_COUNT_QUERY, TasksResponse.class);
+            long tasksCount = tasksResponse.getData().getTasksCount();
             return Response.ok(tasksCount).build();
         } catch (Exception e) {
             return Response.serverError().build();
@@ -68,8 +68,8 @@ public class DataIndexService {
     @Produces(MediaType.TEXT_PLAIN)
     public Response processInstancesCount() {
         try {
-            ProcessInstancesResponse response = doQuery(ALL_PROCESS_INSTANCES_IDS_QUERY, ProcessInstancesResponse.class);
-            int processInstancesCount = response.getData().getProcessInstances().size();
+            ProcessInstancesResponse response = doQuery(PROCESS_INSTANCES_COUNT_QUERY, ProcessInstancesResponse.class);
+            long processInstancesCount = response.getData().getProcessInstancesCount();
             return Response.ok(processInstancesCount).build();
         } catch (Exception e) {
             return Response.serverError().build();
@@ -81,8 +81,8 @@ public class DataIndexService {
     @Produces(MediaType.TEXT_PLAIN)
     public Response jobsCount() {
         try {
-            JobsResponse jobsResponse = doQuery(ALL_JOBS_IDS_QUERY, JobsResponse.class);
-            int jobsCount = jobsResponse.getData().getJobs().size();
+            JobsResponse jobsResponse = doQuery(JOBS_COUNT_QUERY, JobsResponse.class);
+            long jobsCount = jobsResponse.getData().getJobsCount();
             return Response.ok(jobsCount).build();
         } catch (Exception e) {
             return Response.serverError().build();
@@ -25,6 +25,9 @@ public class JobsData {
     @JsonProperty("Jobs")
     private List<Job> jobsList;
 
+    @JsonProperty("JobsCount")
+    private Long jobsCount;
+
     public JobsData() {
     }
 
@@ -39,4 +42,12 @@ public class JobsData {
     public void setJobs(final List<Job> jobsList) {
         this.jobsList = jobsList;
     }
+
+    public Long getJobsCount() {
+        return jobsCount;
+    }
+
+    public void setJobsCount(final Long jobsCount) {
+        this.jobsCount = jobsCount;
+    }
 }
@@ -25,6 +25,9 @@ public class ProcessInstancesData {
     @JsonProperty("ProcessInstances")
     private List<ProcessInstance> instances;
 
+    @JsonProperty("ProcessInstancesCount")
+    private Long instancesCount;
+
     public ProcessInstancesData() {
     }
 
@@ -39,4 +42,12 @@ public class ProcessInstancesData {
     public void setProcessInstances(final List<ProcessInstance> processInstancesList) {
         this.instances = processInstancesList;
     }
+
+    public Long getProcessInstancesCount() {
+        return instancesCount;
+    }
+
+    public void setProcessInstancesCount(final Long instancesCount) {
+        this.instancesCount = instancesCount;
+    }
 }
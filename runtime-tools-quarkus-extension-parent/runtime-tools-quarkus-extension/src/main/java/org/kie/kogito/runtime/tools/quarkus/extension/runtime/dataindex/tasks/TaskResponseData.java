@@ -25,6 +25,9 @@ public class TaskResponseData {
     @JsonProperty("UserTaskInstances")
     private List<Task> tasks;
 
+    @JsonProperty("UserTaskInstancesCount")
+    private Long tasksCount;
+
     public TaskResponseData() {
     }
 
@@ -39,4 +42,12 @@ public class TaskResponseData {
     public void setTasks(final List<Task> userTaskInstancesList) {
         this.tasks = userTaskInstancesList;
     }
+
+    public Long getTasksCount() {
+        return tasksCount;
+    }
+
+    public void setTasksCount(final Long tasksCount) {
+        this.tasksCount = tasksCount;
+    }
 }
@@ -36,15 +36,12 @@ public class DataIndexServiceTest {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
     public static final String ERROR_RESPONSE = "something wrong happened!";
-    public static final String PROCESS_INSTANCE_RESPONSE =
-            "{\"data\":{\"ProcessInstances\":[{\"id\":\"2aa76968-5087-433a-a61f-9d3ca2feb270\"},{\"id\":\"2652e27e-127f-4b2a-961b-718a50d97212\"},{\"id\":\"5da599ad-ae7c-492f-b2c1-4a4a559dd64c\"},{\"id\":\"12ee3d38-2467-4cc0-89e6-1e6547f95cd8\"},{\"id\":\"edd5d47a-2fd1-4f8b-87a0-a8ab3f938993\"}]}}";
-    public static final String EMPTY_PROCESS_INSTANCE_RESPONSE = "{\"data\":{\"ProcessInstances\":[]}}";
-    public static final String USER_TASK_RESPONSE =
-            "{\"data\":{\"UserTaskInstances\":[{\"id\":\"a859c055-3301-487a-a252-95bc35849d5c\"},{\"id\":\"cfe73332-6942-44f0-b00b-7f63349c7465\"},{\"id\":\"3ebb40a3-9ed6-4be9-bae7-5cb036870327\"},{\"id\":\"04e200d7-c191-4b29-9f6f-09c556ff5a97\"},{\"id\":\"4ab9ddff-6edb-44fa-9ed4-2b4fc797c23d\"}]}}";
-    public static final String EMPTY_USER_TASK_RESPONSE = "{\"data\":{\"UserTaskInstances\":[]}}";
-    public static final String JOBS_RESPONSE =
-            "{\"data\":{\"Jobs\":[{\"id\":\"a859c055-3301-487a-a252-95bc35849d5c\"},{\"id\":\"cfe73332-6942-44f0-b00b-7f63349c7465\"},{\"id\":\"3ebb40a3-9ed6-4be9-bae7-5cb036870327\"},{\"id\":\"04e200d7-c191-4b29-9f6f-09c556ff5a97\"},{\"id\":\"4ab9ddff-6edb-44fa-9ed4-2b4fc797c23d\"}]}}";
-    public static final String EMPTY_JOBS_RESPONSE = "{\"data\":{\"Jobs\":[]}}";
+    public static final String PROCESS_INSTANCE_RESPONSE = "{\"data\":{\"ProcessInstancesCount\":5}}";
+    public static final String EMPTY_PROCESS_INSTANCE_RESPONSE = "{\"data\":{\"ProcessInstancesCount\":0}}";
+    public static final String USER_TASK_RESPONSE = "{\"data\":{\"UserTaskInstancesCount\":5}}";
+    public static final String EMPTY_USER_TASK_RESPONSE = "{\"data\":{\"UserTaskInstancesCount\":0}}";
+    public static final String JOBS_RESPONSE = "{\"data\":{\"JobsCount\":5}}";
+    public static final String EMPTY_JOBS_RESPONSE = "{\"data\":{\"JobsCount\":0}}";
 
     @Mock
     private static DataIndexClient dataIndexClient;
@@ -61,25 +58,25 @@ public class DataIndexServiceTest {
 
     @Test
     public void testProcessInstancesCount() {
-        when(dataIndexClient.query(DataIndexService.ALL_PROCESS_INSTANCES_IDS_QUERY)).thenReturn(PROCESS_INSTANCE_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.PROCESS_INSTANCES_COUNT_QUERY)).thenReturn(PROCESS_INSTANCE_RESPONSE);
 
         Response response = dataIndexService.processInstancesCount();
         assertEquals(200, response.getStatus());
-        assertEquals(5, response.getEntity());
+        assertEquals(5L, response.getEntity());
     }
 
     @Test
     public void testEmptyProcessInstancesCount() {
-        when(dataIndexClient.query(DataIndexService.ALL_PROCESS_INSTANCES_IDS_QUERY)).thenReturn(EMPTY_PROCESS_INSTANCE_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.PROCESS_INSTANCES_COUNT_QUERY)).thenReturn(EMPTY_PROCESS_INSTANCE_RESPONSE);
 
         Response response = dataIndexService.processInstancesCount();
         assertEquals(200, response.getStatus());
-        assertEquals(0, response.getEntity());
+        assertEquals(0L, response.getEntity());
     }
 
     @Test
     public void testProcessInstancestCountError() {
-        when(dataIndexClient.query(DataIndexService.ALL_PROCESS_INSTANCES_IDS_QUERY)).thenReturn(ERROR_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.PROCESS_INSTANCES_COUNT_QUERY)).thenReturn(ERROR_RESPONSE);
 
         Response response = dataIndexService.processInstancesCount();
         assertEquals(500, response.getStatus());
@@ -87,25 +84,25 @@ public class DataIndexServiceTest {
 
     @Test
     public void testJobsCount() {
-        when(dataIndexClient.query(DataIndexService.ALL_JOBS_IDS_QUERY)).thenReturn(JOBS_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.JOBS_COUNT_QUERY)).thenReturn(JOBS_RESPONSE);
 
         Response response = dataIndexService.jobsCount();
         assertEquals(200, response.getStatus());
-        assertEquals(5, response.getEntity());
+        assertEquals(5L, response.getEntity());
     }
 
     @Test
     public void testEmptyJobsCount() {
-        when(dataIndexClient.query(DataIndexService.ALL_JOBS_IDS_QUERY)).thenReturn(EMPTY_JOBS_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.JOBS_COUNT_QUERY)).thenReturn(EMPTY_JOBS_RESPONSE);
 
         Response response = dataIndexService.jobsCount();
         assertEquals(200, response.getStatus());
-        assertEquals(0, response.getEntity());
+        assertEquals(0L, response.getEntity());
     }
 
     @Test
     public void testJobsCountError() {
-        when(dataIndexClient.query(DataIndexService.ALL_JOBS_IDS_QUERY)).thenReturn(ERROR_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.JOBS_COUNT_QUERY)).thenReturn(ERROR_RESPONSE);
 
         Response response = dataIndexService.jobsCount();
         assertEquals(500, response.getStatus());
@@ -113,25 +110,25 @@ public class DataIndexServiceTest {
 
     @Test
     public void testTasksCount() {
-        when(dataIndexClient.query(DataIndexService.ALL_TASKS_IDS_QUERY)).thenReturn(USER_TASK_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.TASKS_COUNT_QUERY)).thenReturn(USER_TASK_RESPONSE);
 
         Response response = dataIndexService.tasksCount();
         assertEquals(200, response.getStatus());
-        assertEquals(5, response.getEntity());
+        assertEquals(5L, response.getEntity());
     }
 
     @Test
     public void testEmptyTasksCount() {
-        when(dataIndexClient.query(DataIndexService.ALL_TASKS_IDS_QUERY)).thenReturn(EMPTY_USER_TASK_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.TASKS_COUNT_QUERY)).thenReturn(EMPTY_USER_TASK_RESPONSE);
 
         Response response = dataIndexService.tasksCount();
         assertEquals(200, response.getStatus());
-        assertEquals(0, response.getEntity());
+        assertEquals(0L, response.getEntity());
     }
 
     @Test
     public void testTasksCountError() {
-        when(dataIndexClient.query(DataIndexService.ALL_TASKS_IDS_QUERY)).thenReturn(ERROR_RESPONSE);
+        when(dataIndexClient.query(DataIndexService.TASKS_COUNT_QUERY)).thenReturn(ERROR_RESPONSE);
 
         Response response = dataIndexService.jobsCount();
         assertEquals(500, response.getStatus());